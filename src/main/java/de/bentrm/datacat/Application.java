@@ -6,6 +6,7 @@ import org.springframework.boot.actuate.audit.InMemoryAuditEventRepository;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 import jakarta.validation.Validator;
@@ -15,6 +16,7 @@ import jakarta.validation.Validator;
  */
 @SpringBootApplication
 @ConfigurationPropertiesScan({"de.bentrm.datacat.properties"})
+@EnableScheduling
 public class Application {
 
     public static void main(String[] args) {
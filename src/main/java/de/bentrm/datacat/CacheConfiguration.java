@@ -0,0 +1,74 @@
+package de.bentrm.datacat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import de.bentrm.datacat.auth.service.AuthenticationCacheService;
+import de.bentrm.datacat.auth.service.VerifiedToken;
+import de.bentrm.datacat.catalog.service.ObjectNameCacheService;
+import de.bentrm.datacat.properties.AppProperties;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Registers the Caffeine caches used by the application.
+ * Each cache records statistics that are exposed as cache metrics via actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> caffeineCacheManagerCustomizer(AppProperties properties) {
+        final AppProperties.CacheProperties cache = properties.getCache();
+        return cacheManager -> {
+            cacheManager.registerCustomCache(ObjectNameCacheService.CACHE_NAME,
+                    Caffeine.newBuilder()
+                            .maximumSize(cache.getNamesMaximumSize())
+                            .expireAfterWrite(cache.getNamesTimeToLive())
+                            .recordStats()
+                            .build());
+            cacheManager.registerCustomCache(AuthenticationCacheService.CACHE_NAME,
+                    Caffeine.newBuilder()
+                            .maximumSize(cache.getTokensMaximumSize())
+                            .expireAfter(new TokenExpiry(cache.getTokensTimeToLive()))
+                            .recordStats()
+                            .build());
+        };
+    }
+
+    /**
+     * Expires a verified token at the end of its validity, but no later than
+     * the configured time to live.
+     */
+    private record TokenExpiry(Duration timeToLive) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            Duration duration = timeToLive;
+            if (value instanceof VerifiedToken token && token.expiresAt() != null) {
+                final Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+                duration = remaining.isNegative() ? Duration.ZERO : remaining;
+                if (duration.compareTo(timeToLive) > 0) {
+                    duration = timeToLive;
+                }
+            }
+            return duration.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,16 +1,15 @@
 package de.bentrm.datacat;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -18,113 +17,155 @@ import org.springframework.core.io.support.ResourcePatternUtils;
 import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
 import de.bentrm.datacat.base.domain.Migration;
 import de.bentrm.datacat.base.repository.MigrationRepository;
-import jakarta.validation.constraints.NotNull;
+import de.bentrm.datacat.properties.AppProperties;
+import de.bentrm.datacat.util.CypherScriptUtils;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Custom migration service that checks for CQL-migrations on the classpath.
- * Migrations are run ordered by file name. After successful application of a
- * migration to the current database, the ID is logged as a @{@link Migration}
- * entity.
+ * Migrations are run ordered by file name. The statements of a migration are
+ * committed in batches of {@code datacat.migrations.batch-size} statements,
+ * by default each migration is applied in a single transaction. Index and
+ * constraint statements are committed on their own. The progress is logged
+ * in a @{@link Migration} entity with each batch, so a migration interrupted
+ * by a restart continues with its first uncommitted statement.
  */
 @Slf4j
 @Service
-public class DataStoreMigrationService implements ApplicationRunner, ResourceLoaderAware {
+public class DataStoreMigrationService implements ResourceLoaderAware {
 
     private final String MIGRATIONS_RESOURCE_PATTERN = "classpath:migrations/*.cql";
 
     private final MigrationRepository migrationRepository;
     private final Neo4jClient neo4jClient;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties.MigrationProperties properties;
     private ResourceLoader resourceLoader;
 
-    public DataStoreMigrationService(MigrationRepository migrationRepository, Neo4jClient neo4jClient) {
+    public DataStoreMigrationService(MigrationRepository migrationRepository, Neo4jClient neo4jClient,
+                                     PlatformTransactionManager transactionManager, AppProperties properties) {
         this.migrationRepository = migrationRepository;
         this.neo4jClient = neo4jClient;
-    }
-
-    @Override
-    public synchronized void run(ApplicationArguments args) throws Exception {
-        log.info("Starting database migration (synchronized execution)...");
-        importMigrationFixtures();
-        runMigrations();
-        log.info("Database migration completed.");
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties.getMigrations();
     }
 
     /**
-     * Finds and executes all migrations on the classpath.
+     * Applies all outstanding migrations. Called by the {@link StartupOrchestrator}.
      */
-    @Transactional
-    private void importMigrationFixtures() throws IOException {
+    public synchronized void migrate() throws IOException {
+        log.info("Starting database migration (synchronized execution)...");
+        final long startTime = System.currentTimeMillis();
         final Resource[] resources = ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
                 .getResources(MIGRATIONS_RESOURCE_PATTERN);
+        Arrays.sort(resources, Comparator.comparing(Resource::getFilename,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
 
-        log.info("Importing migration resources...");
+        final Map<String, Long> durations = new LinkedHashMap<>();
         for (Resource resource : resources) {
             final String filename = resource.getFilename();
             Assert.notNull(filename, "Filename of migration may not be null");
 
-            @NotNull
-            final Optional<Migration> optionalMigration = migrationRepository.findByIdWithDirectRelations(filename);
-            if (optionalMigration.isPresent()) {
-                // log.info("Skipping already imported migration: {}", filename);
-                continue;
+            final List<String> commands = CypherScriptUtils.splitStatements(
+                    resource.getContentAsString(StandardCharsets.UTF_8));
+            final long migrationStartTime = System.currentTimeMillis();
+            if (migrate(filename, commands)) {
+                durations.put(filename, System.currentTimeMillis() - migrationStartTime);
             }
+        }
+        log.info("Database migration completed in {}ms, applied migrations: {}",
+                System.currentTimeMillis() - startTime, durations.isEmpty() ? "none" : durations);
+    }
 
-            // log.info("Importing new migration resource...");
-            final InputStream inputStream = resource.getInputStream();
-            final InputStreamReader inputStreamReader = new InputStreamReader(inputStream);
-            final BufferedReader bufferedReader = new BufferedReader(inputStreamReader);
+    /**
+     * Applies the outstanding commands of the given migration.
+     *
+     * @return False if the migration had already been applied.
+     */
+    private boolean migrate(String id, List<String> commands) {
+        final List<String> checksums = commands.stream().map(CypherScriptUtils::checksum).toList();
+        Migration migration = migrationRepository.findByIdWithDirectRelations(id).orElseGet(() -> {
+            final Migration newMigration = new Migration();
+            newMigration.setId(id);
+            return newMigration;
+        });
+
+        if (migration.getAppliedAt() != null) {
+            if (migration.getChecksums() != null && !migration.getChecksums().equals(checksums)) {
+                log.warn("Migration {} has been changed after it was applied, the changes are ignored.", id);
+            }
+            return false;
+        }
 
-            List<String> commands = new ArrayList<>();
-            StringBuilder commandBuilder = new StringBuilder();
+        int appliedCommands = Objects.requireNonNullElse(migration.getAppliedCommands(), 0);
+        if (appliedCommands > 0) {
+            if (appliedCommands > checksums.size()
+                    || !checksums.subList(0, appliedCommands).equals(migration.getChecksums().subList(0, appliedCommands))) {
+                throw new IllegalStateException("Migration " + id + " has been changed after "
+                        + appliedCommands + " of its commands were applied.");
+            }
+            log.info("Resuming migration with id {} at command {} of {}", id, appliedCommands + 1, commands.size());
+        } else {
+            log.info("Applying migration with id {} ({} commands)", id, commands.size());
+        }
+        migration.setCommands(commands);
+        migration.setChecksums(checksums);
+
+        final long previousDuration = Objects.requireNonNullElse(migration.getDurationMillis(), 0L);
+        final long startTime = System.currentTimeMillis();
+        do {
+            final int from = appliedCommands;
+            final int to = findBatchEnd(commands, from);
+            final List<String> batch = commands.subList(from, to);
+            final boolean schemaChange = batch.size() == 1 && CypherScriptUtils.isSchemaStatement(batch.get(0));
+            if (schemaChange) {
+                transactionTemplate.executeWithoutResult(status -> neo4jClient.query(batch.get(0)).run());
+            }
 
-            bufferedReader.lines().forEach(line -> {
-                commandBuilder.append(line).append(" ");
-                if (line.trim().endsWith(";")) {
-                    commands.add(commandBuilder.toString().trim());
-                    commandBuilder.setLength(0); // Reset the StringBuilder for the next command
+            migration.setAppliedCommands(to);
+            migration.setDurationMillis(previousDuration + System.currentTimeMillis() - startTime);
+            if (to == commands.size()) {
+                migration.setAppliedAt(Instant.now());
+            }
+            final Migration progress = migration;
+            migration = transactionTemplate.execute(status -> {
+                if (!schemaChange) {
+                    batch.forEach(command -> neo4jClient.query(command).run());
                 }
+                return migrationRepository.save(progress);
             });
+            appliedCommands = to;
+            log.debug("Applied commands {} to {} of migration {}", from + 1, to, id);
+        } while (appliedCommands < commands.size());
 
-            // Add any remaining command that doesn't end with a semicolon
-            if (commandBuilder.length() > 0) {
-                commands.add(commandBuilder.toString().trim());
-            }
-            Migration newMigration = new Migration();
-            newMigration.setId(filename);
-            newMigration.setCommands(commands);
-            newMigration = migrationRepository.save(newMigration);
-            log.info("Imported new migration resource {}", newMigration.getId());
-        }
-        log.info("Finished importing migration resources.");
+        log.info("Applied migration with id {} in {}ms", id, System.currentTimeMillis() - startTime);
+        return true;
     }
 
-    @Transactional
-    private void runMigrations() {
-        final Iterable<Migration> migrations = migrationRepository.findAllMigrationsOrderedById();
-
-        log.info("Starting execution of graph schema migration.");
-        for (Migration migration : migrations) {
-            if (migration.getAppliedAt() == null) {
-                log.info("Applying migration with id {}", migration.getId());
-                for (String command : migration.getCommands()) {
-                    // log.info("Running migration command: {}", command);
-                    neo4jClient.query(command).run();
-                    migration.setAppliedAt(Instant.now());
-                    migrationRepository.save(migration);
-
-                    log.info("Applied migration command: {}", command);
-                }
-            } else {
-                // log.info("Skipping already applied migration with id {}", migration.getId());
-            }
+    /**
+     * Index and constraint commands can't share a transaction with data
+     * changes and are therefore always applied alone.
+     *
+     * @return The exclusive end index of the batch starting at the given command.
+     */
+    private int findBatchEnd(List<String> commands, int from) {
+        if (from == commands.size() || CypherScriptUtils.isSchemaStatement(commands.get(from))) {
+            return Math.min(from + 1, commands.size());
+        }
+        final int batchSize = properties.getBatchSize();
+        int to = from;
+        while (to < commands.size()
+                && (batchSize == 0 || to - from < batchSize)
+                && !CypherScriptUtils.isSchemaStatement(commands.get(to))) {
+            to++;
         }
-        log.info("Finished execution of graph schema migration.");
+        return to;
     }
 
     @Override
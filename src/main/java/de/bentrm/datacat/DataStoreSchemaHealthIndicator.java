@@ -0,0 +1,33 @@
+package de.bentrm.datacat;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reports the state of the indexes and constraints declared by the
+ * {@link DataStoreSchemaService}. Missing indexes slow the queries down but
+ * don't break them, the indicator therefore reports an unknown state
+ * instead of taking the application down. The details list the state of
+ * each index.
+ */
+@Component
+public class DataStoreSchemaHealthIndicator implements HealthIndicator {
+
+    private final DataStoreSchemaService schemaService;
+
+    public DataStoreSchemaHealthIndicator(DataStoreSchemaService schemaService) {
+        this.schemaService = schemaService;
+    }
+
+    @Override
+    public Health health() {
+        final Map<String, String> states = schemaService.getRequirementStates();
+        final Health.Builder builder = states.values().stream().allMatch("ONLINE"::equals)
+                ? Health.up()
+                : Health.unknown();
+        return builder.withDetails(states).build();
+    }
+}
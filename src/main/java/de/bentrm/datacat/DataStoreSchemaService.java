@@ -0,0 +1,147 @@
+package de.bentrm.datacat;
+
+import de.bentrm.datacat.catalog.domain.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declares the indexes and uniqueness constraints the queries of the
+ * application depend on. The schema is provisioned on startup by the
+ * {@link StartupOrchestrator} before the migrations are applied. A
+ * requirement that can't be created, e.g. a uniqueness constraint violated
+ * by duplicate ids, is logged and reported as missing by the
+ * {@link DataStoreSchemaHealthIndicator}.
+ */
+@Slf4j
+@Service
+public class DataStoreSchemaService {
+
+    /**
+     * Every entity carries the {@code Entity} label, lookups by id via the
+     * labels of the domain classes are backed by range indexes.
+     */
+    public static final List<SchemaRequirement> REQUIREMENTS = List.of(
+            SchemaRequirement.uniqueConstraint("entity_id_unique", "Entity", "id"),
+            SchemaRequirement.uniqueConstraint("user_username_unique", "User", "username"),
+            SchemaRequirement.rangeIndex("xtd_root_id", XtdRoot.LABEL, "id"),
+            SchemaRequirement.rangeIndex("catalog_record_id", CatalogRecord.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_object_id", XtdObject.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_concept_id", XtdConcept.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_subject_id", XtdSubject.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_property_id", XtdProperty.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_value_list_id", XtdValueList.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_value_id", XtdValue.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_ordered_value_id", XtdOrderedValue.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_symbol_id", XtdSymbol.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_multi_language_text_id", XtdMultiLanguageText.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_text_id", XtdText.LABEL, "id"),
+            SchemaRequirement.rangeIndex("xtd_language_code", XtdLanguage.LABEL, "code"),
+            SchemaRequirement.rangeIndex("xtd_country_code", XtdCountry.LABEL, "code"),
+            SchemaRequirement.rangeIndex("tag_name", "Tag", "name"),
+            SchemaRequirement.rangeIndex("audit_event_timestamp", "AuditEvent", "timestamp"));
+
+    private static final String SHOW_INDEXES_QUERY = """
+            SHOW INDEXES YIELD type, entityType, labelsOrTypes, properties, state, owningConstraint
+            WHERE entityType = 'NODE' AND type IN ['RANGE', 'BTREE'] AND size(properties) = 1
+            RETURN labelsOrTypes[0] AS label, properties[0] AS property, state,
+                   owningConstraint IS NOT NULL AS unique""";
+
+    private static final Duration INDEX_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private static final String POPULATING_INDEXES_QUERY =
+            "SHOW INDEXES YIELD name, state WHERE state = 'POPULATING' RETURN name";
+
+    private final Neo4jClient neo4jClient;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public DataStoreSchemaService(Neo4jClient neo4jClient, PlatformTransactionManager transactionManager) {
+        this.neo4jClient = neo4jClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Creates the missing indexes and constraints. Called by the {@link StartupOrchestrator}.
+     */
+    public void provision() {
+        final long startTime = System.currentTimeMillis();
+        for (SchemaRequirement requirement : REQUIREMENTS) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        neo4jClient.query(requirement.getCreateStatement()).run());
+            } catch (RuntimeException e) {
+                log.warn("Could not create {}: {}", requirement.name(), e.getMessage());
+            }
+        }
+
+        final Map<String, String> missing = getMissingRequirements();
+        if (missing.isEmpty()) {
+            log.info("Database schema provisioned in {}ms", System.currentTimeMillis() - startTime);
+        } else {
+            log.warn("Database schema provisioned in {}ms, missing or not yet online: {}",
+                    System.currentTimeMillis() - startTime, missing);
+        }
+    }
+
+    /**
+     * @return The state of each requirement by its name, MISSING if no
+     * matching index exists or e.g. ONLINE or POPULATING as reported by
+     * the database.
+     */
+    public Map<String, String> getRequirementStates() {
+        final Collection<Map<String, Object>> indexes = neo4jClient.query(SHOW_INDEXES_QUERY).fetch().all();
+        final Map<String, String> states = new LinkedHashMap<>();
+        for (SchemaRequirement requirement : REQUIREMENTS) {
+            final String state = indexes.stream()
+                    .filter(index -> requirement.label().equals(index.get("label"))
+                            && requirement.property().equals(index.get("property"))
+                            && (!requirement.unique() || Boolean.TRUE.equals(index.get("unique"))))
+                    .map(index -> String.valueOf(index.get("state")))
+                    .findFirst()
+                    .orElse("MISSING");
+            states.put(requirement.name(), state);
+        }
+        return states;
+    }
+
+    /**
+     * Waits until no index of the database is populating anymore. Indexes
+     * that are still populating at the deadline merely slow the queries
+     * down, the wait therefore ends without failure.
+     * @return The names of the indexes that are still populating, empty if all of them are online.
+     */
+    public Collection<String> awaitIndexes(Duration timeout) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeout.toMillis();
+        Collection<String> populating = getPopulatingIndexes();
+        while (!populating.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(INDEX_POLL_INTERVAL.toMillis());
+            populating = getPopulatingIndexes();
+        }
+        return populating;
+    }
+
+    private Collection<String> getPopulatingIndexes() {
+        return neo4jClient.query(POPULATING_INDEXES_QUERY)
+                .fetchAs(String.class)
+                .mappedBy((typeSystem, record) -> record.get("name").asString())
+                .all();
+    }
+
+    /**
+     * @return The state of the requirements that are not online by their name.
+     */
+    public Map<String, String> getMissingRequirements() {
+        final Map<String, String> missing = new LinkedHashMap<>(getRequirementStates());
+        missing.values().removeIf("ONLINE"::equals);
+        return missing;
+    }
+}
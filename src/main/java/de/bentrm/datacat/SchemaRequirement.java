@@ -0,0 +1,33 @@
+package de.bentrm.datacat;
+
+/**
+ * An index or uniqueness constraint on a single node property the queries
+ * of the application depend on, see {@link DataStoreSchemaService}.
+ *
+ * @param name     The name of the index or constraint.
+ * @param label    The label of the indexed nodes.
+ * @param property The indexed property.
+ * @param unique   True for a uniqueness constraint, false for a range index.
+ */
+public record SchemaRequirement(String name, String label, String property, boolean unique) {
+
+    public static SchemaRequirement uniqueConstraint(String name, String label, String property) {
+        return new SchemaRequirement(name, label, property, true);
+    }
+
+    public static SchemaRequirement rangeIndex(String name, String label, String property) {
+        return new SchemaRequirement(name, label, property, false);
+    }
+
+    /**
+     * @return The statement creating the index or constraint unless an
+     * equivalent one exists.
+     */
+    public String getCreateStatement() {
+        final String pattern = "FOR (n:`" + label + "`)";
+        final String property = "n.`" + this.property + "`";
+        return unique
+                ? "CREATE CONSTRAINT " + name + " IF NOT EXISTS " + pattern + " REQUIRE " + property + " IS UNIQUE"
+                : "CREATE INDEX " + name + " IF NOT EXISTS " + pattern + " ON (" + property + ")";
+    }
+}
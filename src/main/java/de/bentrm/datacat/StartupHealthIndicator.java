@@ -0,0 +1,33 @@
+package de.bentrm.datacat;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the progress of the {@link StartupOrchestrator}. The indicator is
+ * part of the readiness group and is out of service until all required
+ * startup tasks have completed. The details list the startup timeline.
+ */
+@Component
+public class StartupHealthIndicator implements HealthIndicator {
+
+    private final StartupOrchestrator orchestrator;
+
+    public StartupHealthIndicator(StartupOrchestrator orchestrator) {
+        this.orchestrator = orchestrator;
+    }
+
+    @Override
+    public Health health() {
+        final Health.Builder builder = switch (orchestrator.getState()) {
+            case COMPLETED -> Health.up();
+            case FAILED -> Health.down();
+            default -> Health.outOfService();
+        };
+        for (StartupTask task : orchestrator.getTimeline()) {
+            builder.withDetail(task.name(), task);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,215 @@
+package de.bentrm.datacat;
+
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
+import de.bentrm.datacat.catalog.domain.*;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import de.bentrm.datacat.catalog.service.ReferenceDataService;
+import de.bentrm.datacat.catalog.service.VerificationReportService;
+import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
+import graphql.schema.PropertyDataFetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the startup work in the background so the web server starts right
+ * away. The indexes and constraints declared by the
+ * {@link DataStoreSchemaService} are created first, followed by the
+ * database migrations. The index check and the warm-up of the in-memory
+ * state run concurrently once the migrations are applied. Tasks marked
+ * as required gate the readiness of the application, see
+ * {@link StartupHealthIndicator}. A failed required task marks the
+ * application as broken. The timeline of all tasks is logged once all of
+ * them have completed.
+ */
+@Slf4j
+@Component
+public class StartupOrchestrator implements ApplicationRunner {
+
+    /**
+     * Maximum time the warm-up waits for populating indexes.
+     */
+    private static final Duration AWAIT_INDEXES_TIMEOUT = Duration.ofMinutes(5);
+
+    /**
+     * Labels of the list queries run to warm up the query plan and page caches.
+     */
+    private static final List<String> WARM_UP_LABELS = List.of(
+            XtdRoot.LABEL, XtdSubject.LABEL, XtdProperty.LABEL, XtdValueList.LABEL, XtdUnit.LABEL,
+            XtdDictionary.LABEL);
+
+    private final DataStoreSchemaService schemaService;
+
+    private final DataStoreMigrationService migrationService;
+
+    private final ReferenceDataService referenceDataService;
+
+    private final CatalogStatisticsService statisticsService;
+
+    private final HierarchyIndexService hierarchyIndexService;
+
+    private final VerificationReportService verificationReportService;
+
+    private final SpecificationQueryExecutor queryExecutor;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, StartupTask> tasks = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private volatile long startTime;
+
+    public StartupOrchestrator(DataStoreSchemaService schemaService, DataStoreMigrationService migrationService,
+                               ReferenceDataService referenceDataService,
+                               CatalogStatisticsService statisticsService,
+                               HierarchyIndexService hierarchyIndexService,
+                               VerificationReportService verificationReportService,
+                               SpecificationQueryExecutor queryExecutor, ApplicationEventPublisher eventPublisher) {
+        this.schemaService = schemaService;
+        this.migrationService = migrationService;
+        this.referenceDataService = referenceDataService;
+        this.statisticsService = statisticsService;
+        this.hierarchyIndexService = hierarchyIndexService;
+        this.verificationReportService = verificationReportService;
+        this.queryExecutor = queryExecutor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        startTime = System.currentTimeMillis();
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        final CompletableFuture<Void> graphQlCache = submit(executor, "graphql-reflection-cache", false,
+                PropertyDataFetcher::clearReflectionCache);
+        final CompletableFuture<Void> schema = submit(executor, "schema", true,
+                schemaService::provision);
+        final CompletableFuture<Void> migrations = submit(executor, "migrations", true,
+                migrationService::migrate, schema);
+        // Populating indexes are reported by the schema health indicator and never fail the startup
+        final CompletableFuture<Void> indexes = submit(executor, "indexes", false,
+                this::awaitIndexes, migrations);
+        final CompletableFuture<Void> referenceData = submit(executor, "reference-data", true,
+                referenceDataService::load, migrations);
+        final CompletableFuture<Void> statistics = submit(executor, "statistics", true,
+                statisticsService::reconcile, migrations);
+        // Looking up no paths builds the index
+        final CompletableFuture<Void> hierarchyIndex = submit(executor, "hierarchy-index", false,
+                () -> hierarchyIndexService.findPaths(List.of()), migrations);
+        final CompletableFuture<Void> queryPlans = submit(executor, "query-plans", false,
+                this::warmUpQueries, indexes);
+        final CompletableFuture<Void> verificationReports = submit(executor, "verification-reports", false,
+                verificationReportService::verifyAll, indexes);
+
+        CompletableFuture.allOf(graphQlCache, schema, migrations, indexes, referenceData, statistics, hierarchyIndex,
+                        queryPlans, verificationReports)
+                .whenComplete((result, error) -> {
+                    executor.shutdown();
+                    logTimeline();
+                    if (getState() == StartupTask.Status.FAILED) {
+                        AvailabilityChangeEvent.publish(eventPublisher, this, LivenessState.BROKEN);
+                    }
+                });
+    }
+
+    /**
+     * @return {@link StartupTask.Status#COMPLETED} once all required tasks have
+     * completed, {@link StartupTask.Status#FAILED} if one of them failed or
+     * could not run and {@link StartupTask.Status#RUNNING} otherwise.
+     */
+    public StartupTask.Status getState() {
+        final List<StartupTask> required = getTimeline().stream().filter(StartupTask::required).toList();
+        if (required.isEmpty()) {
+            return StartupTask.Status.PENDING;
+        } else if (required.stream().anyMatch(task -> task.status() == StartupTask.Status.FAILED
+                || task.status() == StartupTask.Status.SKIPPED)) {
+            return StartupTask.Status.FAILED;
+        } else if (required.stream().allMatch(task -> task.status() == StartupTask.Status.COMPLETED)) {
+            return StartupTask.Status.COMPLETED;
+        }
+        return StartupTask.Status.RUNNING;
+    }
+
+    /**
+     * @return The startup tasks in order of submission.
+     */
+    public List<StartupTask> getTimeline() {
+        synchronized (tasks) {
+            return List.copyOf(tasks.values());
+        }
+    }
+
+    /**
+     * Runs the given action once all dependencies completed successfully.
+     * The action is skipped if one of them failed.
+     */
+    private CompletableFuture<Void> submit(ExecutorService executor, String name, boolean required,
+                                           StartupAction action, CompletableFuture<?>... dependencies) {
+        tasks.put(name, StartupTask.pending(name, required));
+        return CompletableFuture.allOf(dependencies)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        tasks.computeIfPresent(name, (key, task) -> task.skipped());
+                    }
+                })
+                .thenRunAsync(() -> {
+                    final long taskStartTime = System.currentTimeMillis();
+                    tasks.computeIfPresent(name, (key, task) -> task.running(taskStartTime - startTime));
+                    try {
+                        action.run();
+                        tasks.computeIfPresent(name, (key, task) ->
+                                task.completed(System.currentTimeMillis() - taskStartTime));
+                    } catch (Exception e) {
+                        log.error("Startup task {} failed", name, e);
+                        tasks.computeIfPresent(name, (key, task) ->
+                                task.failed(System.currentTimeMillis() - taskStartTime, e.getMessage()));
+                        throw new CompletionException(e);
+                    }
+                }, executor);
+    }
+
+    private void awaitIndexes() throws InterruptedException {
+        final Collection<String> populating = schemaService.awaitIndexes(AWAIT_INDEXES_TIMEOUT);
+        if (!populating.isEmpty()) {
+            log.warn("Indexes still populating after {}s: {}", AWAIT_INDEXES_TIMEOUT.toSeconds(), populating);
+        }
+    }
+
+    private void warmUpQueries() {
+        final CatalogRecordSpecification specification = CatalogRecordSpecification.builder()
+                .pageNumber(0)
+                .pageSize(10)
+                .build();
+        for (String label : WARM_UP_LABELS) {
+            queryExecutor.findPage(specification, label, XtdRoot.class);
+        }
+    }
+
+    private void logTimeline() {
+        final StringBuilder timeline = new StringBuilder();
+        for (StartupTask task : getTimeline()) {
+            timeline.append(String.format("%n  %-24s %-9s start %6sms, took %6sms%s", task.name(), task.status(),
+                    task.startMillis() != null ? task.startMillis() : "-",
+                    task.durationMillis() != null ? task.durationMillis() : "-",
+                    task.error() != null ? ", " + task.error() : ""));
+        }
+        log.info("Startup tasks finished in {}ms with state {}:{}", System.currentTimeMillis() - startTime,
+                getState(), timeline);
+    }
+
+    @FunctionalInterface
+    private interface StartupAction {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,39 @@
+package de.bentrm.datacat;
+
+/**
+ * State of a single task run by the {@link StartupOrchestrator}.
+ *
+ * @param name           The name of the task.
+ * @param required       True if the application is not ready before the task completed.
+ * @param status         The current status.
+ * @param startMillis    The start of the task relative to the start of the orchestrator.
+ * @param durationMillis The time the task took.
+ * @param error          The message of the failure, if any.
+ */
+public record StartupTask(String name, boolean required, Status status, Long startMillis, Long durationMillis,
+                          String error) {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED, SKIPPED
+    }
+
+    public static StartupTask pending(String name, boolean required) {
+        return new StartupTask(name, required, Status.PENDING, null, null, null);
+    }
+
+    public StartupTask running(long startMillis) {
+        return new StartupTask(name, required, Status.RUNNING, startMillis, null, null);
+    }
+
+    public StartupTask completed(long durationMillis) {
+        return new StartupTask(name, required, Status.COMPLETED, startMillis, durationMillis, null);
+    }
+
+    public StartupTask failed(long durationMillis, String error) {
+        return new StartupTask(name, required, Status.FAILED, startMillis, durationMillis, error);
+    }
+
+    public StartupTask skipped() {
+        return new StartupTask(name, required, Status.SKIPPED, null, null, null);
+    }
+}
@@ -1,35 +1,34 @@
 package de.bentrm.datacat.auth;
 
-import jakarta.validation.constraints.NotNull;
-import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
-import org.springframework.context.ApplicationEventPublisher;
+import de.bentrm.datacat.auth.service.AuditLogService;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.neo4j.core.mapping.callback.BeforeBindCallback;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import de.bentrm.datacat.base.domain.Entity;
 
+/**
+ * Records an audit event for every entity that is about to be persisted.
+ * Only the type and id of the entity are recorded, the event is written
+ * asynchronously by the {@link AuditLogService}.
+ */
 @Component
 public class AuditingEventListener implements BeforeBindCallback<Entity> {
 
-    private final ApplicationEventPublisher publisher;
+    private static final String BEFORE_BIND = "BEFORE_BIND";
+
+    private final AuditLogService auditLogService;
     private final AuditorAware<String> principle;
 
-    public AuditingEventListener(ApplicationEventPublisher publisher, AuditorAware<String> principle) {
-        this.publisher = publisher;
+    public AuditingEventListener(AuditLogService auditLogService, AuditorAware<String> principle) {
+        this.auditLogService = auditLogService;
         this.principle = principle;
     }
 
     @Override
     public @NonNull Entity onBeforeBind(@NonNull Entity entity) {
-        publisher.publishEvent(toAuditEvent("BEFORE_BIND", entity));
-        return entity;
-    }
-
-    @NotNull
-    private AuditApplicationEvent toAuditEvent(String lifecycle, Entity entity) {
         final String auditor = principle.getCurrentAuditor().orElse("SYSTEM");
-        final String serialization = entity.toString();
-        return new AuditApplicationEvent(auditor, lifecycle, serialization);
+        auditLogService.record(auditor, BEFORE_BIND, entity.getClass().getSimpleName(), entity.getId());
+        return entity;
     }
 }
@@ -37,8 +37,11 @@ public class SecurityConfiguration {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(management -> management.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(requests -> requests
-                .requestMatchers("/actuator/**").permitAll()
-                .requestMatchers("/graphql").permitAll())
+                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                .requestMatchers("/graphql").permitAll()
+                .requestMatchers("/export/**").hasRole("READONLY")
+                .requestMatchers("/import/**").hasRole("USER"))
                 // Eigener JWT-Filter für legacy Tokens (läuft vor OAuth2)
                 .addFilterBefore(jwtFilter, RequestHeaderAuthenticationFilter.class)
                 // OAuth2 Resource Server für Keycloak JWT-Tokens (nur wenn JwtFilter keine Auth gesetzt hat)
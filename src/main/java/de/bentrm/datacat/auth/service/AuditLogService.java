@@ -0,0 +1,20 @@
+package de.bentrm.datacat.auth.service;
+
+/**
+ * Internal utility service that records audit events off the calling
+ * thread. Events are buffered in a bounded queue and written in batches,
+ * so auditing never stalls writes. If the buffer is full, new events are
+ * dropped and counted.
+ */
+public interface AuditLogService {
+
+    /**
+     * Enqueues an audit event. Never blocks.
+     * @param principal The user that caused the event.
+     * @param type The type of the event, e.g. BEFORE_BIND.
+     * @param entityType The type of the affected entity.
+     * @param entityId The id of the affected entity, may be null.
+     * @return false if the event has been dropped.
+     */
+    boolean record(String principal, String type, String entityType, String entityId);
+}
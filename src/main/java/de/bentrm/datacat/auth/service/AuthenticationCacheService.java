@@ -0,0 +1,31 @@
+package de.bentrm.datacat.auth.service;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * Internal utility service that caches the outcome of the verification of
+ * JWT tokens, so a token is verified and its account looked up only once
+ * instead of on every request. Entries expire together with their token.
+ */
+public interface AuthenticationCacheService {
+
+    String CACHE_NAME = "authentications";
+
+    /**
+     * Looks up the verification of the given token and verifies it if it is not cached.
+     * @param token The raw JWT token.
+     * @param verifier Verifies a token that is not cached.
+     * @return The cached or new verification.
+     */
+    @NotNull VerifiedToken get(@NotNull String token, @NotNull Function<String, VerifiedToken> verifier);
+
+    /**
+     * Removes all cached tokens of the given account, e.g. after it has been
+     * locked or its roles have changed. Within a transaction the entries are
+     * removed once it has been committed.
+     * @param username The name of the changed account.
+     */
+    void evict(String username);
+}
@@ -0,0 +1,27 @@
+package de.bentrm.datacat.auth.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The outcome of the verification of a JWT token as kept by the
+ * {@link AuthenticationCacheService}.
+ * @param username The subject of the token, null if the token could not be decoded.
+ * @param roles The roles claimed by the token.
+ * @param expiresAt The expiry of the token, null if it does not expire.
+ * @param rejection The reason the token has been rejected, null for accepted tokens.
+ */
+public record VerifiedToken(String username, List<String> roles, Instant expiresAt, String rejection) {
+
+    public static VerifiedToken accepted(String username, List<String> roles, Instant expiresAt) {
+        return new VerifiedToken(username, List.copyOf(roles), expiresAt, null);
+    }
+
+    public static VerifiedToken rejected(String username, Instant expiresAt, String rejection) {
+        return new VerifiedToken(username, List.of(), expiresAt, rejection);
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+}
@@ -5,20 +5,19 @@ import de.bentrm.datacat.auth.domain.Role;
 import de.bentrm.datacat.auth.domain.User;
 import de.bentrm.datacat.auth.service.AccountStatus;
 import de.bentrm.datacat.auth.service.AdminService;
+import de.bentrm.datacat.auth.service.AuthenticationCacheService;
 import de.bentrm.datacat.auth.service.EmailService;
 import de.bentrm.datacat.auth.service.dto.AccountDto;
 import de.bentrm.datacat.auth.service.dto.AccountUpdateDto;
 import de.bentrm.datacat.auth.specification.UserSpecification;
 import de.bentrm.datacat.base.repository.EmailConfirmationRepository;
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
 import de.bentrm.datacat.base.repository.UserRepository;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.service.impl.AbstractQueryServiceImpl;
 import de.bentrm.datacat.catalog.service.value.ValueMapper;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -26,12 +25,8 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 
@@ -43,16 +38,20 @@ public class AdminServiceImpl extends AbstractQueryServiceImpl<User, UserReposit
     private final EmailConfirmationRepository emailConfirmationRepository;
     private final EmailService emailService;
     private final ValueMapper valueMapper;
+    private final AuthenticationCacheService authenticationCacheService;
 
     public AdminServiceImpl(Neo4jTemplate neo4jTemplate,
                             UserRepository repository,
                             EmailConfirmationRepository emailConfirmationRepository,
                             EmailService emailService,
-                            ValueMapper valueMapper) {
-        super(User.class, neo4jTemplate, repository);
+                            ValueMapper valueMapper,
+                            AuthenticationCacheService authenticationCacheService,
+                            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(User.class, neo4jTemplate, repository, queryExecutor, projectionLoader);
         this.emailConfirmationRepository = emailConfirmationRepository;
         this.emailService = emailService;
         this.valueMapper = valueMapper;
+        this.authenticationCacheService = authenticationCacheService;
     }
 
 
@@ -101,6 +100,7 @@ public class AdminServiceImpl extends AbstractQueryServiceImpl<User, UserReposit
         };
         user.setRoles(newRoles);
         user = getRepository().save(user);
+        authenticationCacheService.evict(username);
 
         return valueMapper.toAccountDto(user);
     }
@@ -121,6 +121,7 @@ public class AdminServiceImpl extends AbstractQueryServiceImpl<User, UserReposit
         User user = findByUsername(username);
         user.setLocked(locked);
         user = getRepository().save(user);
+        authenticationCacheService.evict(username);
         final AccountDto accountDto = valueMapper.toAccountDto(user);
         return Optional.of(accountDto);
     }
@@ -141,6 +142,7 @@ public class AdminServiceImpl extends AbstractQueryServiceImpl<User, UserReposit
     public Optional<AccountDto> deleteAccount(@NotBlank String username) {
         final User user = findByUsername(username);
         getRepository().delete(user);
+        authenticationCacheService.evict(username);
         final AccountDto accountDto = valueMapper.toAccountDto(user);
         return Optional.of(accountDto);
     }
@@ -154,66 +156,11 @@ public class AdminServiceImpl extends AbstractQueryServiceImpl<User, UserReposit
 
     @Override
     public Long countAccounts(@NotNull UserSpecification specification) {
-        String query;
-        if (specification.getFilters().isEmpty()) {
-            query = "MATCH (n:User) RETURN count(n)";
-        } else {
-            String whereClause = "WHERE " + String.join(" AND ", specification.getFilters());
-            query = "MATCH (n:User) " + whereClause + " RETURN count(n)";
-        }
-        return neo4jTemplate.count(query);
+        return count(specification);
     }
 
     @Override
     public Page<AccountDto> findAccounts(@NotNull UserSpecification specification) {
-        Collection<User> users;
-        Pageable pageable;
-        final Long count = countAccounts(specification);
-
-        final Optional<Pageable> paged = specification.getPageable();
-        if (paged.isPresent()) {
-            pageable = paged.get();
-            if (pageable.getSort().isUnsorted()) {
-                users = neo4jTemplate.findAll(getQuery(specification, pageable), User.class);
-            } else {
-                final Sort sort = pageable.getSort();
-                final Sort.Direction direction = sort.get().findFirst().map(Sort.Order::getDirection).get();
-                final String[] properties = sort.get().map(Sort.Order::getProperty).toArray(String[]::new);
-                users = neo4jTemplate.findAll(getQuery(specification, pageable, direction, properties), User.class);
-            }
-        } else {
-            pageable = PageRequest.of(0, (int) Math.max(count, 10));
-            users = neo4jTemplate.findAll(getQuery(specification, pageable), User.class);
-        }
-
-        final List<AccountDto> newContent = users.stream()
-                .map(valueMapper::toAccountDto)
-                .collect(Collectors.toList());
-        return PageableExecutionUtils.getPage(newContent, pageable, () -> count);
-    }
-
-    
-    public String getQuery(UserSpecification specification, Pageable pageable) {
-        return (getQuery(specification, pageable, null, null));
-    }
-
-        public String getQuery(UserSpecification specification, Pageable pageable, Sort.Direction direction,
-            String[] properties) {
-        String query;
-        String sort = "";
-        if (direction != null && properties != null) {
-            List<String> prefixedProperties = Arrays.stream(properties)
-                    .map(property -> "n.`" + property + "` " + direction.name()).collect(Collectors.toList());
-            sort = " ORDER BY " + String.join(", ", prefixedProperties);
-        }
-
-        if (specification.getFilters().isEmpty()) {
-            query = "MATCH (n:User)" + sort + " RETURN n";
-        } else {
-            String whereClause = "WHERE " + String.join(" AND ", specification.getFilters());
-            query = "MATCH (n:User) " + whereClause + sort +" RETURN n";
-        }
-        query = query + " SKIP " + pageable.getOffset() + " LIMIT " + pageable.getPageSize();
-        return query;
+        return findAll(specification).map(valueMapper::toAccountDto);
     }
 }
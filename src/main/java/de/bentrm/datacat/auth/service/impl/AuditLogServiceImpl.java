@@ -0,0 +1,187 @@
+package de.bentrm.datacat.auth.service.impl;
+
+import de.bentrm.datacat.auth.service.AuditLogService;
+import de.bentrm.datacat.properties.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.audit.AuditEvent;
+import org.springframework.boot.actuate.audit.AuditEventRepository;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers audit events in a bounded queue that is drained by a single
+ * background thread. Each drained batch is added to the
+ * {@link AuditEventRepository} and appended to the database as
+ * {@code AuditEvent} nodes with a single statement. Persisted events are
+ * deleted once they are older than {@code datacat.audit.retention}.
+ */
+@Slf4j
+@Service
+public class AuditLogServiceImpl implements AuditLogService {
+
+    private static final String WRITE_QUERY = """
+            UNWIND $events AS event
+            CREATE (:AuditEvent {timestamp: event.timestamp, principal: event.principal, type: event.type,
+                entityType: event.entityType, entityId: event.entityId})
+            """;
+
+    private static final String PRUNE_QUERY = """
+            MATCH (e:AuditEvent) WHERE e.timestamp < $cutoff
+            WITH e LIMIT $limit
+            DELETE e
+            RETURN count(*)
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    private final AuditEventRepository auditEventRepository;
+
+    private final AppProperties.AuditProperties properties;
+
+    private final BlockingQueue<AuditRecord> buffer;
+
+    private final Counter acceptedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    public AuditLogServiceImpl(Neo4jClient neo4jClient, AuditEventRepository auditEventRepository,
+                               AppProperties properties, MeterRegistry meterRegistry) {
+        this.neo4jClient = neo4jClient;
+        this.auditEventRepository = auditEventRepository;
+        this.properties = properties.getAudit();
+        this.buffer = new ArrayBlockingQueue<>(this.properties.getBufferSize());
+        this.acceptedCounter = meterRegistry.counter("datacat.audit.events", "result", "accepted");
+        this.droppedCounter = meterRegistry.counter("datacat.audit.events", "result", "dropped");
+        this.failedCounter = meterRegistry.counter("datacat.audit.events", "result", "failed");
+        meterRegistry.gaugeCollectionSize("datacat.audit.buffer", List.of(), buffer);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofVirtual().name("audit-writer").start(this::drain);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Override
+    public boolean record(String principal, String type, String entityType, String entityId) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        final AuditRecord record = new AuditRecord(Instant.now(), principal, type, entityType, entityId);
+        if (buffer.offer(record)) {
+            acceptedCounter.increment();
+            return true;
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    private void drain() {
+        final List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                final AuditRecord first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // Flush what is left on shutdown
+                running = false;
+            } catch (RuntimeException e) {
+                failedCounter.increment(batch.size());
+                log.warn("Failed to write {} audit events: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        batch.forEach(record -> auditEventRepository.add(record.toAuditEvent()));
+        final List<Map<String, Object>> events = batch.stream().map(AuditRecord::toRow).toList();
+        neo4jClient.query(WRITE_QUERY).bind(events).to("events").run();
+        log.trace("Wrote {} audit events", batch.size());
+    }
+
+    /**
+     * Deletes the persisted events past their retention in batches of
+     * {@code datacat.audit.batch-size}.
+     */
+    @Scheduled(fixedDelayString = "${datacat.audit.prune-interval:PT1H}",
+            initialDelayString = "${datacat.audit.prune-interval:PT1H}")
+    public void prune() {
+        final OffsetDateTime cutoff = Instant.now().minus(properties.getRetention()).atOffset(ZoneOffset.UTC);
+        long total = 0;
+        try {
+            long deleted;
+            do {
+                deleted = neo4jClient.query(PRUNE_QUERY)
+                        .bind(cutoff).to("cutoff")
+                        .bind(properties.getBatchSize()).to("limit")
+                        .fetchAs(Long.class)
+                        .one()
+                        .orElse(0L);
+                total += deleted;
+            } while (deleted > 0);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete audit events before {}: {}", cutoff, e.getMessage());
+        }
+        if (total > 0) {
+            log.debug("Deleted {} audit events before {}", total, cutoff);
+        }
+    }
+
+    private record AuditRecord(Instant timestamp, String principal, String type, String entityType,
+                               String entityId) {
+
+        /**
+         * @return The parameters of the event, the entity id may be null.
+         */
+        Map<String, Object> toRow() {
+            final Map<String, Object> row = new HashMap<>();
+            row.put("timestamp", timestamp.atOffset(ZoneOffset.UTC));
+            row.put("principal", principal);
+            row.put("type", type);
+            row.put("entityType", entityType);
+            row.put("entityId", entityId);
+            return row;
+        }
+
+        AuditEvent toAuditEvent() {
+            return new AuditEvent(timestamp, principal, type,
+                    Map.of("entityType", entityType, "entityId", String.valueOf(entityId)));
+        }
+    }
+}
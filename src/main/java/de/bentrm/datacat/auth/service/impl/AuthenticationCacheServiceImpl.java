@@ -0,0 +1,46 @@
+package de.bentrm.datacat.auth.service.impl;
+
+import de.bentrm.datacat.auth.service.AuthenticationCacheService;
+import de.bentrm.datacat.auth.service.VerifiedToken;
+import de.bentrm.datacat.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Objects;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class AuthenticationCacheServiceImpl implements AuthenticationCacheService {
+
+    private final Cache cache;
+
+    public AuthenticationCacheServiceImpl(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "cache " + CACHE_NAME + " is missing");
+    }
+
+    @Override
+    public @NotNull VerifiedToken get(@NotNull String token, @NotNull Function<String, VerifiedToken> verifier) {
+        return Objects.requireNonNull(cache.get(token, () -> verifier.apply(token)));
+    }
+
+    @Override
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> evictNow(username));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictNow(String username) {
+        // Accounts change rarely, so scanning the cache is cheaper than maintaining a second index
+        final var nativeCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        nativeCache.asMap().values().removeIf(value -> value instanceof VerifiedToken verifiedToken
+                && username.equals(verifiedToken.username()));
+        log.debug("Evicted cached tokens of account {}", username);
+    }
+}
@@ -3,6 +3,8 @@ package de.bentrm.datacat.auth.service.impl;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import de.bentrm.datacat.auth.JwtPreAuthenticatedAuthenticationToken;
 import de.bentrm.datacat.auth.JwtUserDetails;
@@ -14,21 +16,24 @@ import de.bentrm.datacat.base.repository.EmailConfirmationRepository;
 import de.bentrm.datacat.base.repository.UserRepository;
 import de.bentrm.datacat.graphql.dto.SignupInput;
 import de.bentrm.datacat.properties.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -41,6 +46,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -54,6 +60,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     public static final String AUTHENTICATION_SUCCESS = "AUTHENTICATION_SUCCESS";
     public static final String AUTHENTICATION_FAILURE = "AUTHENTICATION_FAILURE";
 
+    /**
+     * Timer of the verifications of tokens that are not cached yet.
+     */
+    public static final String TOKEN_VERIFICATION_METRIC = "datacat.auth.token.verification";
+
     @Autowired
     private AppProperties properties;
 
@@ -78,6 +89,12 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Autowired
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Autowired
+    private AuthenticationCacheService authenticationCacheService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     public void signup(SignupInput signupInput) {
         if (userRepository.existsByUsername(signupInput.getUsername())) {
@@ -150,20 +167,23 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         return buildToken(user);
     }
 
+    /**
+     * Authenticates the request by the given token. Verified tokens are
+     * cached, so the signature check and the account lookup only happen on
+     * the first request with a token. No transaction is opened upfront, as
+     * most requests are served from the cache.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void login(@NotBlank String token) {
-        DecodedJWT jwt = jwtVerifier.verify(token);
-        final String username = jwt.getSubject();
-
-        final User user = userRepository
-                .findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("The provided username is unknown."));
-
-        if (user.isLocked()) {
-            throw new LockedException("The account is locked - invalid token.");
+        final VerifiedToken verifiedToken = authenticationCacheService.get(token, this::verify);
+        if (verifiedToken.isRejected()) {
+            throw new BadCredentialsException(verifiedToken.rejection());
         }
 
-        final UserDetails userDetails = new JwtUserDetails(jwt);
+        final List<SimpleGrantedAuthority> authorities = verifiedToken.roles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
         final ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes == null) {
             throw new IllegalStateException("No request attributes found");
@@ -171,12 +191,55 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         final HttpServletRequest request = attributes.getRequest();
         final WebAuthenticationDetails webAuthenticationDetails = new WebAuthenticationDetailsSource().buildDetails(request);
         final var authenticationToken = new JwtPreAuthenticatedAuthenticationToken(
-                userDetails.getUsername(),
-                userDetails.getAuthorities(),
+                verifiedToken.username(),
+                authorities,
                 webAuthenticationDetails);
 
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        applicationEventPublisher.publishEvent(new AuditApplicationEvent(Instant.now(), username, AUTHENTICATION_SUCCESS, new HashMap<>()));
+        applicationEventPublisher.publishEvent(new AuditApplicationEvent(Instant.now(), verifiedToken.username(), AUTHENTICATION_SUCCESS, new HashMap<>()));
+    }
+
+    /**
+     * Verifies the signature of the token and the state of its account.
+     * Rejections are returned instead of thrown, so foreign tokens (e.g.
+     * issued by Keycloak) are not verified again on every request.
+     */
+    private VerifiedToken verify(String token) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            final DecodedJWT jwt;
+            try {
+                jwt = jwtVerifier.verify(token);
+            } catch (JWTVerificationException e) {
+                return VerifiedToken.rejected(null, decodeExpiry(token), "Invalid token.");
+            }
+            final String username = jwt.getSubject();
+            final Instant expiresAt = jwt.getExpiresAtAsInstant();
+
+            final Optional<User> user = userRepository.findByUsername(username);
+            if (user.isEmpty()) {
+                return VerifiedToken.rejected(username, expiresAt, "The provided username is unknown.");
+            }
+            if (user.get().isLocked()) {
+                return VerifiedToken.rejected(username, expiresAt, "The account is locked - invalid token.");
+            }
+
+            final UserDetails userDetails = new JwtUserDetails(jwt);
+            final List<String> roles = userDetails.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList();
+            return VerifiedToken.accepted(username, roles, expiresAt);
+        } finally {
+            sample.stop(meterRegistry.timer(TOKEN_VERIFICATION_METRIC));
+        }
+    }
+
+    private Instant decodeExpiry(String token) {
+        try {
+            return JWT.decode(token).getExpiresAtAsInstant();
+        } catch (JWTDecodeException e) {
+            return null;
+        }
     }
 
     private void publishAuthenticationFailure(String username) {
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -17,8 +18,8 @@ public class UserSpecification extends QuerySpecification {
         return new Builder();
     }
 
-    protected UserSpecification(List<String> filters, Integer pageNumber, Integer pageSize) {
-        super(filters, Sort.Direction.ASC, List.of("username"), pageNumber, pageSize);
+    protected UserSpecification(List<String> filters, Map<String, Object> parameters, Integer pageNumber, Integer pageSize) {
+        super(filters, parameters, Sort.Direction.ASC, List.of("username"), pageNumber, pageSize);
     }
 
     @Slf4j
@@ -37,32 +38,32 @@ public class UserSpecification extends QuerySpecification {
         public Builder query(String query) {
             final Optional<String> regex = sanitizeQueryString(query);
             if (regex.isPresent()) {
-                final String filter = "n.username =~ '.*" + regex.get() + ".*'";
+                final String filter = "n.username =~ " + bind(".*" + regex.get() + ".*");
                 this.filters.add(filter);
             }
             return self();
         }
 
         public Builder expired(final Boolean isExpired) {
-            final String filter = "n.expired = " + isExpired;
+            final String filter = "n.expired = " + bind(isExpired);
             filters.add(filter);
             return this;
         }
 
         public Builder locked(final Boolean isLocked) {
-            final String filter = "n.locked = " + isLocked;
+            final String filter = "n.locked = " + bind(isLocked);
             filters.add(filter);
             return this;
         }
 
         public Builder credentialsExpired(final Boolean isCredentialsExpired) {
-            final String filter = "n.credentialsExpired = " + isCredentialsExpired;
+            final String filter = "n.credentialsExpired = " + bind(isCredentialsExpired);
             filters.add(filter);
             return this;
         }
 
         public UserSpecification build() {
-            return new UserSpecification(this.filters, this.pageNumber, this.pageSize);
+            return new UserSpecification(this.filters, this.parameters, this.pageNumber, this.pageSize);
         }
     }
 }
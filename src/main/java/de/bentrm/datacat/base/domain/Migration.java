@@ -10,7 +10,8 @@ import java.util.List;
 /**
  * The migration entity is used to log the successful application
  * of database migrations. The id of the migration equals the filename of the
- * applied migration file.
+ * applied migration file. The progress of a migration is stored with each
+ * committed batch of statements so interrupted migrations can be resumed.
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -24,4 +25,19 @@ public class Migration extends Entity {
      */
     private List<String> commands;
 
+    /**
+     * The SHA-256 checksums of the commands.
+     */
+    private List<String> checksums;
+
+    /**
+     * The number of commands that have been committed so far.
+     */
+    private Integer appliedCommands;
+
+    /**
+     * The time spent applying the commands.
+     */
+    private Long durationMillis;
+
 }
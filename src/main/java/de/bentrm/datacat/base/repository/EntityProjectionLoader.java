@@ -0,0 +1,91 @@
+package de.bentrm.datacat.base.repository;
+
+import de.bentrm.datacat.base.domain.Entity;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Loads single records together with a chosen subset of their
+ * relationships. Unlike {@link EntityRepository#findByIdWithDirectRelations(String, String)}
+ * a record with thousands of relationships, e.g. a tag or a language, is
+ * loaded without touching the relationships that are not asked for.
+ */
+@Slf4j
+@Component
+public class EntityProjectionLoader {
+
+    private final Neo4jClient neo4jClient;
+
+    private final Neo4jMappingContext mappingContext;
+
+    private final Map<Class<?>, Map<String, List<RelationshipDescription>>> relationships = new ConcurrentHashMap<>();
+
+    public EntityProjectionLoader(Neo4jClient neo4jClient, Neo4jMappingContext mappingContext) {
+        this.neo4jClient = neo4jClient;
+        this.mappingContext = mappingContext;
+    }
+
+    /**
+     * Loads the record with the given id and the relationships of the given
+     * fields. The fields of subclasses of the domain class are considered
+     * as well, names that are no relationship field, e.g. scalar fields of
+     * a GraphQL selection, are ignored.
+     *
+     * @param domainClass The class of the record, the record must carry its primary label.
+     * @param fieldNames  The names of the relationship fields to load.
+     * @return The record or an empty optional if no record of the domain class has the id.
+     */
+    public <T extends Entity> Optional<T> findById(String id, Class<T> domainClass, Collection<String> fieldNames) {
+        final Map<String, List<RelationshipDescription>> candidates =
+                relationships.computeIfAbsent(domainClass, this::resolve);
+        final Set<String> outgoing = new TreeSet<>();
+        final Set<String> incoming = new TreeSet<>();
+        for (String fieldName : fieldNames) {
+            for (RelationshipDescription description : candidates.getOrDefault(fieldName, List.of())) {
+                (description.isOutgoing() ? outgoing : incoming).add(escape(description.getType()));
+            }
+        }
+
+        final String query = "MATCH (o:Entity {id: $id}) WHERE $label IN labels(o)"
+                + (outgoing.isEmpty()
+                ? " WITH o, [] AS outgoing, [] AS outgoingNodes"
+                : " OPTIONAL MATCH (o)-[r:" + String.join("|", outgoing) + "]->(related)"
+                + " WITH o, collect(r) AS outgoing, collect(related) AS outgoingNodes")
+                + (incoming.isEmpty()
+                ? " WITH o, outgoing, outgoingNodes, [] AS incoming, [] AS incomingNodes"
+                : " OPTIONAL MATCH (o)<-[r:" + String.join("|", incoming) + "]-(related)"
+                + " WITH o, outgoing, outgoingNodes, collect(r) AS incoming, collect(related) AS incomingNodes")
+                + " RETURN o, outgoing + incoming AS relations, outgoingNodes + incomingNodes AS relatedNodes";
+
+        final BiFunction<TypeSystem, MapAccessor, T> mappingFunction =
+                mappingContext.getRequiredMappingFunctionFor(domainClass);
+        log.trace("Loading record {} with relationships {} and {}", id, outgoing, incoming);
+        return neo4jClient.query(query)
+                .bind(id).to("id")
+                .bind(mappingContext.getRequiredPersistentEntity(domainClass).getPrimaryLabel()).to("label")
+                .fetchAs(domainClass)
+                .mappedBy((typeSystem, record) -> mappingFunction.apply(typeSystem, record))
+                .one();
+    }
+
+    private Map<String, List<RelationshipDescription>> resolve(Class<?> domainClass) {
+        return mappingContext.getPersistentEntities().stream()
+                .filter(entity -> domainClass.isAssignableFrom(entity.getType()))
+                .flatMap(entity -> entity.getRelationships().stream())
+                .collect(Collectors.groupingBy(RelationshipDescription::getFieldName));
+    }
+
+    private static String escape(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+}
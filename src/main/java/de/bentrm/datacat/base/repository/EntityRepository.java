@@ -28,7 +28,7 @@ public interface EntityRepository<T extends Entity> extends Neo4jRepository<T, S
         Optional<T> findByIdWithDirectRelations(@Param("id") String id);
 
         @Query("""
-                MATCH (o {id: $id}) WHERE $type IN labels(o)
+                MATCH (o:Entity {id: $id}) WHERE $type IN labels(o)
                 OPTIONAL MATCH (o)-[r]->(related)
                 WITH o, collect(coalesce(r, [])) AS relations, collect(coalesce(related, [])) AS relatedNodes
                 RETURN o, relations, relatedNodes""")
@@ -36,7 +36,15 @@ public interface EntityRepository<T extends Entity> extends Neo4jRepository<T, S
 
 
         @Query("""
-                        MATCH (o)
+                        MATCH (o:Entity)
+                        WHERE o.id IN $ids
+                        OPTIONAL MATCH (o)-[r]->(related)
+                        WITH o, collect(coalesce(r, [])) AS relations, collect(coalesce(related, [])) AS relatedNodes
+                        RETURN o, relations, relatedNodes""")
+        List<T> findAllByIdWithDirectRelations(@Param("ids") Collection<String> ids);
+
+        @Query("""
+                        MATCH (o:Entity)
                         WHERE o.id IN $ids
                         RETURN o""")
         List<T> findAllEntitiesById(@Param("ids") Collection<String> ids);
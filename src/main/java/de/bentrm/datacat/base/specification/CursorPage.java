@@ -0,0 +1,58 @@
+package de.bentrm.datacat.base.specification;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A page that carries the cursors of its first and last record. Pages
+ * requested by cursor know whether further records follow without relying
+ * on their page number. The total is kept as given, as the offset of such
+ * pages is not known.
+ */
+public class CursorPage<T> extends PageImpl<T> {
+
+    @Getter
+    private final String startCursor;
+
+    @Getter
+    private final String endCursor;
+
+    private final boolean nextPage;
+
+    private final boolean previousPage;
+
+    private final long total;
+
+    public CursorPage(List<T> content, Pageable pageable, long total, String startCursor, String endCursor,
+                      boolean nextPage, boolean previousPage) {
+        super(content, pageable, total);
+        this.startCursor = startCursor;
+        this.endCursor = endCursor;
+        this.nextPage = nextPage;
+        this.previousPage = previousPage;
+        this.total = total;
+    }
+
+    @Override
+    public long getTotalElements() {
+        return total;
+    }
+
+    @Override
+    public int getTotalPages() {
+        return getSize() == 0 ? 1 : (int) Math.ceil((double) total / (double) getSize());
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextPage;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return previousPage;
+    }
+}
@@ -0,0 +1,37 @@
+package de.bentrm.datacat.base.specification;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * A slice that carries the cursors of its first and last record, so a list
+ * can be walked by cursor without counting all matching records.
+ *
+ * @see CursorPage
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    @Getter
+    private final String startCursor;
+
+    @Getter
+    private final String endCursor;
+
+    private final boolean previousPage;
+
+    public CursorSlice(List<T> content, Pageable pageable, String startCursor, String endCursor, boolean nextPage,
+                       boolean previousPage) {
+        super(content, pageable, nextPage);
+        this.startCursor = startCursor;
+        this.endCursor = endCursor;
+        this.previousPage = previousPage;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return previousPage;
+    }
+}
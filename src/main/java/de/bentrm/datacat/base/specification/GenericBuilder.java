@@ -6,7 +6,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,26 +23,41 @@ public abstract class GenericBuilder<B extends GenericBuilder<B>> {
 
     protected final List<String> queries = new ArrayList<>();
     protected final List<String> filters = new ArrayList<>();
+    protected final Map<String, Object> parameters = new LinkedHashMap<>();
     protected Integer pageNumber;
     protected Integer pageSize;
+    protected String after;
 
     protected GenericBuilder() {
     }
 
     public B idIn(final List<String> ids) {
-        final String filter = "n.id IN ['" + String.join("', '", ids) + "']";
+        final String filter = "n.id IN " + bind(List.copyOf(ids));
         filters.add(filter);
         return self();
     }
 
     public B idNotIn(final List<String> ids) {
-        final String filter = "NOT n.id IN ['" + String.join("', '", ids) + "']";
+        final String filter = "NOT n.id IN " + bind(List.copyOf(ids));
         filters.add(filter);
         return self();
     }
 
     public abstract B query(final String query);
 
+    /**
+     * Registers a value as query parameter. Filters reference values only by
+     * their placeholder, so the query text does not change with the values
+     * and Neo4j can reuse the cached execution plan.
+     * @param value The value to bind.
+     * @return The placeholder to be used in the filter, e.g. $p0.
+     */
+    protected String bind(Object value) {
+        final String name = "p" + parameters.size();
+        parameters.put(name, value);
+        return "$" + name;
+    }
+
     protected Optional<String> sanitizeQueryString(String query) {
         if (query == null || query.isBlank()) return Optional.empty();
         if (query.contains("*")) return Optional.of(query.trim());
@@ -61,6 +78,15 @@ public abstract class GenericBuilder<B extends GenericBuilder<B>> {
         return self();
     }
 
+    /**
+     * Starts the page after the record identified by the given cursor
+     * instead of at the page number.
+     */
+    public B after(String after) {
+        this.after = after != null && !after.isBlank() ? after : null;
+        return self();
+    }
+
     protected abstract B self();
 
     public abstract QuerySpecification build();
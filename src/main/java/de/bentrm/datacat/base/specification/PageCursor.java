@@ -0,0 +1,63 @@
+package de.bentrm.datacat.base.specification;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in a list of records. Lists ordered by a single
+ * property are continued behind the sort key and id of the last record, so
+ * the query does not have to skip the preceding records. Other lists, e.g.
+ * ranked full-text searches, fall back to the number of records to skip.
+ *
+ * @param offset The number of records before the position or null for a keyset cursor.
+ * @param key    The sort key of the record at the position, may be null.
+ * @param id     The id of the record at the position or null for an offset cursor.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageCursor(Long offset, Object key, String id) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static PageCursor ofOffset(long offset) {
+        return new PageCursor(offset, null, null);
+    }
+
+    public static PageCursor ofKeyset(Object key, String id) {
+        return new PageCursor(null, key, id);
+    }
+
+    @JsonIgnore
+    public boolean isKeyset() {
+        return id != null;
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cursor can not be encoded.", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException If the value is no cursor issued by {@link #encode()}.
+     */
+    public static PageCursor decode(String value) {
+        try {
+            final byte[] json = Base64.getUrlDecoder().decode(value.getBytes(StandardCharsets.US_ASCII));
+            final PageCursor cursor = OBJECT_MAPPER.readValue(json, PageCursor.class);
+            if ((cursor.offset() == null) == (cursor.id() == null) || (cursor.offset() != null && cursor.offset() < 0)) {
+                throw new IllegalArgumentException();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid cursor " + value + ".", e);
+        }
+    }
+}
@@ -8,7 +8,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -22,18 +26,101 @@ public abstract class QuerySpecification {
 
     private final List<String> filters;
     // private final Map<String, String> filters;
+    private final Map<String, Object> parameters;
+    private final String fullTextClause;
     private final Sort.Direction sortDirection;
     private final List<String> sortBy;
     private final Integer pageNumber;
     private final Integer pageSize;
+    private final String after;
 
-    protected QuerySpecification(final List<String> filters, final Sort.Direction sortDirection, final List<String> sortBy, final Integer pageNumber, final Integer pageSize) {
+    protected QuerySpecification(final List<String> filters, final Map<String, Object> parameters, final Sort.Direction sortDirection, final List<String> sortBy, final Integer pageNumber, final Integer pageSize) {
+        this(filters, parameters, null, sortDirection, sortBy, pageNumber, pageSize);
+    }
+
+    /**
+     * @param fullTextClause Optional clause that yields the nodes {@code n} matching a full-text
+     *                       query together with their relevance {@code score}.
+     */
+    protected QuerySpecification(final List<String> filters, final Map<String, Object> parameters, final String fullTextClause, final Sort.Direction sortDirection, final List<String> sortBy, final Integer pageNumber, final Integer pageSize) {
+        this(filters, parameters, fullTextClause, sortDirection, sortBy, pageNumber, pageSize, null);
+    }
+
+    /**
+     * @param after Optional {@link PageCursor cursor} of the record after which the page starts.
+     *              Takes precedence over the page number.
+     */
+    protected QuerySpecification(final List<String> filters, final Map<String, Object> parameters, final String fullTextClause, final Sort.Direction sortDirection, final List<String> sortBy, final Integer pageNumber, final Integer pageSize, final String after) {
     // protected QuerySpecification(final Map<String, String> filters, final Sort.Direction sortDirection, final List<String> sortBy, final Integer pageNumber, final Integer pageSize) {
         this.filters = filters;
+        this.parameters = Map.copyOf(parameters);
+        this.fullTextClause = fullTextClause;
         this.sortDirection = sortDirection != null ? sortDirection : Sort.Direction.ASC;
         this.sortBy = sortBy;
         this.pageNumber = pageNumber != null ? pageNumber : 0;
         this.pageSize = pageSize;
+        this.after = after;
+    }
+
+    public boolean isFullTextSearch() {
+        return fullTextClause != null;
+    }
+
+    /**
+     * Renders the head of a query that selects all nodes {@code n} with the
+     * given label matching the filters. Full-text searches additionally bind
+     * the relevance {@code score} of each node.
+     * @param label The label of the nodes or null to match any node.
+     */
+    public String getMatchClause(String label) {
+        return getMatchClause(label, null);
+    }
+
+    /**
+     * @param condition Additional condition on the nodes, may be null.
+     * @see #getMatchClause(String)
+     */
+    public String getMatchClause(String label, String condition) {
+        final List<String> conditions = new ArrayList<>();
+        if (label != null && fullTextClause != null) {
+            conditions.add("n:" + label);
+        }
+        filters.forEach(filter -> conditions.add("(" + filter + ")"));
+        if (condition != null) {
+            conditions.add("(" + condition + ")");
+        }
+
+        final String match = fullTextClause != null
+                ? fullTextClause
+                : label != null ? "MATCH (n:" + label + ")" : "MATCH (n)";
+        return conditions.isEmpty() ? match : match + " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Renders the ORDER BY clause. Full-text searches are ordered by relevance
+     * first.
+     * @param properties The node properties to sort by, may be null.
+     */
+    public String getOrderByClause(Sort.Direction direction, String[] properties) {
+        final List<String> orders = new ArrayList<>();
+        if (fullTextClause != null) {
+            orders.add("score DESC");
+        }
+        if (direction != null && properties != null) {
+            Arrays.stream(properties).map(property -> "n.`" + property + "` " + direction.name()).forEach(orders::add);
+        }
+        return orders.isEmpty() ? "" : " ORDER BY " + String.join(", ", orders);
+    }
+
+    /**
+     * Returns the parameters bound by the filters together with the paging
+     * parameters {@code $skip} and {@code $limit} of the given page.
+     */
+    public Map<String, Object> getParameters(Pageable pageable) {
+        final Map<String, Object> result = new HashMap<>(parameters);
+        result.put("skip", pageable.getOffset());
+        result.put("limit", pageable.getPageSize());
+        return result;
     }
 
     public Optional<Pageable> getPageable() {
@@ -0,0 +1,249 @@
+package de.bentrm.datacat.base.specification;
+
+import de.bentrm.datacat.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Runs the list queries described by a {@link QuerySpecification}.
+ * A page and its total number of elements are fetched in a single round
+ * trip. Pages carry a {@link PageCursor} per record, the next page can be
+ * requested with the cursor of the last record as
+ * {@link QuerySpecification#getAfter()}. Specifications without page size
+ * are limited to {@code datacat.query.max-unpaged-results} records.
+ */
+@Slf4j
+@Component
+public class SpecificationQueryExecutor {
+
+    private final Neo4jClient neo4jClient;
+
+    private final Neo4jTemplate neo4jTemplate;
+
+    private final Neo4jMappingContext mappingContext;
+
+    private final AppProperties properties;
+
+    public SpecificationQueryExecutor(Neo4jClient neo4jClient, Neo4jTemplate neo4jTemplate,
+                                      Neo4jMappingContext mappingContext, AppProperties properties) {
+        this.neo4jClient = neo4jClient;
+        this.neo4jTemplate = neo4jTemplate;
+        this.mappingContext = mappingContext;
+        this.properties = properties;
+    }
+
+    /**
+     * Loads the requested page together with the total number of matching records.
+     * @param label The label of the records or null to match any node.
+     */
+    public <T> Page<T> findPage(QuerySpecification specification, String label, Class<T> domainClass) {
+        final Pageable pageable = getPageable(specification);
+        final Rows<T> rows = fetch(specification, label, domainClass, pageable, true);
+
+        long total = rows.total();
+        if (total < 0) {
+            // No row carries the total if the page lies behind the last record
+            total = rows.skip() > 0 || rows.after() != null ? count(specification, label) : 0;
+        }
+        final List<T> content = rows.records();
+        return new CursorPage<>(content, pageable, total,
+                content.isEmpty() ? null : rows.getCursor(0),
+                content.isEmpty() ? null : rows.getCursor(content.size() - 1),
+                rows.hasNext(), rows.skip() > 0 || rows.after() != null);
+    }
+
+    /**
+     * Loads the requested page without counting all matching records. One
+     * additional record is fetched to tell whether a next page exists. The
+     * slice carries the same cursors as a page.
+     * @param label The label of the records or null to match any node.
+     */
+    public <T> Slice<T> findSlice(QuerySpecification specification, String label, Class<T> domainClass) {
+        final Pageable pageable = getPageable(specification);
+        final Rows<T> rows = fetch(specification, label, domainClass, pageable, false);
+        final List<T> content = rows.records();
+        return new CursorSlice<>(content, pageable,
+                content.isEmpty() ? null : rows.getCursor(0),
+                content.isEmpty() ? null : rows.getCursor(content.size() - 1),
+                rows.hasNext(), rows.skip() > 0 || rows.after() != null);
+    }
+
+    /**
+     * Fetches the records of the page and one additional record. Pages
+     * requested by a keyset cursor are continued behind the sort key and id
+     * of the cursor record, pages requested by an offset cursor or page
+     * number skip the preceding records.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Rows<T> fetch(QuerySpecification specification, String label, Class<T> domainClass,
+                              Pageable pageable, boolean withTotal) {
+        final PageCursor after = specification.getAfter() != null
+                ? PageCursor.decode(specification.getAfter())
+                : null;
+        final Sort.Order keysetOrder = getKeysetOrder(specification, pageable);
+        if (after != null && after.isKeyset() && keysetOrder == null) {
+            throw new IllegalArgumentException("Cursor " + specification.getAfter()
+                    + " does not match the order of the query.");
+        }
+
+        final Map<String, Object> parameters = specification.getParameters(pageable);
+        final String condition = after != null && after.isKeyset()
+                ? getKeysetCondition(keysetOrder, after, parameters)
+                : null;
+        final long skip = after == null ? pageable.getOffset() : after.isKeyset() ? 0 : after.offset();
+        parameters.put("skip", skip);
+        parameters.put("limit", pageable.getPageSize() + 1);
+
+        final String sortKey = keysetOrder != null ? "n.`" + keysetOrder.getProperty() + "`" : "null";
+        final String query = getMatchClause(specification, label, condition, withTotal)
+                + " RETURN n, " + sortKey + " AS sortKey" + (withTotal ? ", total" : "")
+                + getOrderByClause(specification, pageable, keysetOrder) + " SKIP $skip LIMIT $limit";
+
+        final BiFunction<TypeSystem, MapAccessor, T> mappingFunction =
+                mappingContext.getRequiredMappingFunctionFor(domainClass);
+        final List<Row<T>> rows = new ArrayList<>(neo4jClient.query(query)
+                .bindAll(parameters)
+                .fetchAs(Row.class)
+                .mappedBy((typeSystem, record) -> {
+                    final Node node = record.get("n").asNode();
+                    return new Row<>(mappingFunction.apply(typeSystem, node), record.get("sortKey").asObject(),
+                            node.get("id").asString(), withTotal ? record.get("total").asLong() : -1);
+                })
+                .all()
+                .stream()
+                .map(row -> (Row<T>) row)
+                .toList());
+
+        final long total = rows.isEmpty() ? -1 : rows.get(0).total();
+        final boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows.remove(rows.size() - 1);
+        }
+        return new Rows<>(rows, total, skip, after, keysetOrder != null, hasNext);
+    }
+
+    /**
+     * Renders the match clause of the page query, which additionally binds
+     * the {@code total} number of matching records if requested. The hits of
+     * a full-text search are collected once to derive both the page and the
+     * total, other queries are counted in a subquery.
+     */
+    private String getMatchClause(QuerySpecification specification, String label, String condition,
+                                  boolean withTotal) {
+        final String matchClause = specification.getMatchClause(label, condition);
+        if (!withTotal) {
+            return matchClause;
+        }
+        if (specification.isFullTextSearch()) {
+            return matchClause + " WITH collect({n: n, score: score}) AS hits"
+                    + " UNWIND hits AS hit WITH hit.n AS n, hit.score AS score, size(hits) AS total";
+        }
+        return "CALL { " + specification.getMatchClause(label) + " RETURN count(n) AS total } " + matchClause;
+    }
+
+    /**
+     * @param label The label of the records or null to match any node.
+     */
+    public long count(QuerySpecification specification, String label) {
+        final String query = specification.getMatchClause(label) + " RETURN count(n)";
+        return neo4jTemplate.count(query, specification.getParameters());
+    }
+
+    /**
+     * Returns the page requested by the specification. Unpaged
+     * specifications are restricted to the first page of the maximum size.
+     */
+    public Pageable getPageable(QuerySpecification specification) {
+        return specification.getPageable()
+                .orElseGet(() -> PageRequest.of(0, properties.getQuery().getMaxUnpagedResults()));
+    }
+
+    /**
+     * Ties of the sort key are ordered by id, so that the position of a
+     * record can be identified by its sort key and id.
+     */
+    private String getOrderByClause(QuerySpecification specification, Pageable pageable, Sort.Order keysetOrder) {
+        final Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return specification.getOrderByClause(null, null);
+        }
+        final Sort.Direction direction = sort.get().findFirst().map(Sort.Order::getDirection).get();
+        final String[] properties = sort.get().map(Sort.Order::getProperty).toArray(String[]::new);
+        final String orderByClause = specification.getOrderByClause(direction, properties);
+        return keysetOrder != null ? orderByClause + ", n.id " + direction.name() : orderByClause;
+    }
+
+    /**
+     * Keyset paging requires a single sort property. Full-text searches are
+     * ordered by their relevance score, which is not stable between queries.
+     * @return The sort order or null if the query can only be paged by offset.
+     */
+    private Sort.Order getKeysetOrder(QuerySpecification specification, Pageable pageable) {
+        if (specification.isFullTextSearch()) {
+            return null;
+        }
+        final List<Sort.Order> orders = pageable.getSort().toList();
+        return orders.size() == 1 ? orders.get(0) : null;
+    }
+
+    /**
+     * Renders the condition selecting the records ordered after the cursor,
+     * i.e. {@code (key, id) > ($afterKey, $afterId)} for ascending order.
+     * Cypher has no row value comparison, so the comparison is expanded.
+     * Null keys are ordered last in ascending and first in descending order.
+     */
+    private String getKeysetCondition(Sort.Order order, PageCursor after, Map<String, Object> parameters) {
+        final String key = "n.`" + order.getProperty() + "`";
+        parameters.put("afterId", after.id());
+        if (after.key() == null) {
+            return order.isAscending()
+                    ? key + " IS NULL AND n.id > $afterId"
+                    : key + " IS NOT NULL OR n.id < $afterId";
+        }
+        parameters.put("afterKey", after.key());
+        return order.isAscending()
+                ? "(" + key + " >= $afterKey AND (" + key + " > $afterKey OR n.id > $afterId)) OR " + key + " IS NULL"
+                : key + " <= $afterKey AND (" + key + " < $afterKey OR n.id < $afterId)";
+    }
+
+    /**
+     * @param total The total number of matching records carried by each row or -1 if it is not counted.
+     */
+    private record Row<T>(T record, Object key, String id, long total) {
+    }
+
+    /**
+     * The rows of a page without the additional record.
+     * @param total The total number of matching records or -1 if it is unknown.
+     */
+    private record Rows<T>(List<Row<T>> rows, long total, long skip, PageCursor after, boolean keyset,
+                           boolean hasNext) {
+
+        List<T> records() {
+            return rows.stream().map(Row::record).toList();
+        }
+
+        String getCursor(int index) {
+            final Row<T> row = rows.get(index);
+            return (keyset ? PageCursor.ofKeyset(row.key(), row.id()) : PageCursor.ofOffset(skip + index + 1))
+                    .encode();
+        }
+    }
+}
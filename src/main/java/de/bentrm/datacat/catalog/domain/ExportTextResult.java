@@ -0,0 +1,12 @@
+package de.bentrm.datacat.catalog.domain;
+
+import lombok.Data;
+
+@Data
+public class ExportTextResult {
+
+    public String id;
+    public String facet;
+    public String languageCode;
+    public String text;
+}
@@ -0,0 +1,35 @@
+package de.bentrm.datacat.catalog.domain;
+
+import org.springframework.data.neo4j.core.mapping.callback.BeforeBindCallback;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This class keeps the hierarchy index in sync with saved objects and
+ * symbols, whose relationships may have changed.
+ */
+@Slf4j
+@Component
+public class HierarchyIndexPreSaveEventListener implements BeforeBindCallback<XtdRoot> {
+
+    private final HierarchyIndexService hierarchyIndexService;
+
+    public HierarchyIndexPreSaveEventListener(HierarchyIndexService hierarchyIndexService) {
+        this.hierarchyIndexService = hierarchyIndexService;
+    }
+
+    /**
+     * @param record The record to persist.
+     */
+    @Override
+    public @NonNull XtdRoot onBeforeBind(@NonNull XtdRoot record) {
+        if (record instanceof XtdObject || record instanceof XtdSymbol) {
+            hierarchyIndexService.markDirty(record.getId());
+        }
+        return record;
+    }
+
+}
@@ -3,6 +3,8 @@ package de.bentrm.datacat.catalog.domain;
 import org.springframework.data.neo4j.core.mapping.callback.BeforeBindCallback;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+
+import de.bentrm.datacat.catalog.service.ObjectNameCacheService;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
@@ -16,6 +18,11 @@ import java.util.stream.Collectors;
 @Component
 public class IndexingPreSaveEventListener implements BeforeBindCallback<XtdObject> {
 
+    private final ObjectNameCacheService objectNameCacheService;
+
+    public IndexingPreSaveEventListener(ObjectNameCacheService objectNameCacheService) {
+        this.objectNameCacheService = objectNameCacheService;
+    }
 
     /**
      * The property {@link XtdObject#getLabels()} represents a map all
@@ -28,7 +35,9 @@ public class IndexingPreSaveEventListener implements BeforeBindCallback<XtdObjec
      */
     @Override
     public @NonNull XtdObject onBeforeBind(@NonNull XtdObject record) {
-   
+            // The names may have changed, cached translations are dropped once the change is committed
+            objectNameCacheService.evict(record.getId());
+
             final XtdMultiLanguageText mName = record.getNames().stream().findFirst().orElse(null);
             if (mName == null) {
                 return record;
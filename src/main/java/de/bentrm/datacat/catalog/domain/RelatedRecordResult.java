@@ -0,0 +1,10 @@
+package de.bentrm.datacat.catalog.domain;
+
+import lombok.Data;
+
+@Data
+public class RelatedRecordResult {
+
+    public String id;
+    public String relatedId;
+}
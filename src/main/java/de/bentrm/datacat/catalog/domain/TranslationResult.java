@@ -0,0 +1,11 @@
+package de.bentrm.datacat.catalog.domain;
+
+import lombok.Data;
+
+@Data
+public class TranslationResult {
+
+    public String ownerId;
+    public String languageCode;
+    public String text;
+}
@@ -0,0 +1,32 @@
+package de.bentrm.datacat.catalog.domain;
+
+import org.springframework.data.neo4j.core.mapping.callback.BeforeBindCallback;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import de.bentrm.datacat.base.domain.Entity;
+import de.bentrm.datacat.catalog.service.VerificationReportService;
+
+/**
+ * This class reports saved entities to the verification reports, whose
+ * results may change with any record or tag.
+ */
+@Component
+public class VerificationPreSaveEventListener implements BeforeBindCallback<Entity> {
+
+    private final VerificationReportService verificationReportService;
+
+    public VerificationPreSaveEventListener(VerificationReportService verificationReportService) {
+        this.verificationReportService = verificationReportService;
+    }
+
+    /**
+     * @param entity The entity to persist.
+     */
+    @Override
+    public @NonNull Entity onBeforeBind(@NonNull Entity entity) {
+        verificationReportService.markDirty(entity.getId());
+        return entity;
+    }
+
+}
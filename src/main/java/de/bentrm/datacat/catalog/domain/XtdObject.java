@@ -100,35 +100,27 @@ public abstract class XtdObject extends XtdRoot {
 
     /**
      * Returns an optional name that satisfies the given language range priority
-     * list.
+     * list. The translations are resolved with a single query.
      *
      * @param priorityList The priority list that will be used to select a
      *                     translation.
      * @return An optional translation of the catalog entries name.
      */
-    public Optional<XtdText> getName(@NotNull List<Locale.LanguageRange> priorityList) {
-        final XtdMultiLanguageText name = this.names.stream().findFirst().orElse(null);
-        if (name == null) {
-            return Optional.empty();
-        }
-        final XtdText translation = LocalizationUtils.getTranslation(priorityList, name.getId());
-        return Optional.ofNullable(translation);
+    public Optional<String> getName(@NotNull List<Locale.LanguageRange> priorityList) {
+        return Optional.ofNullable(LocalizationUtils.getTranslations(priorityList, List.of(getId()), "NAMES")
+                .get(getId()));
     }
 
     /**
      * Returns an optional comment that satisfies the given language range priority
-     * list.
+     * list. The translations are resolved with a single query.
      *
      * @param priorityList The priority list that will be used to select a
      *                     translation.
      * @return An optional translation of the catalog entries comment.
      */
-    public Optional<XtdText> getComment(@NotNull List<Locale.LanguageRange> priorityList) {
-        final XtdMultiLanguageText comment = this.comments.stream().findFirst().orElse(null);
-        if (comment == null) {
-            return Optional.empty();
-        }
-        final XtdText translation = LocalizationUtils.getTranslation(priorityList, comment.getId());    
-        return Optional.ofNullable(translation);
+    public Optional<String> getComment(@NotNull List<Locale.LanguageRange> priorityList) {
+        return Optional.ofNullable(LocalizationUtils.getTranslations(priorityList, List.of(getId()), "COMMENTS")
+                .get(getId()));
     }
 }
@@ -4,6 +4,7 @@ import de.bentrm.datacat.base.repository.EntityRepository;
 import de.bentrm.datacat.catalog.domain.XtdRoot;
 import de.bentrm.datacat.catalog.domain.ExportItemResult;
 import de.bentrm.datacat.catalog.domain.ExportRelationshipResult;
+import de.bentrm.datacat.catalog.domain.ExportTextResult;
 import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.stereotype.Repository;
 
@@ -12,23 +13,22 @@ import java.util.List;
 @Repository
 public interface CatalogExportQuery extends EntityRepository<XtdRoot> {
     
-    // gives important catalog records with some properties
-    // could be extended 
+    // ids of exportable catalog records following the given id, used to page through the export
     @Query("""
     MATCH (x:XtdObject|XtdDictionary)
-    OPTIONAL MATCH (x)-[:NAMES]->()-[:TEXTS]->(t)-[:LANGUAGE]->(l {code: "de"}) 
-    OPTIONAL MATCH (x)-[:NAMES]->()-[:TEXTS]->(ten)-[:LANGUAGE]->(len {code: "en"}) 
-    OPTIONAL MATCH (x)-[:DESCRIPTIONS]->()-[:TEXTS]->(d)-[:LANGUAGE]->(l {code: "de"}) 
-    OPTIONAL MATCH (x)-[:DESCRIPTIONS]->()-[:TEXTS]->(den)-[:LANGUAGE]->(len {code: "en"}) 
-    OPTIONAL MATCH (x)-[:TAGGED]->(tag)
-    OPTIONAL MATCH (x)-[:DEFINITION]->()-[:TEXTS]->(def)-[:LANGUAGE]->(l {code: "de"})
-    OPTIONAL MATCH (x)-[:DEFINITION]->()-[:TEXTS]->(defen)-[:LANGUAGE]->(len {code: "en"})
-    OPTIONAL MATCH (x)-[:DEPRECATION_EXPLANATION]->()-[:TEXTS]->(depex)-[:LANGUAGE]->(l {code: "de"})
-    OPTIONAL MATCH (x)-[:EXAMPLES]->()-[:TEXTS]->(ex)-[:LANGUAGE]->(l {code: "de"})
-    OPTIONAL MATCH (x)-[:LANGUAGE_OF_CREATOR]->(loc)
-    OPTIONAL MATCH (x)-[:COUNTRY_OF_ORIGIN]->(coo)
-    OPTIONAL MATCH (x)-[:LANGUAGE|LANGUAGES]->(langs)
-    WITH x, t, ten, d, den, def, defen, depex, ex, loc, coo, collect(tag.name) AS tags, collect(langs.code) AS langs,
+    WHERE x.id > $afterId
+    RETURN x.id
+    ORDER BY x.id
+    LIMIT $limit
+    """)
+    List<String> findExportCatalogRecordIds(String afterId, int limit);
+
+    // gives the plain properties of the given catalog records, one row per record
+    // localized texts are resolved by findExportTexts
+    @Query("""
+    MATCH (x:XtdObject|XtdDictionary)
+    WHERE x.id IN $ids
+    WITH x,
         CASE
             WHEN "XtdExternalDocument" IN LABELS(x) THEN "XtdExternalDocument"
             WHEN "XtdValueList" IN LABELS(x) THEN "XtdValueList"
@@ -40,32 +40,33 @@ public interface CatalogExportQuery extends EntityRepository<XtdRoot> {
             ELSE null
         END AS type
     WHERE type IS NOT NULL
-    RETURN DISTINCT 
-        x.id AS id,  
-        type, 
-        tags AS tags,
-        t.text AS name,
-        ten.text AS name_en,
-        d.text AS description,
-        den.text AS description_en,
-        def.text AS definition,
-        defen.text AS definition_en,
-        ex.text AS examples,
-        loc.code AS languageOfCreator,
-        coo.code AS countryOfOrigin,
-        langs AS languages,
+    RETURN
+        x.id AS id,
+        type,
+        [(x)-[:TAGGED]->(tag) | tag.name] AS tags,
+        head([(x)-[:LANGUAGE_OF_CREATOR]->(loc) | loc.code]) AS languageOfCreator,
+        head([(x)-[:COUNTRY_OF_ORIGIN]->(coo) | coo.code]) AS countryOfOrigin,
+        [(x)-[:LANGUAGE|LANGUAGES]->(lang) | lang.code] AS languages,
         x.createdBy AS createdBy,
         x.created AS created,
         x.lastModified AS lastModified,
         x.lastModifiedBy AS lastModifiedBy,
         x.majorVersion as majorVersion, x.minorVersion AS minorVersion, x.status AS status,
-        depex.text AS deprecationExplanation,
-        x.dataType AS dataType, x.dataFormat AS dataFormat, 
-        x.scale AS scale, x.base AS base, 
+        x.dataType AS dataType, x.dataFormat AS dataFormat,
+        x.scale AS scale, x.base AS base,
         x.uri AS uri, x.author AS author, x.isbn AS isbn, x.publisher AS publisher, x.dateOfPublication AS dateOfPublication
+    ORDER BY id
     """)
-    List<ExportItemResult> findExportCatalogRecords();
+    List<ExportItemResult> findExportCatalogRecordsByIds(List<String> ids);
 
+    // gives the texts of all exported text facets of the given records in the given languages
+    @Query("""
+    UNWIND $ids AS id
+    MATCH (x:XtdRoot {id: id})-[facet:NAME|NAMES|DESCRIPTIONS|DEFINITION|EXAMPLES|DEPRECATION_EXPLANATION]->(:XtdMultiLanguageText)-[:TEXTS]->(t:XtdText)-[:LANGUAGE]->(l:XtdLanguage)
+    WHERE l.code IN $languageCodes
+    RETURN x.id AS id, type(facet) AS facet, l.code AS languageCode, t.text AS text
+    """)
+    List<ExportTextResult> findExportTexts(List<String> ids, List<String> languageCodes);
 
     // gives relationships between catalog records
     // could be extended
@@ -90,4 +91,39 @@ public interface CatalogExportQuery extends EntityRepository<XtdRoot> {
     z.id AS entity2
     """)
     List<ExportRelationshipResult> findExportCatalogRecordsRelationships();
+
+    // ids of objects that may start an exported relationship, used to page through the export
+    @Query("""
+    MATCH (x:XtdObject)
+    WHERE x.id > $afterId
+    RETURN x.id
+    ORDER BY x.id
+    LIMIT $limit
+    """)
+    List<String> findExportRelationshipSourceIds(String afterId, int limit);
+
+    @Query("""
+    MATCH (x:XtdObject)-[y]->(z:XtdObject|XtdDictionary)
+    WHERE x.id IN $ids
+    AND NOT type(y) IN ["SCOPE_SUBJECTS", "CONNECTED_SUBJECTS", "CONNECTED_PROPERTIES", "TARGET_SUBJECTS", "TARGET_PROPERTIES", "RELATIONSHIP_TYPE", "ORDERED_VALUE", "DIMENSION"]
+    RETURN DISTINCT 
+    x.id AS entity1, 
+    type(y) AS relationship, 
+    z.id AS entity2
+    UNION
+    MATCH (x:XtdConcept)-[:CONNECTED_SUBJECTS|CONNECTED_PROPERTIES]->()-[:TARGET_SUBJECTS|TARGET_PROPERTIES]->(z:XtdConcept)
+    WHERE x.id IN $ids
+    RETURN DISTINCT 
+    x.id AS entity1, 
+    "GROUPS" AS relationship, 
+    z.id AS entity2
+    UNION
+    MATCH (x:XtdValueList)-[y:VALUES]->()-[:ORDERED_VALUE]->(z:XtdValue)
+    WHERE x.id IN $ids
+    RETURN DISTINCT 
+    x.id AS entity1, 
+    type(y) AS relationship, 
+    z.id AS entity2
+    """)
+    List<ExportRelationshipResult> findExportCatalogRecordsRelationshipsByIds(List<String> ids);
 }
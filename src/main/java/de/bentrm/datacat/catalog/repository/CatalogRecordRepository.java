@@ -3,7 +3,6 @@ package de.bentrm.datacat.catalog.repository;
 import de.bentrm.datacat.base.repository.EntityRepository;
 import de.bentrm.datacat.catalog.domain.CatalogRecord;
 import de.bentrm.datacat.catalog.domain.Tag;
-import de.bentrm.datacat.graphql.dto.CatalogRecordStatistics;
 
 import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.stereotype.Repository;
@@ -13,11 +12,6 @@ import java.util.List;
 @Repository
 public interface CatalogRecordRepository extends EntityRepository<CatalogRecord> {
 
-    // Counts, how many of each concepts are in the database.
-    @Query("CALL apoc.meta.stats() YIELD labels UNWIND keys(labels) AS id RETURN id, labels[id] AS count")
-    List<CatalogRecordStatistics> statistics();
-
-
     @Query("""
         MATCH (l)<-[:LANGUAGE]-(t)<-[:TEXTS]-(x)<-[:NAMES|DESCRIPTIONS]-(n:XtdObject)
         WHERE t.text CONTAINS $regex AND l.code STARTS WITH $languageTag
@@ -1,6 +1,7 @@
 package de.bentrm.datacat.catalog.repository;
 
 import de.bentrm.datacat.base.repository.EntityRepository;
+import de.bentrm.datacat.catalog.domain.RelatedRecordResult;
 import de.bentrm.datacat.catalog.domain.XtdConcept;
 import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.stereotype.Repository;
@@ -44,4 +45,46 @@ public interface ConceptRepository extends EntityRepository<XtdConcept> {
             MATCH (n:XtdConcept {id: $conceptId})-[:DESCRIPTIONS]->(p:XtdMultiLanguageText)
             RETURN p.id""")
     List<String> findAllDescriptionIdsAssignedToConcept(String conceptId);
+
+    @Query("""
+            MATCH (n:XtdConcept)-[:SIMILAR_TO]->(p:XtdConcept)
+            WHERE n.id IN $conceptIds
+            RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findAllConceptIdsAssignedToConcepts(List<String> conceptIds);
+
+    @Query("""
+            MATCH (n:XtdConcept)-[:REFERENCE_DOCUMENTS]->(p:XtdExternalDocument)
+            WHERE n.id IN $conceptIds
+            RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findAllExternalDocumentIdsAssignedToConcepts(List<String> conceptIds);
+
+    @Query("""
+            MATCH (n:XtdConcept)-[:EXAMPLES]->(p:XtdMultiLanguageText)
+            WHERE n.id IN $conceptIds
+            RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findAllExampleIdsAssignedToConcepts(List<String> conceptIds);
+
+    @Query("""
+            MATCH (n:XtdConcept)-[:COUNTRY_OF_ORIGIN]->(p:XtdCountry)
+            WHERE n.id IN $conceptIds
+            RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findCountryIdsAssignedToConcepts(List<String> conceptIds);
+
+    @Query("""
+            MATCH (n:XtdConcept)-[:DEFINITION]->(p:XtdMultiLanguageText)
+            WHERE n.id IN $conceptIds
+            RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findDefinitionIdsAssignedToConcepts(List<String> conceptIds);
+
+    @Query("""
+            MATCH (n:XtdConcept)-[:LANGUAGE_OF_CREATOR]->(p:XtdLanguage)
+            WHERE n.id IN $conceptIds
+            RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findLanguageIdsAssignedToConcepts(List<String> conceptIds);
+
+    @Query("""
+            MATCH (n:XtdConcept)-[:DESCRIPTIONS]->(p:XtdMultiLanguageText)
+            WHERE n.id IN $conceptIds
+            RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findAllDescriptionIdsAssignedToConcepts(List<String> conceptIds);
 }
@@ -1,6 +1,8 @@
 package de.bentrm.datacat.catalog.repository;
 
 import de.bentrm.datacat.base.repository.EntityRepository;
+import de.bentrm.datacat.catalog.domain.RelatedRecordResult;
+import de.bentrm.datacat.catalog.domain.TranslationResult;
 import de.bentrm.datacat.catalog.domain.XtdMultiLanguageText;
 
 import java.util.List;
@@ -15,4 +17,20 @@ public interface MultiLanguageTextRepository extends EntityRepository<XtdMultiLa
         MATCH (n:XtdMultiLanguageText {id: $multiLanguageTextId})-[:TEXTS]->(p:XtdText)
         RETURN p.id""")
 List<String> findAllTextIdsAssignedToMultiLanguageText(String multiLanguageTextId);
+
+    @Query("""
+        MATCH (n:XtdMultiLanguageText)-[:TEXTS]->(p:XtdText)
+        WHERE n.id IN $multiLanguageTextIds
+        RETURN n.id AS id, p.id AS relatedId""")
+    List<RelatedRecordResult> findAllTextIdsAssignedToMultiLanguageTexts(List<String> multiLanguageTextIds);
+
+    // texts of the first multi language text that each owner links to by the given relationship type
+    @Query("""
+        UNWIND $ownerIds AS ownerId
+        MATCH (o:XtdRoot {id: ownerId})-[r]->(m:XtdMultiLanguageText)
+        WHERE type(r) = $relationshipType
+        WITH o, head(collect(m)) AS m
+        MATCH (m)-[:TEXTS]->(t:XtdText)-[:LANGUAGE]->(l:XtdLanguage)
+        RETURN o.id AS ownerId, l.code AS languageCode, t.text AS text""")
+    List<TranslationResult> findTranslationsByOwnerIds(List<String> ownerIds, String relationshipType);
 }
@@ -1,6 +1,7 @@
 package de.bentrm.datacat.catalog.repository;
 
 import de.bentrm.datacat.base.repository.EntityRepository;
+import de.bentrm.datacat.catalog.domain.RelatedRecordResult;
 import de.bentrm.datacat.catalog.domain.XtdObject;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.neo4j.repository.query.Query;
@@ -54,4 +55,40 @@ public interface ObjectRepository extends EntityRepository<XtdObject> {
                         RETURN count(n)
                         """)
         Long countTargetRelationships(String objectId);
+
+        @Query("""
+                        MATCH (n:XtdObject)-[:REPLACED_OBJECTS]->(p:XtdObject)
+                        WHERE n.id IN $objectIds
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findAllReplacedObjectIdsAssignedToObjects(List<String> objectIds);
+
+        @Query("""
+                        MATCH (n:XtdObject)<-[:REPLACED_OBJECTS]-(p:XtdObject)
+                        WHERE n.id IN $objectIds
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findAllReplacingObjectIdsAssignedToObjects(List<String> objectIds);
+
+        @Query("""
+                        MATCH (n:XtdObject)-[:NAMES]->(p:XtdMultiLanguageText)
+                        WHERE n.id IN $objectIds
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findAllNameIdsAssignedToObjects(List<String> objectIds);
+
+        @Query("""
+                        MATCH (n:XtdObject)-[:DICTIONARY]->(p:XtdDictionary)
+                        WHERE n.id IN $objectIds
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findDictionaryIdsAssignedToObjects(List<String> objectIds);
+
+        @Query("""
+                        MATCH (n:XtdObject)-[:DEPRECATION_EXPLANATION]->(p:XtdMultiLanguageText)
+                        WHERE n.id IN $objectIds
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findDeprecationExplanationIdsAssignedToObjects(List<String> objectIds);
+
+        @Query("""
+                        MATCH (n:XtdObject)-[:COMMENTS]->(p:XtdMultiLanguageText)
+                        WHERE n.id IN $objectIds
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findCommentIdsAssignedToObjects(List<String> objectIds);
 }
@@ -1,6 +1,7 @@
 package de.bentrm.datacat.catalog.repository;
 
 import de.bentrm.datacat.base.repository.EntityRepository;
+import de.bentrm.datacat.catalog.domain.RelatedRecordResult;
 import de.bentrm.datacat.catalog.domain.XtdSubject;
 import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.stereotype.Repository;
@@ -31,6 +32,34 @@ public interface SubjectRepository extends EntityRepository<XtdSubject> {
                         RETURN p.id""")
         List<String> findAllConnectingSubjectRelationshipIdsAssignedToSubject(String subjectId);
 
+        /**
+         * @param relationshipTypeName Only relationships of a type with this name are returned if not null.
+         */
+        @Query("""
+                        MATCH (n:XtdSubject)-[:CONNECTED_SUBJECTS]->(p:XtdRelationshipToSubject)
+                        WHERE n.id IN $subjectIds
+                          AND ($relationshipTypeName IS NULL OR EXISTS {
+                            MATCH (p)-[:RELATIONSHIP_TYPE]->(:XtdRelationshipType)-[:NAMES]->(:XtdMultiLanguageText)-[:TEXTS]->(t:XtdText)
+                            WHERE t.text = $relationshipTypeName
+                          })
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findAllConnectedSubjectRelationshipIdsAssignedToSubjects(List<String> subjectIds,
+                                                                                            String relationshipTypeName);
+
+        /**
+         * @param relationshipTypeName Only relationships of a type with this name are returned if not null.
+         */
+        @Query("""
+                        MATCH (n:XtdSubject)<-[:TARGET_SUBJECTS]-(p:XtdRelationshipToSubject)
+                        WHERE n.id IN $subjectIds
+                          AND ($relationshipTypeName IS NULL OR EXISTS {
+                            MATCH (p)-[:RELATIONSHIP_TYPE]->(:XtdRelationshipType)-[:NAMES]->(:XtdMultiLanguageText)-[:TEXTS]->(t:XtdText)
+                            WHERE t.text = $relationshipTypeName
+                          })
+                        RETURN n.id AS id, p.id AS relatedId""")
+        List<RelatedRecordResult> findAllConnectingSubjectRelationshipIdsAssignedToSubjects(List<String> subjectIds,
+                                                                                             String relationshipTypeName);
+
         @Query("""
                         MATCH (s:XtdSubject {id: $id})
                         OPTIONAL MATCH (s)-[r1]->(related1)
@@ -1,6 +1,7 @@
 package de.bentrm.datacat.catalog.repository;
 
 import de.bentrm.datacat.base.repository.EntityRepository;
+import de.bentrm.datacat.catalog.domain.RelatedRecordResult;
 import de.bentrm.datacat.catalog.domain.XtdText;
 import de.bentrm.datacat.graphql.dto.TextCountResult;
 
@@ -8,6 +9,8 @@ import de.bentrm.datacat.graphql.dto.TextCountResult;
 import org.springframework.data.neo4j.repository.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TextRepository extends EntityRepository<XtdText> {
 
@@ -16,6 +19,12 @@ public interface TextRepository extends EntityRepository<XtdText> {
             RETURN y.id""")
     String findLanguageIdByTextId(String textId);
 
+    @Query("""
+            MATCH (x:XtdText)-[:LANGUAGE]->(y:XtdLanguage)
+            WHERE x.id IN $textIds
+            RETURN x.id AS id, y.id AS relatedId""")
+    List<RelatedRecordResult> findLanguageIdsByTextIds(List<String> textIds);
+
 
     @Query("""
             MATCH(x:XtdText {id: $textId})<-[TEXTS]-(y:XtdMultiLanguageText) WITH y 
@@ -23,4 +32,9 @@ public interface TextRepository extends EntityRepository<XtdText> {
             RETURN y.id as id, count(r) as textNumber
             """)
     TextCountResult countTexts(String textId);
-}
\ No newline at end of file
+
+    @Query("""
+            MATCH (o:XtdObject)-[:NAMES]->(:XtdMultiLanguageText)-[:TEXTS]->(x:XtdText {id: $textId})
+            RETURN o.id""")
+    List<String> findObjectIdsByNameTextId(String textId);
+}
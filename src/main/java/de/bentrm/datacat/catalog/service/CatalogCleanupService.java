@@ -4,6 +4,8 @@ import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collection;
+
 /**
  * Internal utility service whose primary purpose is to be used by other service
  * implementations.
@@ -25,4 +27,13 @@ public interface CatalogCleanupService {
      * @param recordId The record that will be purged.
      */
     void deleteNodeWithRelationships(@NotBlank String recordId);
+
+    /**
+     * Deletes the given records together with the texts and rationals they own,
+     * e.g. names, descriptions and their translations or the exponents of a
+     * dimension, using a single statement.
+     * @param recordIds The records that will be purged.
+     * @return The number of deleted nodes including the given records.
+     */
+    int deleteNodesWithDependents(@NotNull Collection<String> recordIds);
 }
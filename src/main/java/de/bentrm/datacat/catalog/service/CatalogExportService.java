@@ -1,9 +1,13 @@
 package de.bentrm.datacat.catalog.service;
 
+import de.bentrm.datacat.catalog.domain.ExportItemResult;
+import de.bentrm.datacat.catalog.domain.ExportRelationshipResult;
 import de.bentrm.datacat.catalog.service.value.ExportCatalogRecordsValue;
 import de.bentrm.datacat.catalog.service.value.ExportRelationshipsValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 
+import java.util.function.Consumer;
+
 public interface CatalogExportService {
 
     @PreAuthorize("hasRole('READONLY')")
@@ -12,4 +16,27 @@ public interface CatalogExportService {
     @PreAuthorize("hasRole('READONLY')")
     ExportRelationshipsValue getExportCatalogRecordsRelationships();
 
+    /**
+     * Passes the exported catalog records to the given consumer page by page,
+     * ordered by id, so that only one page is held in memory at a time.
+     * @param afterId Exclusive lower bound of the record ids, null to start with the first record
+     * @param limit Maximum number of records to visit, null for all records
+     * @param consumer Receives the exported records
+     * @return The number of exported records
+     */
+    @PreAuthorize("hasRole('READONLY')")
+    long streamExportCatalogRecords(String afterId, Integer limit, Consumer<ExportItemResult> consumer);
+
+    /**
+     * Passes the exported relationships to the given consumer page by page,
+     * ordered by the id of the relating record.
+     * @param afterId Exclusive lower bound of the relating record ids, null to start with the first record
+     * @param limit Maximum number of relating records to visit, null for all records
+     * @param consumer Receives the exported relationships
+     * @return The number of exported relationships
+     */
+    @PreAuthorize("hasRole('READONLY')")
+    long streamExportCatalogRecordsRelationships(String afterId, Integer limit,
+                                                 Consumer<ExportRelationshipResult> consumer);
+
 }
@@ -0,0 +1,22 @@
+package de.bentrm.datacat.catalog.service;
+
+import de.bentrm.datacat.catalog.service.value.ImportResultValue;
+import de.bentrm.datacat.graphql.input.ImportEntriesInput;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public interface CatalogImportService {
+
+    /**
+     * Creates many catalog entries at once. The input is validated as a
+     * whole before anything is written, so the import either succeeds
+     * completely or not at all. Records, texts, tags and relationships are
+     * written in batched statements instead of one round trip per node.
+     * @param input The entries and the relationships between them or to existing records.
+     * @return The number of created nodes and relationships and the throughput.
+     */
+    @PreAuthorize("hasRole('USER')")
+    @NotNull ImportResultValue importEntries(@NotNull @Valid ImportEntriesInput input);
+}
@@ -5,6 +5,7 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import jakarta.validation.constraints.NotNull;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 public interface CatalogSearchService {
@@ -12,6 +13,13 @@ public interface CatalogSearchService {
     @PreAuthorize("hasRole('READONLY')")
     Page<XtdRoot> search(@NotNull CatalogRecordSpecification specification);
 
+    /**
+     * Loads the page requested by the specification without counting all
+     * matching records.
+     */
+    @PreAuthorize("hasRole('READONLY')")
+    Slice<XtdRoot> searchWithoutTotal(@NotNull CatalogRecordSpecification specification);
+
     @PreAuthorize("hasRole('READONLY')")
     public Long count(@NotNull CatalogRecordSpecification specification);
 
@@ -1,16 +1,20 @@
 package de.bentrm.datacat.catalog.service;
 
 import de.bentrm.datacat.catalog.domain.*;
+import de.bentrm.datacat.catalog.service.value.DeleteResultValue;
 import de.bentrm.datacat.catalog.service.value.HierarchyValue;
 import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.dto.CatalogStatistics;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CatalogService {
 
@@ -31,6 +35,15 @@ public interface CatalogService {
     @PreAuthorize("hasRole('USER')")
     @NotNull CatalogRecord removeTag(@NotBlank String entryId, @NotBlank String tagId);
 
+    /**
+     * Deletes the given records together with their texts and rationals.
+     * Nothing is deleted if one of the records does not exist.
+     * @param ids The ids of the records.
+     * @return The number of deleted records and dependent nodes and the throughput.
+     */
+    @PreAuthorize("hasRole('USER')")
+    @NotNull DeleteResultValue deleteEntries(@NotEmpty List<@NotBlank String> ids);
+
     @PreAuthorize("hasRole('READONLY')")
     @NotNull List<CatalogRecord> getAllEntriesById(List<String> ids);
 
@@ -52,6 +65,13 @@ public interface CatalogService {
     @PreAuthorize("hasRole('READONLY')")
     @NotNull Optional<CatalogRecord> getEntryById(@NotBlank String id);
 
+    /**
+     * Loads the record with the relationships of the given fields only,
+     * e.g. the fields selected by a GraphQL query.
+     */
+    @PreAuthorize("hasRole('READONLY')")
+    @NotNull Optional<CatalogRecord> getEntryById(@NotBlank String id, @NotNull Collection<String> fieldNames);
+
     @PreAuthorize("hasRole('READONLY')")
     @NotNull Optional<XtdObject> getObject(@NotNull String id);
 
@@ -70,6 +90,16 @@ public interface CatalogService {
     @PreAuthorize("hasRole('READONLY')")
     HierarchyValue getHierarchy(@NotNull CatalogRecordSpecification rootNodeSpecification);
 
+    /**
+     * Lazily produces the hierarchy in chunks. Each chunk holds up to about
+     * {@code batchSize} paths and the nodes first referenced by these paths.
+     * @param rootNodeSpecification Specification of the root nodes
+     * @param batchSize Number of paths per chunk
+     * @return Stream of hierarchy chunks, evaluated as it is consumed
+     */
+    @PreAuthorize("hasRole('READONLY')")
+    @NotNull Stream<HierarchyValue> streamHierarchy(@NotNull CatalogRecordSpecification rootNodeSpecification, int batchSize);
+
     @PreAuthorize("hasRole('READONLY')")
     @NotNull List<Tag> getTags(@NotNull String record);
     
@@ -0,0 +1,58 @@
+package de.bentrm.datacat.catalog.service;
+
+import de.bentrm.datacat.catalog.domain.CatalogRecord;
+import de.bentrm.datacat.graphql.dto.CatalogStatistics;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Internal utility service that keeps the number of records per label, tag
+ * and dictionary in memory. The counts are adjusted by the record services
+ * and periodically reconciled with the database.
+ */
+public interface CatalogStatisticsService {
+
+    /**
+     * @return The current counts, read from memory.
+     */
+    @NotNull CatalogStatistics getStatistics();
+
+    /**
+     * Counts a new record, its tags and its dictionary once the surrounding
+     * transaction has been committed.
+     * @param record The created record.
+     */
+    void recordCreated(@NotNull CatalogRecord record);
+
+    /**
+     * Removes a deleted record, its tags and its dictionary from the counts
+     * once the surrounding transaction has been committed.
+     * @param record The deleted record as loaded with its direct relations.
+     */
+    void recordDeleted(@NotNull CatalogRecord record);
+
+    /**
+     * Adjusts the number of records tagged with the given tag.
+     * @param tagId The id of the tag.
+     * @param tagged True if a record has been tagged, false if the tag has been removed.
+     */
+    void recordTagged(@NotNull String tagId, boolean tagged);
+
+    /**
+     * Adjusts the number of objects assigned to the given dictionary.
+     * @param dictionaryId The id of the dictionary.
+     * @param assigned True if an object has been assigned, false if it has been removed.
+     */
+    void recordDictionaryAssigned(@NotNull String dictionaryId, boolean assigned);
+
+    /**
+     * Recounts everything in the background once the surrounding transaction
+     * has been committed, e.g. after tags have been changed or records have
+     * been imported.
+     */
+    void invalidate();
+
+    /**
+     * Recounts all records, tags and dictionaries in the database.
+     */
+    void reconcile();
+}
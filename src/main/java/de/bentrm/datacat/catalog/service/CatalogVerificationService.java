@@ -1,11 +1,19 @@
 package de.bentrm.datacat.catalog.service;
 
 import de.bentrm.datacat.catalog.service.value.VerificationConnection;
+import de.bentrm.datacat.catalog.service.value.VerificationSummaryValue;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 public interface CatalogVerificationService {
 
+    /**
+     * Runs all verification checks concurrently and refreshes their stored
+     * results. Callers arriving while a verification is running share its result.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    VerificationSummaryValue verifyCatalog();
+
     @PreAuthorize("hasRole('READONLY')")
     VerificationConnection getPropGroupWithoutProp(Pageable pageable);
 
@@ -13,6 +13,7 @@ import jakarta.validation.constraints.NotNull;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ConceptRecordService extends SimpleRecordService<XtdConcept> {
@@ -31,6 +32,20 @@ public interface ConceptRecordService extends SimpleRecordService<XtdConcept> {
 
     List<XtdMultiLanguageText> getDescriptions(@NotNull XtdConcept concept);
 
+    Map<String, List<XtdExternalDocument>> getReferenceDocumentsForConcepts(@NotNull List<String> conceptIds);
+
+    Map<String, List<XtdMultiLanguageText>> getExamplesForConcepts(@NotNull List<String> conceptIds);
+
+    Map<String, XtdCountry> getCountriesOfOriginForConcepts(@NotNull List<String> conceptIds);
+
+    Map<String, List<XtdConcept>> getSimilarConceptsForConcepts(@NotNull List<String> conceptIds);
+
+    Map<String, XtdMultiLanguageText> getDefinitionsForConcepts(@NotNull List<String> conceptIds);
+
+    Map<String, XtdLanguage> getLanguagesOfCreatorForConcepts(@NotNull List<String> conceptIds);
+
+    Map<String, List<XtdMultiLanguageText>> getDescriptionsForConcepts(@NotNull List<String> conceptIds);
+
     @PreAuthorize("hasRole('USER')")
     @NotNull XtdConcept addDescription(@NotNull AddTextInput input);
 
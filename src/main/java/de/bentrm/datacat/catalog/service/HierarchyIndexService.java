@@ -0,0 +1,35 @@
+package de.bentrm.datacat.catalog.service;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Internal utility service that keeps an in-memory index of the relationship
+ * graph used to answer hierarchy queries without traversing the database on
+ * every request.
+ */
+public interface HierarchyIndexService {
+
+    /**
+     * Looks up all hierarchy paths starting at the given root records.
+     * Each path lists the ids of the visible records along the path,
+     * starting with the root record.
+     * @param rootIds The ids of the root records.
+     * @return The paths reachable from the given root records.
+     */
+    @NotNull List<List<String>> findPaths(@NotNull List<String> rootIds);
+
+    /**
+     * Marks the given record as changed. The outgoing and incoming
+     * relationships of the record are reloaded once the surrounding
+     * transaction has been committed. Deleted records are removed from the index.
+     * @param recordId The id of the created, updated or deleted record.
+     */
+    void markDirty(String recordId);
+
+    /**
+     * Discards the index. It is rebuilt from the database on the next lookup.
+     */
+    void invalidate();
+}
@@ -1,12 +1,26 @@
 package de.bentrm.datacat.catalog.service;
 
+import de.bentrm.datacat.catalog.domain.TranslationResult;
 import de.bentrm.datacat.catalog.domain.XtdMultiLanguageText;
 import de.bentrm.datacat.catalog.domain.XtdText;
 
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
+import java.util.Map;
 
 public interface MultiLanguageTextRecordService extends SimpleRecordService<XtdMultiLanguageText> {
 
     List<XtdText> getTexts(@NotNull XtdMultiLanguageText multiLanguageText);
+
+    Map<String, List<XtdText>> getTextsForMultiLanguageTexts(@NotNull List<String> multiLanguageTextIds);
+
+    /**
+     * Loads the texts of the first multi language text linked from each of
+     * the given records by the given relationship type in one query.
+     * @param ownerIds The ids of the records owning the multi language texts.
+     * @param relationshipType The relationship type, e.g. COMMENTS or DESCRIPTIONS.
+     * @return The texts with their language code and the id of the owning record.
+     */
+    @NotNull List<TranslationResult> findTranslations(@NotNull List<String> ownerIds, @NotBlank String relationshipType);
 }
@@ -0,0 +1,34 @@
+package de.bentrm.datacat.catalog.service;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Internal utility service that caches the localized names of objects
+ * per object id and language code.
+ */
+public interface ObjectNameCacheService {
+
+    String CACHE_NAME = "objectNames";
+
+    /**
+     * Looks up the names of the given objects in the cache and loads the missing ones.
+     * Objects without a name are cached as well.
+     * @param objectIds The ids of the objects.
+     * @param languageCode The requested language.
+     * @param loader Loads the names of the objects that are not cached, mapped by object id.
+     * @return The names mapped by object id, objects without a name are omitted.
+     */
+    @NotNull Map<String, String> getNames(@NotNull List<String> objectIds, @NotNull String languageCode,
+                                          @NotNull Function<List<String>, Map<String, String>> loader);
+
+    /**
+     * Removes the cached names of the given object in all languages. Within
+     * a transaction the entries are removed once it has been committed.
+     * @param objectId The id of the object whose names changed.
+     */
+    void evict(String objectId);
+}
@@ -12,6 +12,7 @@ import de.bentrm.datacat.catalog.domain.Enums.XtdStatusOfActivationEnum;
 import de.bentrm.datacat.graphql.input.AddTextInput;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ObjectRecordService extends SimpleRecordService<XtdObject> {
@@ -27,6 +28,18 @@ public interface ObjectRecordService extends SimpleRecordService<XtdObject> {
     List<XtdMultiLanguageText> getNames(@NotNull XtdObject object);
 
     List<XtdMultiLanguageText> getComments(@NotNull XtdObject object);
+
+    Map<String, XtdDictionary> getDictionariesForObjects(@NotNull List<String> objectIds);
+
+    Map<String, XtdMultiLanguageText> getDeprecationExplanationsForObjects(@NotNull List<String> objectIds);
+
+    Map<String, List<XtdObject>> getReplacedObjectsForObjects(@NotNull List<String> objectIds);
+
+    Map<String, List<XtdObject>> getReplacingObjectsForObjects(@NotNull List<String> objectIds);
+
+    Map<String, List<XtdMultiLanguageText>> getNamesForObjects(@NotNull List<String> objectIds);
+
+    Map<String, List<XtdMultiLanguageText>> getCommentsForObjects(@NotNull List<String> objectIds);
     
     @PreAuthorize("hasRole('USER')")
     @NotNull XtdObject addComment(@NotNull AddTextInput input);
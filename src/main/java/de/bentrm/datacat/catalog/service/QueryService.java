@@ -3,9 +3,11 @@ package de.bentrm.datacat.catalog.service;
 import de.bentrm.datacat.base.domain.Entity;
 import de.bentrm.datacat.base.specification.QuerySpecification;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,13 @@ public interface QueryService<T extends Entity> {
     @PreAuthorize("hasRole('READONLY')")
     @NotNull Page<T> findAll(@NotNull QuerySpecification specification);
 
+    /**
+     * Loads the page requested by the specification without counting all
+     * matching records, e.g. if the client does not ask for the total.
+     */
+    @PreAuthorize("hasRole('READONLY')")
+    @NotNull Slice<T> findAllWithoutTotal(@NotNull QuerySpecification specification);
+
     @PreAuthorize("hasRole('READONLY')")
     @NotNull Long count(@NotNull QuerySpecification specification);
 
@@ -29,6 +38,16 @@ public interface QueryService<T extends Entity> {
     @PreAuthorize("hasRole('READONLY')")
     @NotNull Optional<T> findByIdWithDirectRelations(@NotNull String id, @NotNull String type);
 
+    /**
+     * Loads the record with the relationships of the given fields only,
+     * e.g. the fields selected by a GraphQL query. Other names are ignored.
+     */
+    @PreAuthorize("hasRole('READONLY')")
+    @NotNull Optional<T> findByIdWithRelations(@NotNull String id, @NotNull Collection<String> fieldNames);
+
     @PreAuthorize("hasRole('READONLY')")
     @NotNull List<T> findAllEntitiesById(@NotNull List<String> ids);
+
+    @PreAuthorize("hasRole('READONLY')")
+    @NotNull List<T> findAllByIdsWithDirectRelations(@NotNull List<String> ids);
 }
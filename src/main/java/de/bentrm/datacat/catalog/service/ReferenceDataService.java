@@ -0,0 +1,38 @@
+package de.bentrm.datacat.catalog.service;
+
+import de.bentrm.datacat.catalog.domain.XtdCountry;
+import de.bentrm.datacat.catalog.domain.XtdLanguage;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Optional;
+
+/**
+ * Internal utility service that keeps the language and country records in
+ * memory. They are static reference data that is read on almost every
+ * write, e.g. for each translation of a new record.
+ */
+public interface ReferenceDataService {
+
+    /**
+     * @param code The language code, e.g. "de-DE".
+     * @return A new instance of the language record without relationships.
+     */
+    Optional<XtdLanguage> findLanguageByCode(@NotNull String code);
+
+    /**
+     * @param code The country code, e.g. "DE".
+     * @return A new instance of the country record without relationships.
+     */
+    Optional<XtdCountry> findCountryByCode(@NotNull String code);
+
+    /**
+     * Loads the languages and countries from the database.
+     */
+    void load();
+
+    /**
+     * Reloads the languages and countries, e.g. after one of them has been
+     * saved. Within a transaction they are reloaded once it has been committed.
+     */
+    void refresh();
+}
@@ -7,6 +7,7 @@ import de.bentrm.datacat.catalog.domain.XtdSubject;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface SubjectRecordService extends SimpleRecordService<XtdSubject> {
@@ -17,6 +18,23 @@ public interface SubjectRecordService extends SimpleRecordService<XtdSubject> {
 
     List<XtdRelationshipToSubject> getConnectingSubjects(@NotNull XtdSubject subject);
 
+    /**
+     * Loads the relationships starting at the given subjects together with
+     * their directly related records, e.g. the relationship type and the targets.
+     *
+     * @param relationshipTypeName Restricts the result to relationships of the named type if not null.
+     * @return The relationships mapped by the id of the subject.
+     */
+    Map<String, List<XtdRelationshipToSubject>> getConnectedSubjectsForSubjects(@NotNull List<String> subjectIds,
+                                                                                String relationshipTypeName);
+
+    /**
+     * Variant of {@link #getConnectedSubjectsForSubjects(List, String)} for
+     * the relationships targeting the given subjects.
+     */
+    Map<String, List<XtdRelationshipToSubject>> getConnectingSubjectsForSubjects(@NotNull List<String> subjectIds,
+                                                                                 String relationshipTypeName);
+
     Optional<XtdSubject> findByIdWithIncomingAndOutgoingRelations(@NotNull String id);
 
 }
@@ -3,6 +3,9 @@ package de.bentrm.datacat.catalog.service;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import de.bentrm.datacat.catalog.domain.XtdText;
@@ -13,6 +16,8 @@ public interface TextRecordService extends SimpleRecordService<XtdText> {
 
     XtdLanguage getLanguage(@NotNull XtdText text);
 
+    Map<String, XtdLanguage> getLanguagesForTexts(@NotNull List<String> textIds);
+
     @PreAuthorize("hasRole('USER')")
     @NotNull XtdText updateText(@NotBlank String commentId, @NotBlank String value);
 
@@ -21,4 +26,7 @@ public interface TextRecordService extends SimpleRecordService<XtdText> {
 
     @PreAuthorize("hasRole('USER')")
     @NotNull TextCountResult countTexts(@NotBlank String commentId);
+
+    @PreAuthorize("hasRole('READONLY')")
+    @NotNull List<String> findObjectIdsNamedByText(@NotBlank String textId);
 }
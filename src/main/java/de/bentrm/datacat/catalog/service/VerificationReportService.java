@@ -0,0 +1,46 @@
+package de.bentrm.datacat.catalog.service;
+
+import de.bentrm.datacat.catalog.service.value.VerificationReport;
+import de.bentrm.datacat.catalog.service.value.VerificationSummaryValue;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Internal utility service that keeps the results of the verification
+ * reports in memory. Reports are computed in the background and recomputed
+ * once records they depend on have changed, so paging through a report does
+ * not scan the catalog again.
+ */
+public interface VerificationReportService {
+
+    /**
+     * Pages through the ids of the records listed by the given report. The
+     * last computed result is returned while a recomputation is pending.
+     * @param report The requested report.
+     * @param pageable The requested page.
+     * @return The ids of the records on the requested page.
+     */
+    @NotNull Page<String> findIds(@NotNull VerificationReport report, @NotNull Pageable pageable);
+
+    /**
+     * Recomputes all reports concurrently. The number of queries running at
+     * the same time is limited by {@code datacat.verification.max-concurrent-checks}.
+     * A call made while a verification is running waits for and returns its result.
+     * @return The number of listed records and the duration per report.
+     */
+    @NotNull VerificationSummaryValue verifyAll();
+
+    /**
+     * Marks the given record as changed. The reports depending on the record
+     * are recomputed once the surrounding transaction has been committed.
+     * @param recordId The id of the created, updated or deleted record.
+     */
+    void markDirty(String recordId);
+
+    /**
+     * Marks all reports as outdated, e.g. after a bulk import. Within a
+     * transaction they are recomputed once it has been committed.
+     */
+    void invalidate();
+}
@@ -1,22 +1,25 @@
 package de.bentrm.datacat.catalog.service.impl;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
-import org.springframework.data.support.PageableExecutionUtils;
 
 import de.bentrm.datacat.base.domain.Entity;
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
 import de.bentrm.datacat.base.repository.EntityRepository;
 import de.bentrm.datacat.base.specification.QuerySpecification;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
+import de.bentrm.datacat.catalog.domain.RelatedRecordResult;
 import de.bentrm.datacat.catalog.service.QueryService;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -32,10 +35,16 @@ public abstract class AbstractQueryServiceImpl<T extends Entity, R extends Entit
     public final Neo4jTemplate neo4jTemplate;
     private final R repository;
 
-    public AbstractQueryServiceImpl(Class<T> domainClass, Neo4jTemplate neo4jTemplate, R repository) {
+    private final SpecificationQueryExecutor queryExecutor;
+    private final EntityProjectionLoader projectionLoader;
+
+    public AbstractQueryServiceImpl(Class<T> domainClass, Neo4jTemplate neo4jTemplate, R repository,
+                                    SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
         this.domainClass = domainClass;
         this.neo4jTemplate = neo4jTemplate;
         this.repository = repository;
+        this.queryExecutor = queryExecutor;
+        this.projectionLoader = projectionLoader;
     }
 
     @Override
@@ -53,6 +62,11 @@ public abstract class AbstractQueryServiceImpl<T extends Entity, R extends Entit
         return repository.findByIdWithDirectRelations(id, type);
     }
 
+    @Override
+    public @NotNull Optional<T> findByIdWithRelations(@NotNull String id, @NotNull Collection<String> fieldNames) {
+        return projectionLoader.findById(id, domainClass, fieldNames);
+    }
+
     @Override
     public @NotNull List<T> findAllByIds(@NotNull List<String> ids) {
         Iterable<T> source = repository.findAllById(ids);
@@ -66,63 +80,63 @@ public abstract class AbstractQueryServiceImpl<T extends Entity, R extends Entit
     }
 
     @Override
-    public @NotNull Page<T> findAll(@NotNull QuerySpecification specification) {
-        Collection<T> users;
-        Pageable pageable;
-        final Long count = count(specification);
-
-        final Optional<Pageable> paged = specification.getPageable();
-        if (paged.isPresent()) {
-            pageable = paged.get();
-            if (pageable.getSort().isUnsorted()) {
-                users = neo4jTemplate.findAll(getQuery(specification, pageable), domainClass);
-            } else {
-                final Sort sort = pageable.getSort();
-                final Sort.Direction direction = sort.get().findFirst().map(Sort.Order::getDirection).get();
-                final String[] properties = sort.get().map(Sort.Order::getProperty).toArray(String[]::new);
-                users = neo4jTemplate.findAll(getQuery(specification, pageable, direction, properties), domainClass);
+    public @NotNull List<T> findAllByIdsWithDirectRelations(@NotNull List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllByIdWithDirectRelations(ids);
+    }
+
+    /**
+     * Groups the related records of many records. All related records are
+     * loaded with a single call of the given loader.
+     *
+     * @param relations The id pairs of the records and their related records.
+     * @param loader    Loads the related records by their ids.
+     * @return The related records mapped by the id of the record they are related to.
+     */
+    protected <V extends Entity> Map<String, List<V>> mapRelatedRecords(List<RelatedRecordResult> relations,
+                                                                        Function<List<String>, List<V>> loader) {
+        if (relations.isEmpty()) {
+            return Map.of();
+        }
+        final List<String> relatedIds = relations.stream().map(RelatedRecordResult::getRelatedId).distinct().toList();
+        final Map<String, V> relatedRecords = loader.apply(relatedIds).stream()
+                .collect(Collectors.toMap(Entity::getId, Function.identity(), (a, b) -> a));
+
+        final Map<String, List<V>> result = new HashMap<>();
+        for (RelatedRecordResult relation : relations) {
+            final V relatedRecord = relatedRecords.get(relation.getRelatedId());
+            if (relatedRecord != null) {
+                result.computeIfAbsent(relation.getId(), id -> new ArrayList<>()).add(relatedRecord);
             }
-        } else {
-            pageable = PageRequest.of(0, (int) Math.max(count, 10));
-            users = neo4jTemplate.findAll(getQuery(specification, pageable), domainClass);
         }
+        return result;
+    }
 
-        return PageableExecutionUtils.getPage(List.copyOf(users), pageable, () -> count);
+    /**
+     * Variant of {@link #mapRelatedRecords(List, Function)} for relationships
+     * with a single related record.
+     */
+    protected <V extends Entity> Map<String, V> mapRelatedRecord(List<RelatedRecordResult> relations,
+                                                                 Function<List<String>, List<V>> loader) {
+        final Map<String, V> result = new HashMap<>();
+        mapRelatedRecords(relations, loader).forEach((id, records) -> result.put(id, records.get(0)));
+        return result;
     }
 
     @Override
-    public @NotNull Long count(@NotNull QuerySpecification specification) {
-        String query;
-        if (specification.getFilters().isEmpty()) {
-            query = "MATCH (n:" + domainClass.getSimpleName() + ") RETURN count(n)";
-        } else {
-            String whereClause = "WHERE " + String.join(" AND ", specification.getFilters());
-            query = "MATCH (n:" + domainClass.getSimpleName() + ") " + whereClause + " RETURN count(n)";
-        }
-        return neo4jTemplate.count(query);
+    public @NotNull Page<T> findAll(@NotNull QuerySpecification specification) {
+        return queryExecutor.findPage(specification, domainClass.getSimpleName(), domainClass);
     }
 
-    public String getQuery(QuerySpecification specification, Pageable pageable) {
-        return (getQuery(specification, pageable, null, null));
+    @Override
+    public @NotNull Slice<T> findAllWithoutTotal(@NotNull QuerySpecification specification) {
+        return queryExecutor.findSlice(specification, domainClass.getSimpleName(), domainClass);
     }
 
-    public String getQuery(QuerySpecification specification, Pageable pageable, Sort.Direction direction,
-            String[] properties) {
-        String query;
-        String sort = "";
-        if (direction != null && properties != null) {
-            List<String> prefixedProperties = Arrays.stream(properties)
-                    .map(property -> "n.`" + property + "` " + direction.name()).collect(Collectors.toList());
-            sort = " ORDER BY " + String.join(", ", prefixedProperties);
-        }
-
-        if (specification.getFilters().isEmpty()) {
-            query = "MATCH (n:" + domainClass.getSimpleName() + ")" + sort + " RETURN n";
-        } else {
-            String whereClause = "WHERE " + String.join(" AND ", specification.getFilters());
-            query = "MATCH (n:" + domainClass.getSimpleName() + ") " + whereClause + sort +" RETURN n";
-        }
-        query = query + " SKIP " + pageable.getOffset() + " LIMIT " + pageable.getPageSize();
-        return query;
+    @Override
+    public @NotNull Long count(@NotNull QuerySpecification specification) {
+        return queryExecutor.count(specification, domainClass.getSimpleName());
     }
 }
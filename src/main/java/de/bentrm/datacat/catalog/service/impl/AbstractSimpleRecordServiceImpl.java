@@ -9,9 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
 import de.bentrm.datacat.base.repository.EntityRepository;
-import de.bentrm.datacat.catalog.repository.CountryRepository;
-import de.bentrm.datacat.catalog.repository.LanguageRepository;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.repository.MultiLanguageTextRepository;
 import de.bentrm.datacat.catalog.repository.TextRepository;
 import de.bentrm.datacat.catalog.domain.CatalogRecord;
@@ -35,6 +35,9 @@ import de.bentrm.datacat.catalog.domain.XtdUnit;
 import de.bentrm.datacat.catalog.domain.XtdValue;
 import de.bentrm.datacat.catalog.domain.XtdValueList;
 import de.bentrm.datacat.catalog.service.CatalogCleanupService;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import de.bentrm.datacat.catalog.service.ReferenceDataService;
 import de.bentrm.datacat.catalog.service.SimpleRecordService;
 import de.bentrm.datacat.catalog.service.dto.Relationships.CountryOfOriginDtoProjection;
 import de.bentrm.datacat.catalog.service.value.ValueMapper;
@@ -56,20 +59,24 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
     private final CatalogCleanupService cleanupService;
 
     @Autowired
-    private LanguageRepository languageRepository;
+    protected ReferenceDataService referenceDataService;
 
     @Autowired
-    private TextRepository textRepository;
+    protected CatalogStatisticsService statisticsService;
 
     @Autowired
-    private CountryRepository countryRepository;
+    private TextRepository textRepository;
 
     @Autowired
     private MultiLanguageTextRepository multiLanguageTextRepository;
 
+    @Autowired
+    protected HierarchyIndexService hierarchyIndexService;
+
     public AbstractSimpleRecordServiceImpl(Class<T> domainClass, Neo4jTemplate neo4jTemplate, R repository,
-            CatalogCleanupService cleanupService) {
-        super(domainClass, neo4jTemplate, repository);
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(domainClass, neo4jTemplate, repository, queryExecutor, projectionLoader);
         this.cleanupService = cleanupService;
     }
 
@@ -204,6 +211,11 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
             setCountry(properties.getCountryOfOrigin(), concept::setCountryOfOrigin);
             neo4jTemplate.saveAs(concept, CountryOfOriginDtoProjection.class);
         }
+        hierarchyIndexService.markDirty(newRecord.getId());
+        statisticsService.recordCreated(newRecord);
+        if (newRecord instanceof XtdLanguage || newRecord instanceof XtdCountry) {
+            referenceDataService.refresh();
+        }
 
         log.trace("Persisted new catalog entry: {}", newRecord);
         return newRecord;
@@ -219,6 +231,7 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
         });
         multiLanguage.getTexts().addAll(texts);
         multiLanguage = multiLanguageTextRepository.save(multiLanguage);
+        statisticsService.recordCreated(multiLanguage);
         return multiLanguage;
     }
 
@@ -231,7 +244,7 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
 
     private void setLanguage(String languageCode, Consumer<XtdLanguage> setter) {
         if (languageCode != null) {
-            XtdLanguage language = languageRepository.findByCode(languageCode).orElseThrow(
+            XtdLanguage language = referenceDataService.findLanguageByCode(languageCode).orElseThrow(
                     () -> new IllegalArgumentException("No language record with code " + languageCode + " found."));
             setter.accept(language);
         }
@@ -239,7 +252,7 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
 
     private void setCountry(String countryCode, Consumer<XtdCountry> setter) {
         if (countryCode != null) {
-            XtdCountry country = countryRepository.findByCode(countryCode).orElseThrow(
+            XtdCountry country = referenceDataService.findCountryByCode(countryCode).orElseThrow(
                     () -> new IllegalArgumentException("No country record with code " + countryCode + " found."));
             setter.accept(country);
         }
@@ -247,7 +260,7 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
 
     @Transactional
     public XtdText createText(TranslationInput translation) {
-        final XtdLanguage language = languageRepository.findByCode(translation.getLanguageTag())
+        final XtdLanguage language = referenceDataService.findLanguageByCode(translation.getLanguageTag())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No language record with code " + translation.getLanguageTag() + " found."));
 
@@ -258,6 +271,7 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
         text.setLanguage(language);
 
         textRepository.save(text);
+        statisticsService.recordCreated(text);
         return text;
     }
 
@@ -275,10 +289,15 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
     @Override
     public @NotNull T removeRecord(@NotBlank String id) {
         log.trace("Deleting simple catalog record with id {}...", id);
-        final T entry = this.getRepository().findByIdWithDirectRelations(id)
+        // the statistics are adjusted by the tags and dictionary of the record
+        final T entry = this.findByIdWithRelations(id, List.of("tags", "dictionary"))
                 .orElseThrow(() -> new IllegalArgumentException("No record with id " + id + " found."));
 
-        cleanupService.deleteNodeWithRelationships(id);
+        cleanupService.deleteNodesWithDependents(List.of(id));
+        statisticsService.recordDeleted(entry);
+        if (entry instanceof XtdLanguage || entry instanceof XtdCountry) {
+            referenceDataService.refresh();
+        }
 
         log.trace("Catalog item deleted: {}", entry);
 
@@ -292,7 +311,7 @@ public abstract class AbstractSimpleRecordServiceImpl<T extends CatalogRecord, R
         log.info("removeRelationship called: recordId={}, relatedRecordId={}, relationType={}", 
             recordId, relatedRecordId, relationType.getRelationProperty());
         log.trace("Deleting relationship from record with id {}...", recordId);
-        final T entry = this.getRepository().findByIdWithDirectRelations(recordId)
+        final T entry = this.findByIdWithRelations(recordId, List.of())
                 .orElseThrow(() -> new IllegalArgumentException("No record with id " + recordId + " found."));
 
         log.info("Found entry, calling purgeRelationship...");
@@ -3,7 +3,11 @@ package de.bentrm.datacat.catalog.service.impl;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.repository.RootRepository;
 import de.bentrm.datacat.catalog.service.CatalogCleanupService;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import de.bentrm.datacat.catalog.service.VerificationReportService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -11,16 +15,58 @@ import org.springframework.util.Assert;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Service
 @Transactional
 public class CatalogCleanupServiceImpl implements CatalogCleanupService {
 
+    /**
+     * Relationships to texts and rationals that only exist as part of the related record.
+     */
+    private static final String DEPENDENT_RELATIONSHIPS = String.join("|",
+            "NAMES", "COMMENTS", "DEPRECATION_EXPLANATION", "DESCRIPTIONS", "DEFINITION", "EXAMPLES", "NAME",
+            "SYMBOL", "OFFSET", "COEFFICIENT", "THERMODYNAMIC_TEMPERATURE_EXPONENT", "ELECTRIC_CURRENT_EXPONENT",
+            "TIME_EXPONENT", "MASS_EXPONENT", "LENGTH_EXPONENT", "LUMINOUS_INTENSITY_EXPONENT",
+            "AMOUNT_OF_SUBSTANCE_EXPONENT");
+
+    private static final String DELETE_WITH_DEPENDENTS_QUERY = """
+            UNWIND $ids AS id
+            MATCH (n:CatalogRecord {id: id})
+            OPTIONAL MATCH (n)-[:%s]->(dependent)
+            WHERE dependent:XtdMultiLanguageText OR dependent:XtdText OR dependent:XtdRational
+            OPTIONAL MATCH (dependent)-[:TEXTS]->(translation:XtdText)
+            WITH collect(n) + collect(dependent) + collect(translation) AS nodes
+            UNWIND nodes AS node
+            WITH DISTINCT node
+            WITH node, node.id AS id
+            DETACH DELETE node
+            RETURN id
+            """.formatted(DEPENDENT_RELATIONSHIPS);
+
     private final RootRepository rootRepository;
 
-    public CatalogCleanupServiceImpl(RootRepository rootRepository) {
+    private final Neo4jClient neo4jClient;
+
+    private final HierarchyIndexService hierarchyIndexService;
+
+    private final VerificationReportService verificationReportService;
+
+    private final CatalogStatisticsService statisticsService;
+
+    public CatalogCleanupServiceImpl(RootRepository rootRepository, Neo4jClient neo4jClient,
+                                     HierarchyIndexService hierarchyIndexService,
+                                     VerificationReportService verificationReportService,
+                                     CatalogStatisticsService statisticsService) {
 
         this.rootRepository = rootRepository;
+        this.neo4jClient = neo4jClient;
+        this.hierarchyIndexService = hierarchyIndexService;
+        this.verificationReportService = verificationReportService;
+        this.statisticsService = statisticsService;
 
     }
 
@@ -28,6 +74,27 @@ public class CatalogCleanupServiceImpl implements CatalogCleanupService {
     public void deleteNodeWithRelationships(@NotBlank String recordId) {
         Assert.hasText(recordId, "the given record id may not be blank");
         rootRepository.deleteNodeAndRelationships(recordId);
+        hierarchyIndexService.markDirty(recordId);
+        verificationReportService.markDirty(recordId);
+    }
+
+    @Override
+    public int deleteNodesWithDependents(@NotNull Collection<String> recordIds) {
+        Assert.notNull(recordIds, "the given record ids may not be null");
+        final List<String> deletedIds = List.copyOf(neo4jClient.query(DELETE_WITH_DEPENDENTS_QUERY)
+                .bind(List.copyOf(recordIds)).to("ids")
+                .fetchAs(String.class)
+                .mappedBy((typeSystem, record) -> record.get("id").asString())
+                .all());
+        deletedIds.forEach(hierarchyIndexService::markDirty);
+        deletedIds.forEach(verificationReportService::markDirty);
+        final Set<String> requestedIds = Set.copyOf(recordIds);
+        if (deletedIds.stream().anyMatch(id -> !requestedIds.contains(id))) {
+            // The owned texts and rationals are counted as well
+            statisticsService.invalidate();
+        }
+        log.trace("Deleted {} nodes for {} records", deletedIds.size(), requestedIds.size());
+        return deletedIds.size();
     }
 
     @Override
@@ -38,6 +105,13 @@ public class CatalogCleanupServiceImpl implements CatalogCleanupService {
         log.info("Purging relationship: from={}, to={}, type={}", recordId, relatedRecordId, relationType.getRelationProperty());
         rootRepository
                 .removeRelationship(recordId, relatedRecordId, relationType.getRelationProperty());
+        hierarchyIndexService.markDirty(recordId);
+        hierarchyIndexService.markDirty(relatedRecordId);
+        verificationReportService.markDirty(recordId);
+        verificationReportService.markDirty(relatedRecordId);
+        if (relationType == SimpleRelationType.Dictionary) {
+            statisticsService.recordDictionaryAssigned(relatedRecordId, false);
+        }
         log.info("Relationship purged successfully");
     }
 }
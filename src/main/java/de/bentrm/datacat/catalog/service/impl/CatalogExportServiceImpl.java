@@ -2,10 +2,13 @@ package de.bentrm.datacat.catalog.service.impl;
 
 import de.bentrm.datacat.catalog.domain.ExportItemResult;
 import de.bentrm.datacat.catalog.domain.ExportRelationshipResult;
+import de.bentrm.datacat.catalog.domain.ExportTextResult;
 import de.bentrm.datacat.catalog.repository.CatalogExportQuery;
 import de.bentrm.datacat.catalog.service.CatalogExportService;
 import de.bentrm.datacat.catalog.service.value.ExportCatalogRecordsValue;
 import de.bentrm.datacat.catalog.service.value.ExportRelationshipsValue;
+import de.bentrm.datacat.properties.AppProperties;
+import de.bentrm.datacat.properties.AppProperties.ExportProperties;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +17,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
 @Slf4j
 @Validated
@@ -24,9 +30,13 @@ public class CatalogExportServiceImpl implements CatalogExportService {
     @Autowired
     private CatalogExportQuery catalogExportQuery;
 
+    @Autowired
+    private AppProperties properties;
+
     @Override
     public ExportCatalogRecordsValue getExportCatalogRecords() {
-        List<ExportItemResult> leaves = catalogExportQuery.findExportCatalogRecords();
+        List<ExportItemResult> leaves = new ArrayList<>();
+        streamExportCatalogRecords(null, null, leaves::add);
         return new ExportCatalogRecordsValue(leaves);
     }
 
@@ -35,5 +45,84 @@ public class CatalogExportServiceImpl implements CatalogExportService {
         List<ExportRelationshipResult> leaves = catalogExportQuery.findExportCatalogRecordsRelationships();
         return new ExportRelationshipsValue(leaves);
     }
-    
+
+    @Override
+    public long streamExportCatalogRecords(String afterId, Integer limit, Consumer<ExportItemResult> consumer) {
+        final ExportProperties export = properties.getExport();
+        final String primaryLanguage = export.getPrimaryLanguage();
+        final String secondaryLanguage = export.getSecondaryLanguage();
+        final List<String> languageCodes = List.of(primaryLanguage, secondaryLanguage);
+
+        return streamPages(afterId, limit, catalogExportQuery::findExportCatalogRecordIds, ids -> {
+            final List<ExportItemResult> records = catalogExportQuery.findExportCatalogRecordsByIds(ids);
+
+            // facet -> language code -> text, per record id
+            final Map<String, Map<String, Map<String, String>>> texts = new HashMap<>();
+            for (ExportTextResult text : catalogExportQuery.findExportTexts(ids, languageCodes)) {
+                final String facet = "NAME".equals(text.getFacet()) ? "NAMES" : text.getFacet();
+                texts.computeIfAbsent(text.getId(), id -> new HashMap<>())
+                        .computeIfAbsent(facet, key -> new HashMap<>())
+                        .putIfAbsent(text.getLanguageCode(), text.getText());
+            }
+
+            for (ExportItemResult record : records) {
+                final Map<String, Map<String, String>> facets = texts.getOrDefault(record.getId(), Map.of());
+                final Map<String, String> names = facets.getOrDefault("NAMES", Map.of());
+                final Map<String, String> descriptions = facets.getOrDefault("DESCRIPTIONS", Map.of());
+                final Map<String, String> definitions = facets.getOrDefault("DEFINITION", Map.of());
+                record.setName(names.get(primaryLanguage));
+                record.setName_en(names.get(secondaryLanguage));
+                record.setDescription(descriptions.get(primaryLanguage));
+                record.setDescription_en(descriptions.get(secondaryLanguage));
+                record.setDefinition(definitions.get(primaryLanguage));
+                record.setDefinition_en(definitions.get(secondaryLanguage));
+                record.setExamples(facets.getOrDefault("EXAMPLES", Map.of()).get(primaryLanguage));
+                record.setDeprecationExplanation(
+                        facets.getOrDefault("DEPRECATION_EXPLANATION", Map.of()).get(primaryLanguage));
+                consumer.accept(record);
+            }
+            return records.size();
+        }, export.getPageSize());
+    }
+
+    @Override
+    public long streamExportCatalogRecordsRelationships(String afterId, Integer limit,
+                                                        Consumer<ExportRelationshipResult> consumer) {
+        return streamPages(afterId, limit, catalogExportQuery::findExportRelationshipSourceIds, ids -> {
+            final List<ExportRelationshipResult> relationships = new ArrayList<>(
+                    catalogExportQuery.findExportCatalogRecordsRelationshipsByIds(ids));
+            relationships.sort(Comparator.comparing(ExportRelationshipResult::getEntity1)
+                    .thenComparing(ExportRelationshipResult::getRelationship)
+                    .thenComparing(ExportRelationshipResult::getEntity2));
+            relationships.forEach(consumer);
+            return relationships.size();
+        }, properties.getExport().getPageSize());
+    }
+
+    /**
+     * Walks through the records in id order using the last id of each page as
+     * the lower bound of the next one.
+     */
+    private long streamPages(String afterId, Integer limit, BiFunction<String, Integer, List<String>> idLoader,
+                             ToIntFunction<List<String>> pageHandler, int maxPageSize) {
+        String cursor = afterId != null ? afterId : "";
+        long remaining = limit != null ? limit : Long.MAX_VALUE;
+        long exported = 0;
+
+        while (remaining > 0) {
+            final int pageSize = (int) Math.min(maxPageSize, remaining);
+            final List<String> ids = idLoader.apply(cursor, pageSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            exported += pageHandler.applyAsInt(ids);
+            cursor = ids.get(ids.size() - 1);
+            remaining -= ids.size();
+            log.trace("Exported page ending at id {}", cursor);
+            if (ids.size() < pageSize) {
+                break;
+            }
+        }
+        return exported;
+    }
 }
@@ -0,0 +1,575 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.auth.service.AuditLogService;
+import de.bentrm.datacat.catalog.domain.CatalogRecordType;
+import de.bentrm.datacat.catalog.domain.SimpleRelationType;
+import de.bentrm.datacat.catalog.domain.XtdConcept;
+import de.bentrm.datacat.catalog.domain.XtdCountry;
+import de.bentrm.datacat.catalog.domain.XtdDictionary;
+import de.bentrm.datacat.catalog.domain.XtdDimension;
+import de.bentrm.datacat.catalog.domain.XtdExternalDocument;
+import de.bentrm.datacat.catalog.domain.XtdInterval;
+import de.bentrm.datacat.catalog.domain.XtdMultiLanguageText;
+import de.bentrm.datacat.catalog.domain.XtdObject;
+import de.bentrm.datacat.catalog.domain.XtdProperty;
+import de.bentrm.datacat.catalog.domain.XtdQuantityKind;
+import de.bentrm.datacat.catalog.domain.XtdSubdivision;
+import de.bentrm.datacat.catalog.domain.XtdSubject;
+import de.bentrm.datacat.catalog.domain.XtdSymbol;
+import de.bentrm.datacat.catalog.domain.XtdText;
+import de.bentrm.datacat.catalog.domain.XtdUnit;
+import de.bentrm.datacat.catalog.domain.XtdValue;
+import de.bentrm.datacat.catalog.domain.XtdValueList;
+import de.bentrm.datacat.catalog.service.CatalogImportService;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import de.bentrm.datacat.catalog.service.ReferenceDataService;
+import de.bentrm.datacat.catalog.service.VerificationReportService;
+import de.bentrm.datacat.catalog.service.value.ImportResultValue;
+import de.bentrm.datacat.graphql.input.CatalogEntryPropertiesInput;
+import de.bentrm.datacat.graphql.input.CreateEntryInput;
+import de.bentrm.datacat.graphql.input.CreateRelationshipInput;
+import de.bentrm.datacat.graphql.input.ImportEntriesInput;
+import de.bentrm.datacat.graphql.input.TranslationInput;
+import de.bentrm.datacat.properties.AppProperties;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Writes imported catalog entries with batched {@code UNWIND} statements.
+ * The nodes are created with the same labels and properties the object
+ * mapping would write, but without loading or saving entities one by one.
+ * Only types whose properties are plain values or texts are supported,
+ * other types have to be created with {@code createCatalogEntry}.
+ */
+@Slf4j
+@Service
+@Validated
+@Transactional
+public class CatalogImportServiceImpl implements CatalogImportService {
+
+    private static final Map<CatalogRecordType, Class<? extends XtdObject>> SUPPORTED_TYPES = Map.of(
+            CatalogRecordType.Subject, XtdSubject.class,
+            CatalogRecordType.Property, XtdProperty.class,
+            CatalogRecordType.Value, XtdValue.class,
+            CatalogRecordType.ValueList, XtdValueList.class,
+            CatalogRecordType.QuantityKind, XtdQuantityKind.class);
+
+    /**
+     * The records each relationship type may connect, as accepted by the
+     * {@code setRelatedRecords} methods of the record services. Relationships
+     * that are nodes themselves or carry properties can not be imported in bulk.
+     */
+    private static final Map<SimpleRelationType, RelationshipEnds> RELATIONSHIP_ENDS = Map.ofEntries(
+            Map.entry(SimpleRelationType.BoundaryValues,
+                    RelationshipEnds.many(XtdInterval.LABEL, XtdProperty.LABEL)),
+            Map.entry(SimpleRelationType.Dictionary,
+                    RelationshipEnds.one(XtdDictionary.LABEL, XtdObject.LABEL)),
+            Map.entry(SimpleRelationType.Dimension,
+                    RelationshipEnds.one(XtdDimension.LABEL, XtdProperty.LABEL, XtdQuantityKind.LABEL, XtdUnit.LABEL)),
+            Map.entry(SimpleRelationType.Maximum,
+                    RelationshipEnds.one(XtdValueList.LABEL, XtdInterval.LABEL)),
+            Map.entry(SimpleRelationType.Minimum,
+                    RelationshipEnds.one(XtdValueList.LABEL, XtdInterval.LABEL)),
+            Map.entry(SimpleRelationType.PossibleValues,
+                    RelationshipEnds.many(XtdValueList.LABEL, XtdProperty.LABEL)),
+            Map.entry(SimpleRelationType.Properties,
+                    RelationshipEnds.many(XtdProperty.LABEL, XtdSubject.LABEL)),
+            Map.entry(SimpleRelationType.QuantityKinds,
+                    RelationshipEnds.many(XtdQuantityKind.LABEL, XtdProperty.LABEL)),
+            Map.entry(SimpleRelationType.ReferenceDocuments,
+                    RelationshipEnds.many(XtdExternalDocument.LABEL, XtdConcept.LABEL)),
+            Map.entry(SimpleRelationType.ReplacedObjects,
+                    RelationshipEnds.many(XtdObject.LABEL, XtdObject.LABEL)),
+            Map.entry(SimpleRelationType.SimilarTo,
+                    RelationshipEnds.many(XtdConcept.LABEL, XtdConcept.LABEL)),
+            Map.entry(SimpleRelationType.Subject,
+                    RelationshipEnds.one(XtdSubject.LABEL, XtdSymbol.LABEL)),
+            Map.entry(SimpleRelationType.Subdivisions,
+                    RelationshipEnds.many(XtdSubdivision.LABEL, XtdCountry.LABEL, XtdSubdivision.LABEL)),
+            Map.entry(SimpleRelationType.Symbols,
+                    RelationshipEnds.many(XtdSymbol.LABEL, XtdProperty.LABEL)),
+            Map.entry(SimpleRelationType.Units,
+                    RelationshipEnds.many(XtdUnit.LABEL, XtdProperty.LABEL, XtdQuantityKind.LABEL)),
+            Map.entry(SimpleRelationType.Unit,
+                    RelationshipEnds.one(XtdUnit.LABEL, XtdValueList.LABEL)));
+
+    private static final String TEXT_LABELS = labelsOf(XtdText.class);
+
+    private static final String MULTI_LANGUAGE_TEXT_LABELS = labelsOf(XtdMultiLanguageText.class);
+
+    /**
+     * Maximum number of validation errors reported at once.
+     */
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final Neo4jClient neo4jClient;
+
+    private final AppProperties properties;
+
+    private final AuditorAware<String> auditorAware;
+
+    private final HierarchyIndexService hierarchyIndexService;
+
+    private final AuditLogService auditLogService;
+
+    private final ReferenceDataService referenceDataService;
+
+    private final VerificationReportService verificationReportService;
+
+    private final CatalogStatisticsService statisticsService;
+
+    public CatalogImportServiceImpl(Neo4jClient neo4jClient, AppProperties properties,
+                                    AuditorAware<String> auditorAware, HierarchyIndexService hierarchyIndexService,
+                                    AuditLogService auditLogService, ReferenceDataService referenceDataService,
+                                    VerificationReportService verificationReportService,
+                                    CatalogStatisticsService statisticsService) {
+        this.neo4jClient = neo4jClient;
+        this.properties = properties;
+        this.auditorAware = auditorAware;
+        this.hierarchyIndexService = hierarchyIndexService;
+        this.auditLogService = auditLogService;
+        this.referenceDataService = referenceDataService;
+        this.verificationReportService = verificationReportService;
+        this.statisticsService = statisticsService;
+    }
+
+    @Override
+    public @NotNull ImportResultValue importEntries(@NotNull ImportEntriesInput input) {
+        final long startTime = System.currentTimeMillis();
+        final List<CreateEntryInput> entries = input.getEntries();
+        final List<CreateRelationshipInput> relationships =
+                input.getRelationships() != null ? input.getRelationships() : List.of();
+        requireComplete(entries, relationships);
+
+        final Map<String, CreateEntryInput> entriesById = assignIds(entries);
+        validate(entriesById, relationships);
+
+        final String auditor = auditorAware.getCurrentAuditor().orElse("SYSTEM");
+        final ImportRows rows = toRows(entriesById);
+
+        int texts = 0;
+        for (var group : rows.records.entrySet()) {
+            writeInBatches("UNWIND $rows AS row CREATE (n" + group.getKey() + ") SET n = row, "
+                    + "n.created = datetime(), n.lastModified = datetime(), "
+                    + "n.createdBy = $auditor, n.lastModifiedBy = $auditor", group.getValue(), auditor);
+        }
+        for (var group : rows.texts.entrySet()) {
+            writeInBatches("""
+                    UNWIND $rows AS row
+                    MATCH (n:XtdObject {id: row.ownerId})
+                    CREATE (n)-[:%s]->(m%s {id: row.id, created: datetime(), lastModified: datetime(),
+                        createdBy: $auditor, lastModifiedBy: $auditor})
+                    WITH m, row
+                    UNWIND row.texts AS t
+                    MATCH (l:XtdLanguage {code: t.languageCode})
+                    CREATE (m)-[:TEXTS]->(x%s {id: t.id, text: t.text, created: datetime(), lastModified: datetime(),
+                        createdBy: $auditor, lastModifiedBy: $auditor})-[:LANGUAGE]->(l)
+                    """.formatted(group.getKey(), MULTI_LANGUAGE_TEXT_LABELS, TEXT_LABELS), group.getValue(), auditor);
+            texts += group.getValue().stream().mapToInt(row -> ((List<?>) row.get("texts")).size()).sum();
+        }
+        writeInBatches("""
+                UNWIND $rows AS row
+                MATCH (n:XtdConcept {id: row.id})
+                MATCH (l:XtdLanguage {code: row.code})
+                CREATE (n)-[:LANGUAGE_OF_CREATOR]->(l)
+                """, rows.languagesOfCreator, auditor);
+        writeInBatches("""
+                UNWIND $rows AS row
+                MATCH (n:XtdConcept {id: row.id})
+                MATCH (c:XtdCountry {code: row.code})
+                CREATE (n)-[:COUNTRY_OF_ORIGIN]->(c)
+                """, rows.countriesOfOrigin, auditor);
+        writeInBatches("""
+                UNWIND $rows AS row
+                MATCH (n:CatalogRecord {id: row.id})
+                MATCH (t:Tag {id: row.tagId})
+                CREATE (n)-[:TAGGED]->(t)
+                """, rows.tags, auditor);
+
+        final Map<SimpleRelationType, List<Map<String, Object>>> relationshipRows = new EnumMap<>(SimpleRelationType.class);
+        for (CreateRelationshipInput relationship : relationships) {
+            for (String toId : relationship.getToIds()) {
+                relationshipRows.computeIfAbsent(relationship.getRelationshipType(), type -> new ArrayList<>())
+                        .add(Map.of("fromId", relationship.getFromId(), "toId", toId));
+            }
+        }
+        int relationshipCount = 0;
+        for (var group : relationshipRows.entrySet()) {
+            writeInBatches("""
+                    UNWIND $rows AS row
+                    MATCH (a:CatalogRecord {id: row.fromId})
+                    MATCH (b:CatalogRecord {id: row.toId})
+                    MERGE (a)-[:%s]->(b)
+                    """.formatted(group.getKey().getRelationProperty()), group.getValue(), auditor);
+            relationshipCount += group.getValue().size();
+        }
+
+        hierarchyIndexService.invalidate();
+        verificationReportService.invalidate();
+        statisticsService.invalidate();
+        auditLogService.record(auditor, "BULK_IMPORT", "CatalogRecord", null);
+
+        final ImportResultValue result = new ImportResultValue(entriesById.size(), texts, relationshipCount,
+                System.currentTimeMillis() - startTime);
+        log.info("Imported {} records, {} texts and {} relationships in {}ms ({} records/s)", result.getRecords(),
+                result.getTexts(), result.getRelationships(), result.getDurationMillis(),
+                Math.round(result.getRecordsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Rejects entries and relationships that lack required fields before
+     * any of their properties is read.
+     */
+    private void requireComplete(List<CreateEntryInput> entries, List<CreateRelationshipInput> relationships) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("The import contains no entries.");
+        }
+        final List<String> errors = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            final CreateEntryInput entry = entries.get(i);
+            if (entry == null || entry.getCatalogEntryType() == null || entry.getProperties() == null) {
+                errors.add("Entry " + (i + 1) + ": a type and properties are required.");
+            }
+        }
+        for (int i = 0; i < relationships.size(); i++) {
+            final CreateRelationshipInput relationship = relationships.get(i);
+            if (relationship == null || relationship.getRelationshipType() == null
+                    || relationship.getFromId() == null || relationship.getToIds() == null
+                    || relationship.getToIds().isEmpty() || relationship.getToIds().stream().anyMatch(Objects::isNull)) {
+                errors.add("Relationship " + (i + 1) + ": a type, a source and targets are required.");
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(toMessage(errors));
+        }
+    }
+
+    private Map<String, CreateEntryInput> assignIds(List<CreateEntryInput> entries) {
+        final Map<String, CreateEntryInput> entriesById = new LinkedHashMap<>();
+        for (CreateEntryInput entry : entries) {
+            final String givenId = entry.getProperties().getId();
+            final String id = givenId != null && !givenId.isBlank() ? givenId.trim() : UUID.randomUUID().toString();
+            if (entriesById.putIfAbsent(id, entry) != null) {
+                throw new IllegalArgumentException("Id " + id + " is used by more than one entry.");
+            }
+            entry.getProperties().setId(id);
+        }
+        return entriesById;
+    }
+
+    /**
+     * Checks the whole import in memory and with one lookup per kind of
+     * referenced record, so nothing is written if any entry is invalid.
+     * Languages and countries are checked against the reference data.
+     */
+    private void validate(Map<String, CreateEntryInput> entriesById, List<CreateRelationshipInput> relationships) {
+        final List<String> errors = new ArrayList<>();
+        final Set<String> languageCodes = new HashSet<>();
+        final Set<String> countryCodes = new HashSet<>();
+        final Set<String> tagIds = new HashSet<>();
+
+        entriesById.forEach((id, entry) -> {
+            final CatalogEntryPropertiesInput properties = entry.getProperties();
+            if (!SUPPORTED_TYPES.containsKey(entry.getCatalogEntryType())) {
+                errors.add(id + ": records of type " + entry.getCatalogEntryType() + " can not be imported.");
+            }
+            if (properties.getNames() == null || properties.getNames().isEmpty()) {
+                errors.add(id + ": a name is required.");
+            }
+            if (hasUnsupportedProperties(properties)) {
+                errors.add(id + ": only property and value properties can be imported.");
+            }
+            translationsOf(properties).values().forEach(groups -> groups
+                    .forEach(translations -> translations.forEach(translation -> {
+                        if (translation == null || translation.getLanguageTag() == null
+                                || translation.getValue() == null || translation.getValue().isBlank()) {
+                            errors.add(id + ": texts require a language and a value.");
+                        } else {
+                            languageCodes.add(translation.getLanguageTag());
+                        }
+                    })));
+            if (properties.getLanguageOfCreator() != null) {
+                languageCodes.add(properties.getLanguageOfCreator());
+            }
+            if (properties.getCountryOfOrigin() != null) {
+                countryCodes.add(properties.getCountryOfOrigin());
+            }
+            if (entry.getTags() != null) {
+                tagIds.addAll(entry.getTags());
+            }
+        });
+
+        final Set<String> referencedIds = new HashSet<>();
+        for (CreateRelationshipInput relationship : relationships) {
+            referencedIds.add(relationship.getFromId());
+            referencedIds.addAll(relationship.getToIds());
+        }
+        referencedIds.removeAll(entriesById.keySet());
+        final Map<String, Set<String>> labelsById = findLabels(referencedIds);
+        entriesById.forEach((id, entry) -> {
+            if (SUPPORTED_TYPES.containsKey(entry.getCatalogEntryType())) {
+                labelsById.put(id, labelSetOf(SUPPORTED_TYPES.get(entry.getCatalogEntryType())));
+            }
+        });
+        relationships.forEach(relationship -> validate(relationship, labelsById, errors));
+
+        languageCodes.stream()
+                .filter(code -> referenceDataService.findLanguageByCode(code).isEmpty())
+                .forEach(code -> errors.add("No language record with code " + code + " found."));
+        countryCodes.stream()
+                .filter(code -> referenceDataService.findCountryByCode(code).isEmpty())
+                .forEach(code -> errors.add("No country record with code " + code + " found."));
+        findMissing("MATCH (t:Tag) WHERE t.id IN $values RETURN t.id AS value", tagIds)
+                .forEach(tagId -> errors.add("No tag with id " + tagId + " found."));
+        referencedIds.stream()
+                .filter(recordId -> !labelsById.containsKey(recordId))
+                .forEach(recordId -> errors.add("No record with id " + recordId + " found."));
+        final Set<String> newIds = entriesById.keySet();
+        final Set<String> takenIds = new HashSet<>(newIds);
+        takenIds.removeAll(findMissing("MATCH (n:Entity) WHERE n.id IN $values RETURN n.id AS value", newIds));
+        takenIds.forEach(takenId -> errors.add(takenId + ": id is already in use."));
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(toMessage(errors));
+        }
+    }
+
+    /**
+     * Checks that the type of the relationship may connect the labels of
+     * its source and targets. Records that don't exist are reported separately.
+     */
+    private void validate(CreateRelationshipInput relationship, Map<String, Set<String>> labelsById,
+                          List<String> errors) {
+        final SimpleRelationType type = relationship.getRelationshipType();
+        final RelationshipEnds ends = RELATIONSHIP_ENDS.get(type);
+        if (ends == null) {
+            errors.add(relationship.getFromId() + ": relationships of type " + type + " can not be imported.");
+            return;
+        }
+        if (ends.single() && relationship.getToIds().size() != 1) {
+            errors.add(relationship.getFromId() + ": relationships of type " + type + " require exactly one target.");
+        }
+        final Set<String> sourceLabels = labelsById.get(relationship.getFromId());
+        if (sourceLabels != null && Collections.disjoint(sourceLabels, ends.sourceLabels())) {
+            errors.add(relationship.getFromId() + ": relationships of type " + type + " must start at one of "
+                    + ends.sourceLabels() + ".");
+        }
+        for (String toId : relationship.getToIds()) {
+            final Set<String> targetLabels = labelsById.get(toId);
+            if (targetLabels != null && !targetLabels.contains(ends.targetLabel())) {
+                errors.add(toId + ": relationships of type " + type + " must end at " + ends.targetLabel() + ".");
+            }
+        }
+    }
+
+    private static String toMessage(List<String> errors) {
+        final String message = String.join(" ", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+        return errors.size() > MAX_REPORTED_ERRORS
+                ? message + " (" + (errors.size() - MAX_REPORTED_ERRORS) + " more errors)"
+                : message;
+    }
+
+    private boolean hasUnsupportedProperties(CatalogEntryPropertiesInput properties) {
+        return properties.getUnitProperties() != null || properties.getExternalDocumentProperties() != null
+                || properties.getCountryProperties() != null || properties.getSubdivisionProperties() != null
+                || properties.getOrderedValueProperties() != null || properties.getIntervalProperties() != null
+                || properties.getLanguageProperties() != null || properties.getTextProperties() != null
+                || properties.getRationalProperties() != null || properties.getValueListProperties() != null
+                || properties.getSymbolProperties() != null || properties.getDimensionProperties() != null;
+    }
+
+    /**
+     * @return The values that do not exist in the database.
+     */
+    private Set<String> findMissing(String query, Set<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        final Set<String> missing = new HashSet<>(values);
+        neo4jClient.query(query)
+                .bind(List.copyOf(values)).to("values")
+                .fetchAs(String.class)
+                .mappedBy((typeSystem, record) -> record.get("value").asString())
+                .all()
+                .forEach(missing::remove);
+        return missing;
+    }
+
+    /**
+     * @return The labels of the existing records by their id.
+     */
+    private Map<String, Set<String>> findLabels(Set<String> ids) {
+        final Map<String, Set<String>> labelsById = new HashMap<>();
+        if (ids.isEmpty()) {
+            return labelsById;
+        }
+        neo4jClient.query("MATCH (n:CatalogRecord) WHERE n.id IN $values RETURN n.id AS id, labels(n) AS labels")
+                .bind(List.copyOf(ids)).to("values")
+                .fetchAs(LabelledRecord.class)
+                .mappedBy((typeSystem, record) -> new LabelledRecord(record.get("id").asString(),
+                        Set.copyOf(record.get("labels").asList(value -> value.asString()))))
+                .all()
+                .forEach(record -> labelsById.put(record.id(), record.labels()));
+        return labelsById;
+    }
+
+    private ImportRows toRows(Map<String, CreateEntryInput> entriesById) {
+        final ImportRows rows = new ImportRows();
+        final String clientUrl = properties.getClient().getUrl();
+
+        entriesById.forEach((id, entry) -> {
+            final CatalogEntryPropertiesInput input = entry.getProperties();
+            final Class<? extends XtdObject> domainClass = SUPPORTED_TYPES.get(entry.getCatalogEntryType());
+
+            final Map<String, Object> record = new HashMap<>();
+            record.put("id", id);
+            record.put("majorVersion", input.getMajorVersion());
+            record.put("minorVersion", input.getMinorVersion());
+            record.put("dateOfCreation", input.getDateOfCreation());
+            record.put("status", input.getStatus() != null ? input.getStatus().name() : null);
+            record.put("uri", clientUrl + "/" + entry.getCatalogEntryType().toString().toLowerCase() + "/" + id);
+            // Same as IndexingPreSaveEventListener: the first name is indexed per locale
+            input.getNames().forEach(name -> record.putIfAbsent("labels." + name.getLocale(), name.getValue()));
+            if (input.getPropertyProperties() != null) {
+                record.put("dataType", input.getPropertyProperties().getDataType() != null
+                        ? input.getPropertyProperties().getDataType().name() : null);
+                record.put("dataFormat", input.getPropertyProperties().getDataFormat());
+            }
+            if (input.getValueProperties() != null) {
+                record.put("nominalValue", input.getValueProperties().getNominalValue());
+            }
+            record.values().removeIf(Objects::isNull);
+            rows.records.computeIfAbsent(labelsOf(domainClass), labels -> new ArrayList<>()).add(record);
+
+            translationsOf(input).forEach((relationshipType, groups) -> {
+                if (!XtdConcept.class.isAssignableFrom(domainClass) && isConceptText(relationshipType)) {
+                    return;
+                }
+                for (List<TranslationInput> translations : groups) {
+                    final List<Map<String, Object>> texts = translations.stream()
+                            .map(translation -> Map.<String, Object>of(
+                                    "id", translation.getId() != null ? translation.getId() : UUID.randomUUID().toString(),
+                                    "languageCode", translation.getLanguageTag(),
+                                    "text", translation.getValue()))
+                            .toList();
+                    rows.texts.computeIfAbsent(relationshipType, type -> new ArrayList<>()).add(Map.of(
+                            "ownerId", id, "id", UUID.randomUUID().toString(), "texts", texts));
+                }
+            });
+
+            if (XtdConcept.class.isAssignableFrom(domainClass)) {
+                if (input.getLanguageOfCreator() != null) {
+                    rows.languagesOfCreator.add(Map.of("id", id, "code", input.getLanguageOfCreator()));
+                }
+                if (input.getCountryOfOrigin() != null) {
+                    rows.countriesOfOrigin.add(Map.of("id", id, "code", input.getCountryOfOrigin()));
+                }
+            }
+            if (entry.getTags() != null) {
+                entry.getTags().forEach(tagId -> rows.tags.add(Map.of("id", id, "tagId", tagId)));
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Groups the texts of an entry by the relationship to their owner. Each
+     * group of translations becomes one multi-language text; names,
+     * descriptions and examples are one text per entry as in
+     * {@link AbstractSimpleRecordServiceImpl#addRecord}.
+     */
+    private Map<String, List<List<TranslationInput>>> translationsOf(CatalogEntryPropertiesInput input) {
+        final Map<String, List<List<TranslationInput>>> result = new LinkedHashMap<>();
+        final BiConsumer<String, List<TranslationInput>> add = (relationshipType, translations) -> {
+            if (translations != null && !translations.isEmpty()) {
+                result.computeIfAbsent(relationshipType, type -> new ArrayList<>()).add(translations);
+            }
+        };
+        add.accept("NAMES", input.getNames());
+        add.accept("COMMENTS", input.getComments());
+        add.accept("DEPRECATION_EXPLANATION", input.getDeprecationExplanation());
+        add.accept("DESCRIPTIONS", input.getDescriptions());
+        add.accept("DEFINITION", input.getDefinition());
+        add.accept("EXAMPLES", input.getExamples());
+        return result;
+    }
+
+    private boolean isConceptText(String relationshipType) {
+        return relationshipType.equals("DESCRIPTIONS") || relationshipType.equals("DEFINITION")
+                || relationshipType.equals("EXAMPLES");
+    }
+
+    private void writeInBatches(String query, List<Map<String, Object>> rows, String auditor) {
+        final int batchSize = properties.getImports().getBatchSize();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            final List<Map<String, Object>> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            neo4jClient.query(query)
+                    .bind(batch).to("rows")
+                    .bind(auditor).to("auditor")
+                    .run();
+        }
+    }
+
+    /**
+     * @return The labels written by the object mapping for the given class, e.g. ":Entity:CatalogRecord:XtdRoot".
+     */
+    private static String labelsOf(Class<?> domainClass) {
+        return labelListOf(domainClass).stream().map(label -> ":" + label).reduce("", String::concat);
+    }
+
+    /**
+     * @return The labels written by the object mapping for the given class.
+     */
+    private static Set<String> labelSetOf(Class<?> domainClass) {
+        return Set.copyOf(labelListOf(domainClass));
+    }
+
+    private static Deque<String> labelListOf(Class<?> domainClass) {
+        final Deque<String> labels = new ArrayDeque<>();
+        for (Class<?> type = domainClass; type != null; type = type.getSuperclass()) {
+            final Node node = type.getAnnotation(Node.class);
+            if (node != null) {
+                Arrays.stream(node.value()).forEach(labels::addFirst);
+            }
+        }
+        return labels;
+    }
+
+    private record LabelledRecord(String id, Set<String> labels) {
+    }
+
+    /**
+     * @param targetLabel The label required of each target.
+     * @param sourceLabels The labels of which the source has to carry one.
+     * @param single Whether the relationship has exactly one target.
+     */
+    private record RelationshipEnds(String targetLabel, Set<String> sourceLabels, boolean single) {
+
+        static RelationshipEnds one(String targetLabel, String... sourceLabels) {
+            return new RelationshipEnds(targetLabel, Set.of(sourceLabels), true);
+        }
+
+        static RelationshipEnds many(String targetLabel, String... sourceLabels) {
+            return new RelationshipEnds(targetLabel, Set.of(sourceLabels), false);
+        }
+    }
+
+    private static final class ImportRows {
+        private final Map<String, List<Map<String, Object>>> records = new LinkedHashMap<>();
+        private final Map<String, List<Map<String, Object>>> texts = new LinkedHashMap<>();
+        private final List<Map<String, Object>> languagesOfCreator = new ArrayList<>();
+        private final List<Map<String, Object>> countriesOfOrigin = new ArrayList<>();
+        private final List<Map<String, Object>> tags = new ArrayList<>();
+    }
+}
@@ -1,18 +1,27 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
 import de.bentrm.datacat.base.specification.QuerySpecification;
 import de.bentrm.datacat.catalog.domain.*;
 import de.bentrm.datacat.catalog.repository.*;
+import de.bentrm.datacat.auth.service.AuditLogService;
+import de.bentrm.datacat.catalog.service.CatalogCleanupService;
 import de.bentrm.datacat.catalog.service.CatalogService;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import de.bentrm.datacat.catalog.service.ObjectNameCacheService;
+import de.bentrm.datacat.catalog.service.ReferenceDataService;
 import de.bentrm.datacat.catalog.service.dto.TagDtoProjection;
 import de.bentrm.datacat.catalog.service.dto.Relationships.CatalogRecordDtoProjection;
+import de.bentrm.datacat.catalog.service.value.DeleteResultValue;
 import de.bentrm.datacat.catalog.service.value.HierarchyValue;
 import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
-import de.bentrm.datacat.graphql.dto.CatalogRecordStatistics;
 import de.bentrm.datacat.graphql.dto.CatalogStatistics;
+import de.bentrm.datacat.properties.AppProperties;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jClient;
@@ -25,6 +34,8 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.validation.constraints.NotNull;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
 @Validated
@@ -44,6 +55,9 @@ public class CatalogServiceImpl implements CatalogService {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private EntityProjectionLoader projectionLoader;
+
     @Autowired
     private CatalogRecordRepository catalogRecordRepository;
 
@@ -62,17 +76,33 @@ public class CatalogServiceImpl implements CatalogService {
     @Autowired
     private ExternalDocumentRepository externalDocumentRepository;
 
+    @Autowired
+    private HierarchyIndexService hierarchyIndexService;
+
+    @Autowired
+    private ObjectNameCacheService objectNameCacheService;
+
+    @Autowired
+    private CatalogStatisticsService statisticsService;
+
+    @Autowired
+    private CatalogCleanupService cleanupService;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private AuditorAware<String> auditorAware;
+
+    @Autowired
+    private AppProperties properties;
+
     @Override
     public CatalogStatistics getStatistics() {
-        final List<CatalogRecordStatistics> labelsStats = catalogRecordRepository.statistics();
-
-        final CatalogStatistics statistics = new CatalogStatistics();
-        labelsStats.forEach(record -> {
-            if (record.getId().startsWith("Xtd")) {
-                statistics.getItems().add(record);
-            }
-        });
-        return statistics;
+        return statisticsService.getStatistics();
     }
 
     @Transactional
@@ -82,16 +112,18 @@ public class CatalogServiceImpl implements CatalogService {
         if (id != null)
             tag.setId(id);
         tag.setName(name);
+        statisticsService.invalidate();
         return tagRepository.save(tag);
     }
 
     @Transactional
     @Override
     public @NotNull Tag updateTag(String id, String name) {
-        final Tag tag = tagRepository.findByIdWithDirectRelations(id)
+        final Tag tag = projectionLoader.findById(id, Tag.class, List.of())
                 .orElseThrow(() -> new IllegalArgumentException("No tag with id " + id + " found."));
         tag.setName(name);
         neo4jTemplate.saveAs(tag, TagDtoProjection.class);
+        statisticsService.invalidate();
         return tag;
     }
 
@@ -102,33 +134,87 @@ public class CatalogServiceImpl implements CatalogService {
         final Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("No tag with id " + id + " found."));
         tagRepository.deleteById(id);
+        statisticsService.invalidate();
         return tag;
     }
 
     @Transactional
     @Override
     public CatalogRecord addTag(String entryId, String tagId) {
-        CatalogRecord item = catalogRecordRepository.findByIdWithDirectRelations(entryId)
+        CatalogRecord item = projectionLoader.findById(entryId, CatalogRecord.class, List.of("tags"))
                 .orElseThrow(() -> new IllegalArgumentException("No record with id " + entryId + " found."));
-        final Tag tag = tagRepository.findByIdWithDirectRelations(tagId)
+        final Tag tag = projectionLoader.findById(tagId, Tag.class, List.of())
                 .orElseThrow(() -> new IllegalArgumentException("No record with tag " + tagId + " found."));
+        final boolean tagged = isTagged(item, tagId);
         item.addTag(tag);
         neo4jTemplate.saveAs(item, CatalogRecordDtoProjection.class);
+        if (!tagged) {
+            statisticsService.recordTagged(tagId, true);
+        }
         return item;
     }
 
     @Transactional
     @Override
     public CatalogRecord removeTag(String entryId, String tagId) {
-        final CatalogRecord item = catalogRecordRepository.findByIdWithDirectRelations(entryId)
+        final CatalogRecord item = projectionLoader.findById(entryId, CatalogRecord.class, List.of("tags"))
                 .orElseThrow(() -> new IllegalArgumentException("No record with id " + entryId + " found."));
-        final Tag tag = tagRepository.findByIdWithDirectRelations(tagId)
+        final Tag tag = projectionLoader.findById(tagId, Tag.class, List.of())
                 .orElseThrow(() -> new IllegalArgumentException("No record with tag " + tagId + " found."));
+        final boolean tagged = isTagged(item, tagId);
         item.removeTag(tag);
         neo4jTemplate.saveAs(item, CatalogRecordDtoProjection.class);
+        if (tagged) {
+            statisticsService.recordTagged(tagId, false);
+        }
         return item;
     }
 
+    @Transactional
+    @Override
+    public @NotNull DeleteResultValue deleteEntries(List<String> ids) {
+        final long startTime = System.currentTimeMillis();
+        final Set<String> recordIds = new LinkedHashSet<>(ids);
+        final Collection<String> existingIds = neo4jClient
+                .query("MATCH (n:CatalogRecord) WHERE n.id IN $ids RETURN n.id AS id")
+                .bind(List.copyOf(recordIds)).to("ids")
+                .fetchAs(String.class)
+                .mappedBy((typeSystem, record) -> record.get("id").asString())
+                .all();
+        if (existingIds.size() < recordIds.size()) {
+            recordIds.removeAll(existingIds);
+            throw new IllegalArgumentException("No record with id " + String.join(", ", recordIds) + " found.");
+        }
+
+        int deleted = 0;
+        final List<String> batch = new ArrayList<>();
+        for (String recordId : recordIds) {
+            batch.add(recordId);
+            if (batch.size() == properties.getDeletes().getBatchSize()) {
+                deleted += cleanupService.deleteNodesWithDependents(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += cleanupService.deleteNodesWithDependents(batch);
+        }
+        recordIds.forEach(objectNameCacheService::evict);
+        statisticsService.invalidate();
+        referenceDataService.refresh();
+        auditLogService.record(auditorAware.getCurrentAuditor().orElse("SYSTEM"), "BULK_DELETE", "CatalogRecord",
+                null);
+
+        final DeleteResultValue result = new DeleteResultValue(recordIds.size(), deleted - recordIds.size(),
+                System.currentTimeMillis() - startTime);
+        log.info("Deleted {} records and {} dependent nodes in {}ms ({} records/s)", result.getRecords(),
+                result.getDependents(), result.getDurationMillis(), Math.round(result.getRecordsPerSecond()));
+        return result;
+    }
+
+    private static boolean isTagged(CatalogRecord item, String tagId) {
+        return item.getTags().stream().anyMatch(tag -> tagId.equals(tag.getId()));
+    }
+
     @Override
     public @NotNull List<CatalogRecord> getAllEntriesById(List<String> ids) {
         final Iterable<CatalogRecord> items = catalogRecordRepository.findAllEntitiesById(ids);
@@ -182,6 +268,11 @@ public class CatalogServiceImpl implements CatalogService {
         return catalogRecordRepository.findByIdWithDirectRelations(id);
     }
 
+    @Override
+    public Optional<CatalogRecord> getEntryById(String id, Collection<String> fieldNames) {
+        return projectionLoader.findById(id, CatalogRecord.class, fieldNames);
+    }
+
     @Override
     public Optional<XtdObject> getObject(String id) {
         return objectRepository.findByIdWithDirectRelations(id);
@@ -258,14 +349,10 @@ public class CatalogServiceImpl implements CatalogService {
 
         // Match any node (n) and use filters for label checks
         // Filters already contain label constraints like "n:XtdSubject"
-        String baseMatch = "MATCH (n)";
-        String whereClause = specification.getFilters().isEmpty() ? ""
-                : " WHERE " + String.join(" AND ", specification.getFilters());
-
-        String query = baseMatch + whereClause + " RETURN n.id AS id";
+        String query = specification.getMatchClause(null) + " RETURN n.id AS id";
         log.debug("findAllCatalogRecords query: {}", query);
 
-        List<String> result = neo4jClient.query(query).fetch().all().stream().map(record -> (String) record.get("id"))
+        List<String> result = neo4jClient.query(query).bindAll(specification.getParameters()).fetch().all().stream().map(record -> (String) record.get("id"))
                 .collect(Collectors.toList());
 
         long duration = System.currentTimeMillis() - startTime;
@@ -291,9 +378,9 @@ public class CatalogServiceImpl implements CatalogService {
             return new HierarchyValue(List.of(), List.of());
         }
 
-        // Step 2: Find relationship paths
+        // Step 2: Look up relationship paths in the hierarchy index
         long step2Start = System.currentTimeMillis();
-        final List<List<String>> paths = findRelationshipPaths(rootNodeIds);
+        final List<List<String>> paths = hierarchyIndexService.findPaths(rootNodeIds);
         long step2Duration = System.currentTimeMillis() - step2Start;
         log.debug("Step 2: Found {} paths from root nodes in {}ms", paths.size(), step2Duration);
 
@@ -305,8 +392,36 @@ public class CatalogServiceImpl implements CatalogService {
 
         // Step 4: Load entities in batches
         long step4Start = System.currentTimeMillis();
+        final List<XtdRoot> leaves = loadHierarchyNodes(new ArrayList<>(nodeIds));
+
+        long step4Duration = System.currentTimeMillis() - step4Start;
+        log.debug("Step 4 completed: Loaded {} entities in {}ms (WITHOUT tags)", leaves.size(), step4Duration);
+
+        long totalDuration = System.currentTimeMillis() - hierarchyStartTime;
+        log.debug("=== getHierarchy completed in {}ms (Step1: {}ms, Step2: {}ms, Step3: {}ms, Step4: {}ms) ===",
+                totalDuration, step1Duration, step2Duration, step3Duration, step4Duration);
+
+        return new HierarchyValue(leaves, paths);
+    }
+
+    @Override
+    public Stream<HierarchyValue> streamHierarchy(@NotNull CatalogRecordSpecification rootNodeSpecification,
+            int batchSize) {
+        Assert.isTrue(batchSize > 0, "batch size must be positive");
+        final List<String> rootNodeIds = findAllCatalogRecords(rootNodeSpecification);
+        log.debug("streamHierarchy: Streaming hierarchy of {} root nodes in batches of {} paths", rootNodeIds.size(),
+                batchSize);
+        final Iterator<HierarchyValue> chunks = new HierarchyChunkIterator(rootNodeIds, batchSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Loads minimal entity instances for the given ids in batches. Only the id
+     * and the concrete type are set, tags are resolved by the GraphQL layer.
+     */
+    private List<XtdRoot> loadHierarchyNodes(List<String> nodeIdList) {
         final int BATCH_SIZE = 500;
-        final List<String> nodeIdList = new ArrayList<>(nodeIds);
         final List<XtdRoot> leaves = new ArrayList<>();
 
         String query = """
@@ -316,7 +431,7 @@ public class CatalogServiceImpl implements CatalogService {
                 """;
 
         int totalBatches = (nodeIdList.size() + BATCH_SIZE - 1) / BATCH_SIZE;
-        log.debug("Step 4: Loading {} node IDs in {} batches of max {} IDs each...", nodeIdList.size(), totalBatches,
+        log.debug("Loading {} node IDs in {} batches of max {} IDs each...", nodeIdList.size(), totalBatches,
                 BATCH_SIZE);
 
         for (int i = 0; i < nodeIdList.size(); i += BATCH_SIZE) {
@@ -356,70 +471,61 @@ public class CatalogServiceImpl implements CatalogService {
             log.debug("  Batch {}/{}: loaded {} entities in {}ms", batchNum, totalBatches, batchResults.size(),
                     batchDuration);
         }
+        return leaves;
+    }
 
-        long step4Duration = System.currentTimeMillis() - step4Start;
-        log.debug("Step 4 completed: Loaded {} entities in {}ms across {} batches (WITHOUT tags)", leaves.size(),
-                step4Duration, totalBatches);
+    /**
+     * Produces hierarchy chunks lazily. Each chunk holds a batch of paths and
+     * the nodes of these paths that have not been part of a previous chunk.
+     */
+    private class HierarchyChunkIterator implements Iterator<HierarchyValue> {
 
-        long totalDuration = System.currentTimeMillis() - hierarchyStartTime;
-        log.debug("=== getHierarchy completed in {}ms (Step1: {}ms, Step2: {}ms, Step3: {}ms, Step4: {}ms) ===",
-                totalDuration, step1Duration, step2Duration, step3Duration, step4Duration);
+        private final Iterator<String> rootIds;
+        private final int batchSize;
+        private final Set<String> emittedNodeIds = new HashSet<>();
+        private List<List<String>> pendingPaths = new ArrayList<>();
 
-        return new HierarchyValue(leaves, paths);
-    }
-
-    public String getQuery(QuerySpecification specification, Pageable pageable) {
-        return (getQuery(specification, pageable, null, null));
-    }
+        private HierarchyChunkIterator(List<String> rootIds, int batchSize) {
+            this.rootIds = rootIds.iterator();
+            this.batchSize = batchSize;
+        }
 
-    public String getQuery(QuerySpecification specification, Pageable pageable, Sort.Direction direction,
-            String[] properties) {
-        String query;
-        String sort = "";
-        if (direction != null && properties != null) {
-            List<String> prefixedProperties = Arrays.stream(properties)
-                    .map(property -> "n.`" + property + "` " + direction.name()).collect(Collectors.toList());
-            sort = " ORDER BY " + String.join(", ", prefixedProperties);
+        @Override
+        public boolean hasNext() {
+            fillPendingPaths();
+            return !pendingPaths.isEmpty();
         }
 
-        if (specification.getFilters().isEmpty()) {
-            query = "MATCH (n:XtdObject)" + sort + " RETURN n";
-        } else {
-            String whereClause = "WHERE " + String.join(" AND ", specification.getFilters());
-            query = "MATCH (n:XtdObject) " + whereClause + sort + " RETURN n";
+        @Override
+        public HierarchyValue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<List<String>> paths = pendingPaths;
+            pendingPaths = new ArrayList<>();
+
+            final List<String> newNodeIds = paths.stream()
+                    .flatMap(List::stream)
+                    .filter(emittedNodeIds::add)
+                    .toList();
+            return new HierarchyValue(loadHierarchyNodes(newNodeIds), paths);
         }
-        query = query + " SKIP " + pageable.getOffset() + " LIMIT " + pageable.getPageSize();
 
-        return query;
+        private void fillPendingPaths() {
+            while (pendingPaths.size() < batchSize && rootIds.hasNext()) {
+                pendingPaths.addAll(hierarchyIndexService.findPaths(List.of(rootIds.next())));
+            }
+        }
     }
 
-    public List<List<String>> findRelationshipPaths(List<String> startIds) {
-        long startTime = System.currentTimeMillis();
-        log.debug("findRelationshipPaths: Finding paths for {} start IDs: {}", startIds.size(),
-                startIds.size() <= 10 ? startIds : startIds.subList(0, 10) + "...");
-
-        List<List<String>> result = neo4jClient
-                .query("""
-                            MATCH (start:XtdObject)
-                            WHERE start.id IN $startIds
-                            MATCH path = (start)-[*1..8]->(end:XtdObject)
-                            WHERE NONE(n IN nodes(path)[1..] WHERE (n:XtdInterval OR n:XtdExternalDocument))
-                            WITH nodes(path) AS nodelist
-                            WITH [n IN nodelist WHERE NOT (n:XtdRelationshipToSubject OR n:XtdOrderedValue OR n:XtdRelationshipType OR n:XtdRelationshipToProperty OR n:XtdQuantityKind OR n:XtdCountry OR n:XtdDimension OR n:XtdSubdivision) | n.id] AS paths
-                            RETURN paths
-                        """)
-                .bind(startIds).to("startIds").fetch().all().stream()
-                .map(record -> Optional.ofNullable(record.get("paths")).filter(List.class::isInstance)
-                        .map(List.class::cast).orElse(List.of()))
-                .map(list -> ((List<?>) list).stream().filter(String.class::isInstance).map(String.class::cast)
-                        .toList())
-                .toList();
+    public String getQuery(QuerySpecification specification, Pageable pageable) {
+        return (getQuery(specification, pageable, null, null));
+    }
 
-        long duration = System.currentTimeMillis() - startTime;
-        int totalNodes = result.stream().mapToInt(List::size).sum();
-        log.debug("findRelationshipPaths completed: {} paths with {} total nodes in {}ms", result.size(), totalNodes,
-                duration);
-        return result;
+    public String getQuery(QuerySpecification specification, Pageable pageable, Sort.Direction direction,
+            String[] properties) {
+        return specification.getMatchClause("XtdObject") + " RETURN n"
+                + specification.getOrderByClause(direction, properties) + " SKIP $skip LIMIT $limit";
     }
 
     /**
@@ -501,6 +607,11 @@ public class CatalogServiceImpl implements CatalogService {
     @Override
     @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public Map<String, String> getNamesForMultipleIds(List<String> objectIds, String languageCode) {
+        return objectNameCacheService.getNames(objectIds, languageCode,
+                missingIds -> loadNamesForMultipleIds(missingIds, languageCode));
+    }
+
+    private Map<String, String> loadNamesForMultipleIds(List<String> objectIds, String languageCode) {
         long startTime = System.currentTimeMillis();
 
         Map<String, Object> parameters = new HashMap<>();
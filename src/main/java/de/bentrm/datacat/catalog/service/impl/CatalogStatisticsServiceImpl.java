@@ -0,0 +1,185 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.catalog.domain.CatalogRecord;
+import de.bentrm.datacat.catalog.domain.Tag;
+import de.bentrm.datacat.catalog.domain.XtdObject;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.graphql.dto.CatalogRecordStatistics;
+import de.bentrm.datacat.graphql.dto.CatalogStatistics;
+import de.bentrm.datacat.util.TransactionUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the catalog statistics in memory. The counts are loaded during the
+ * startup warm-up, adjusted on every create and delete reported by the
+ * record services and recounted every {@code datacat.statistics.reconcile-interval}
+ * to correct changes made outside of these services. Recounting uses the
+ * label counts of the database and the degree of tag and dictionary nodes.
+ */
+@Slf4j
+@Service
+public class CatalogStatisticsServiceImpl implements CatalogStatisticsService {
+
+    private static final String LABEL_PREFIX = "Xtd";
+
+    private static final String LABELS_QUERY = """
+            CALL db.labels() YIELD label
+            WHERE label STARTS WITH $prefix
+            RETURN label
+            """;
+
+    private static final String TAGS_QUERY = """
+            MATCH (t:Tag)
+            RETURN t.id AS id, t.name AS name, COUNT { (t)<-[:TAGGED]-() } AS count
+            """;
+
+    private static final String DICTIONARIES_QUERY = """
+            MATCH (d:XtdDictionary)
+            RETURN d.id AS id, COUNT { (d)<-[:DICTIONARY]-() } AS count
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    private volatile Counts counts = new Counts(new ConcurrentSkipListMap<>(), new ConcurrentSkipListMap<>(),
+            new ConcurrentHashMap<>(), new ConcurrentSkipListMap<>());
+
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    public CatalogStatisticsServiceImpl(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public @NotNull CatalogStatistics getStatistics() {
+        final Counts current = counts;
+        final CatalogStatistics statistics = new CatalogStatistics();
+        current.labels().forEach((label, count) ->
+                statistics.getItems().add(new CatalogRecordStatistics(label, count.get())));
+        current.tags().forEach((tagId, count) ->
+                statistics.getTags().add(new CatalogRecordStatistics(tagId, current.tagNames().get(tagId), count.get())));
+        current.dictionaries().forEach((dictionaryId, count) ->
+                statistics.getDictionaries().add(new CatalogRecordStatistics(dictionaryId, count.get())));
+        return statistics;
+    }
+
+    @Override
+    public void recordCreated(@NotNull CatalogRecord record) {
+        TransactionUtils.afterCommit(() -> adjust(record, 1));
+    }
+
+    @Override
+    public void recordDeleted(@NotNull CatalogRecord record) {
+        TransactionUtils.afterCommit(() -> adjust(record, -1));
+    }
+
+    @Override
+    public void recordTagged(@NotNull String tagId, boolean tagged) {
+        TransactionUtils.afterCommit(() -> increment(counts.tags(), tagId, tagged ? 1 : -1));
+    }
+
+    @Override
+    public void recordDictionaryAssigned(@NotNull String dictionaryId, boolean assigned) {
+        TransactionUtils.afterCommit(() -> increment(counts.dictionaries(), dictionaryId, assigned ? 1 : -1));
+    }
+
+    @Override
+    public void invalidate() {
+        TransactionUtils.afterCommit(() -> Thread.ofVirtual().name("statistics-reconcile").start(this::reconcile));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${datacat.statistics.reconcile-interval:PT15M}",
+            initialDelayString = "${datacat.statistics.reconcile-interval:PT15M}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final long startTime = System.currentTimeMillis();
+            final Map<String, AtomicLong> labels = new ConcurrentSkipListMap<>();
+            final Collection<String> labelNames = neo4jClient.query(LABELS_QUERY)
+                    .bind(LABEL_PREFIX).to("prefix")
+                    .fetchAs(String.class)
+                    .mappedBy((typeSystem, record) -> record.get("label").asString())
+                    .all();
+            for (String label : labelNames) {
+                // Counting all nodes of a single label is answered by the count store
+                final Long count = neo4jClient.query("MATCH (n:`" + label + "`) RETURN count(n) AS count")
+                        .fetchAs(Long.class)
+                        .mappedBy((typeSystem, record) -> record.get("count").asLong())
+                        .one()
+                        .orElse(0L);
+                labels.put(label, new AtomicLong(count));
+            }
+
+            final Map<String, AtomicLong> tags = new ConcurrentSkipListMap<>();
+            final Map<String, String> tagNames = new ConcurrentHashMap<>();
+            neo4jClient.query(TAGS_QUERY).fetch().all().forEach(row -> {
+                final String tagId = (String) row.get("id");
+                tags.put(tagId, new AtomicLong((Long) row.get("count")));
+                if (row.get("name") != null) {
+                    tagNames.put(tagId, (String) row.get("name"));
+                }
+            });
+
+            final Map<String, AtomicLong> dictionaries = new ConcurrentSkipListMap<>();
+            neo4jClient.query(DICTIONARIES_QUERY).fetch().all().forEach(row ->
+                    dictionaries.put((String) row.get("id"), new AtomicLong((Long) row.get("count"))));
+
+            counts = new Counts(labels, tags, tagNames, dictionaries);
+            log.debug("Reconciled catalog statistics: {} labels, {} tags, {} dictionaries in {}ms", labels.size(),
+                    tags.size(), dictionaries.size(), System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.warn("Reconciling the catalog statistics failed", e);
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    private void adjust(CatalogRecord record, int delta) {
+        final Counts current = counts;
+        for (Class<?> type = record.getClass(); type != null; type = type.getSuperclass()) {
+            final Node node = type.getAnnotation(Node.class);
+            if (node != null) {
+                Arrays.stream(node.value())
+                        .filter(label -> label.startsWith(LABEL_PREFIX))
+                        .forEach(label -> increment(current.labels(), label, delta));
+            }
+        }
+        for (Tag tag : record.getTags()) {
+            increment(current.tags(), tag.getId(), delta);
+        }
+        if (record instanceof XtdObject object && object.getDictionary() != null) {
+            increment(current.dictionaries(), object.getDictionary().getId(), delta);
+        }
+    }
+
+    private void increment(Map<String, AtomicLong> counters, String key, int delta) {
+        if (key == null) {
+            return;
+        }
+        final AtomicLong counter = counters.computeIfAbsent(key, k -> new AtomicLong());
+        if (counter.addAndGet(delta) < 0) {
+            counter.set(0);
+        }
+    }
+
+    /**
+     * The counters of a snapshot are adjusted in place, a reconciliation
+     * replaces the whole snapshot. Counts are sorted by label or id.
+     */
+    private record Counts(Map<String, AtomicLong> labels, Map<String, AtomicLong> tags,
+                          Map<String, String> tagNames, Map<String, AtomicLong> dictionaries) {
+    }
+}
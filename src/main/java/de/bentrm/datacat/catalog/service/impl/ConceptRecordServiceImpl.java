@@ -1,25 +1,23 @@
 package de.bentrm.datacat.catalog.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.validation.annotation.Validated;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.*;
 import de.bentrm.datacat.catalog.repository.ConceptRepository;
-import de.bentrm.datacat.catalog.repository.CountryRepository;
 import de.bentrm.datacat.catalog.repository.MultiLanguageTextRepository;
 import de.bentrm.datacat.catalog.repository.RootRepository;
 import de.bentrm.datacat.catalog.repository.TextRepository;
@@ -69,79 +67,14 @@ public class ConceptRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xt
     @Lazy
     private MultiLanguageTextRepository multiLanguageTextRepository;
 
-    @Autowired
-    @Lazy
-    private CountryRepository countryRepository;
-
     @Autowired
     @Lazy
     private RootRepository rootRepository;
 
     public ConceptRecordServiceImpl(Neo4jTemplate neo4jTemplate, ConceptRepository repository,
-            CatalogCleanupService cleanupService) {
-        super(XtdConcept.class, neo4jTemplate, repository, cleanupService);
-    }
-
-    @Override
-    public @NotNull Page<XtdConcept> findAll(@NotNull de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        // Use optimized query when no complex filters are applied
-        if (isSimpleQuery(specification)) {
-            List<XtdConcept> concepts = findConceptsWithRelations(specification);
-            Pageable pageable = specification.getPageable().orElse(PageRequest.of(0, 20));
-            return PageableExecutionUtils.getPage(concepts, pageable, 
-                () -> getRepository().count());
-        }
-        // Fallback to default implementation for complex queries
-        return super.findAll(specification);
-    }
-
-    private boolean isSimpleQuery(de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        // Consider it simple if there are no filters, only pagination and sorting
-        return specification.getFilters() == null || specification.getFilters().isEmpty();
-    }
-
-    private List<XtdConcept> findConceptsWithRelations(de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        Pageable pageable = specification.getPageable().orElse(PageRequest.of(0, 20));
-        String query = buildOptimizedConceptQuery(pageable);
-        return getNeo4jTemplate().findAll(query, XtdConcept.class);
-    }
-
-    private String buildOptimizedConceptQuery(Pageable pageable) {
-        StringBuilder queryBuilder = new StringBuilder();
-        queryBuilder.append("MATCH (c:XtdConcept) ");
-        
-        // Add optional matches for commonly used relations
-        queryBuilder.append("OPTIONAL MATCH (c)-[:NAMES]->(names:XtdMultiLanguageText) ");
-        queryBuilder.append("OPTIONAL MATCH (c)-[:COMMENTS]->(comments:XtdMultiLanguageText) ");
-        queryBuilder.append("OPTIONAL MATCH (c)-[:DEFINITION]->(definition:XtdMultiLanguageText) ");
-        queryBuilder.append("OPTIONAL MATCH (c)-[:COUNTRIES_OF_ORIGIN]->(countries:XtdCountry) ");
-        queryBuilder.append("OPTIONAL MATCH (c)-[:DOCUMENTS]->(documents:XtdExternalDocument) ");
-        queryBuilder.append("OPTIONAL MATCH (c)-[:GROUPS]->(objects:XtdObject) ");
-        queryBuilder.append("OPTIONAL MATCH (c)-[:TAGGED]->(tags:Tag) ");
-        
-        queryBuilder.append("RETURN c, ");
-        queryBuilder.append("collect(DISTINCT names) as names, ");
-        queryBuilder.append("collect(DISTINCT comments) as comments, ");
-        queryBuilder.append("collect(DISTINCT definition) as definition, ");
-        queryBuilder.append("collect(DISTINCT countries) as countries, ");
-        queryBuilder.append("collect(DISTINCT documents) as documents, ");
-        queryBuilder.append("collect(DISTINCT objects) as objects, ");
-        queryBuilder.append("collect(DISTINCT tags) as tags ");
-        
-        // Add sorting if specified
-        if (pageable.getSort().isSorted()) {
-            queryBuilder.append("ORDER BY ");
-            String sortClause = pageable.getSort().stream()
-                    .map(order -> "c." + order.getProperty() + " " + order.getDirection())
-                    .collect(Collectors.joining(", "));
-            queryBuilder.append(sortClause).append(" ");
-        }
-        
-        // Add pagination
-        queryBuilder.append("SKIP ").append(pageable.getOffset()).append(" ");
-        queryBuilder.append("LIMIT ").append(pageable.getPageSize());
-        
-        return queryBuilder.toString();
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdConcept.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -224,6 +157,48 @@ public class ConceptRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xt
         return StreamSupport.stream(descriptions.spliterator(), false).collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, List<XtdExternalDocument>> getReferenceDocumentsForConcepts(List<String> conceptIds) {
+        return mapRelatedRecords(getRepository().findAllExternalDocumentIdsAssignedToConcepts(conceptIds),
+                externalDocumentRecordService::findAllEntitiesById);
+    }
+
+    @Override
+    public Map<String, List<XtdMultiLanguageText>> getExamplesForConcepts(List<String> conceptIds) {
+        return mapRelatedRecords(getRepository().findAllExampleIdsAssignedToConcepts(conceptIds),
+                multiLanguageTextRecordService::findAllEntitiesById);
+    }
+
+    @Override
+    public Map<String, XtdCountry> getCountriesOfOriginForConcepts(List<String> conceptIds) {
+        return mapRelatedRecord(getRepository().findCountryIdsAssignedToConcepts(conceptIds),
+                countryRecordService::findAllByIdsWithDirectRelations);
+    }
+
+    @Override
+    public Map<String, List<XtdConcept>> getSimilarConceptsForConcepts(List<String> conceptIds) {
+        return mapRelatedRecords(getRepository().findAllConceptIdsAssignedToConcepts(conceptIds),
+                getRepository()::findAllEntitiesById);
+    }
+
+    @Override
+    public Map<String, XtdMultiLanguageText> getDefinitionsForConcepts(List<String> conceptIds) {
+        return mapRelatedRecord(getRepository().findDefinitionIdsAssignedToConcepts(conceptIds),
+                multiLanguageTextRecordService::findAllByIds);
+    }
+
+    @Override
+    public Map<String, XtdLanguage> getLanguagesOfCreatorForConcepts(List<String> conceptIds) {
+        return mapRelatedRecord(getRepository().findLanguageIdsAssignedToConcepts(conceptIds),
+                languageRecordService::findAllByIdsWithDirectRelations);
+    }
+
+    @Override
+    public Map<String, List<XtdMultiLanguageText>> getDescriptionsForConcepts(List<String> conceptIds) {
+        return mapRelatedRecords(getRepository().findAllDescriptionIdsAssignedToConcepts(conceptIds),
+                multiLanguageTextRecordService::findAllEntitiesById);
+    }
+
     @Transactional
     @Override
     public @NotNull XtdConcept setRelatedRecords(@NotBlank String recordId,
@@ -338,7 +313,7 @@ public class ConceptRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xt
     @Transactional
     public XtdText createText(TranslationInput translation) {
 
-        final XtdLanguage language = languageRecordService.findByCode(translation.getLanguageTag())
+        final XtdLanguage language = referenceDataService.findLanguageByCode(translation.getLanguageTag())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No language record with id " + translation.getLanguageTag() + " found."));
 
@@ -348,6 +323,7 @@ public class ConceptRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xt
         text.setLanguage(language);
 
         text = textRepository.save(text);
+        statisticsService.recordCreated(text);
         return text;
     }
 
@@ -356,7 +332,7 @@ public class ConceptRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xt
     public XtdConcept addCountryOfOrigin(AddCountryInput input) {
         final XtdConcept item = getRepository().findByIdWithDirectRelations(input.getCatalogEntryId()).orElseThrow(
                 () -> new IllegalArgumentException("No record with id " + input.getCatalogEntryId() + " found."));
-        final XtdCountry country = countryRepository.findByCode(input.getCountryCode()).orElseThrow(
+        final XtdCountry country = referenceDataService.findCountryByCode(input.getCountryCode()).orElseThrow(
                 () -> new IllegalArgumentException("No country record with id " + input.getCountryCode() + " found."));
         if (item.getCountryOfOrigin() != null) {
             throw new IllegalArgumentException("Object already has a country of origin assigned.");
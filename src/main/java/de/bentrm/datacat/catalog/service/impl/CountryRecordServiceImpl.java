@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdCountry;
@@ -42,8 +44,9 @@ public class CountryRecordServiceImpl
 
     public CountryRecordServiceImpl(Neo4jTemplate neo4jTemplate,
                                      CountryRepository repository,
-                                     CatalogCleanupService cleanupService) {
-        super(XtdCountry.class, neo4jTemplate, repository, cleanupService);
+                                     CatalogCleanupService cleanupService,
+                                     SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdCountry.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdDictionary;
@@ -49,8 +51,9 @@ public class DictionaryRecordServiceImpl
 
     public DictionaryRecordServiceImpl(Neo4jTemplate neo4jTemplate,
                                      DictionaryRepository repository,
-                                     CatalogCleanupService cleanupService) {
-        super(XtdDictionary.class, neo4jTemplate, repository, cleanupService);
+                                     CatalogCleanupService cleanupService,
+                                     SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdDictionary.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdExternalDocument;
@@ -43,8 +45,9 @@ public class ExternalDocumentRecordServiceImpl
 
     public ExternalDocumentRecordServiceImpl(Neo4jTemplate neo4jTemplate,
                                              ExternalDocumentRepository repository,
-                                             CatalogCleanupService cleanupService) {
-        super(XtdExternalDocument.class, neo4jTemplate, repository, cleanupService);
+                                             CatalogCleanupService cleanupService,
+                                             SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdExternalDocument.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
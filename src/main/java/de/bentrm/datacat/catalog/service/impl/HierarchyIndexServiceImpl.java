@@ -0,0 +1,363 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import de.bentrm.datacat.properties.AppProperties;
+import de.bentrm.datacat.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Service;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps the relationship graph between objects (and the symbols linking
+ * them) in memory. Only {@code XtdObject} and {@code XtdSymbol} nodes are
+ * indexed, as all other node types never lead to another object.
+ * Paths are computed on demand per root record and cached until a change
+ * within their reach is reported via {@link #markDirty(String)}. The cache
+ * is bounded by the total number of paths it holds.
+ */
+@Slf4j
+@Service
+public class HierarchyIndexServiceImpl implements HierarchyIndexService {
+
+    /**
+     * Maximum number of relationships followed from a root record.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * Records with these labels are traversed but not included in the returned paths.
+     */
+    private static final Set<String> HIDDEN_LABELS = Set.of(
+            "XtdRelationshipToSubject", "XtdOrderedValue", "XtdRelationshipType", "XtdRelationshipToProperty",
+            "XtdQuantityKind", "XtdCountry", "XtdDimension", "XtdSubdivision");
+
+    private static final String NODES_QUERY = """
+            MATCH (n:XtdObject|XtdSymbol)
+            RETURN n.id AS id, labels(n) AS labels
+            """;
+
+    private static final String EDGES_QUERY = """
+            MATCH (a:XtdObject|XtdSymbol)-->(b:XtdObject|XtdSymbol)
+            WHERE NOT b:XtdExternalDocument
+            RETURN a.id AS source, b.id AS target
+            """;
+
+    private static final String NEIGHBOURHOODS_QUERY = """
+            UNWIND $ids AS id
+            OPTIONAL MATCH (n:XtdObject|XtdSymbol {id: id})
+            CALL (n) {
+                OPTIONAL MATCH (n)-->(b:XtdObject|XtdSymbol)
+                WHERE NOT b:XtdExternalDocument
+                RETURN collect(DISTINCT {id: b.id, labels: labels(b)}) AS successors
+            }
+            CALL (n) {
+                OPTIONAL MATCH (a:XtdObject|XtdSymbol)-->(n)
+                WHERE NOT n:XtdExternalDocument
+                RETURN collect(DISTINCT {id: a.id, labels: labels(a)}) AS predecessors
+            }
+            RETURN id, labels(n) AS labels, successors, predecessors
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Serializes the application of pending updates, so that updates are
+     * applied in the order they have been loaded.
+     */
+    private final Lock updateLock = new ReentrantLock();
+
+    private final Map<String, IndexNode> nodes = new HashMap<>();
+
+    private final Cache<String, List<List<String>>> pathsByRoot;
+
+    private final Queue<String> pendingUpdates = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean initialized = false;
+
+    public HierarchyIndexServiceImpl(Neo4jClient neo4jClient, AppProperties properties) {
+        this.neo4jClient = neo4jClient;
+        this.pathsByRoot = Caffeine.newBuilder()
+                .maximumWeight(properties.getCache().getHierarchyPathsMaximumSize())
+                .<String, List<List<String>>>weigher((rootId, paths) -> paths.size())
+                .build();
+    }
+
+    @Override
+    public @NotNull List<List<String>> findPaths(@NotNull List<String> rootIds) {
+        long startTime = System.currentTimeMillis();
+        ensureInitialized();
+        applyPendingUpdates();
+
+        final List<List<String>> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String rootId : new LinkedHashSet<>(rootIds)) {
+                result.addAll(pathsByRoot.get(rootId, this::computePaths));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        log.debug("findPaths completed: {} paths for {} root ids in {}ms", result.size(), rootIds.size(),
+                System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    @Override
+    public void markDirty(String recordId) {
+        if (recordId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> pendingUpdates.add(recordId));
+    }
+
+    @Override
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            initialized = false;
+            nodes.clear();
+            pathsByRoot.invalidateAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (initialized) {
+                return;
+            }
+            long startTime = System.currentTimeMillis();
+            // Updates committed from here on are applied on top of the freshly loaded state.
+            pendingUpdates.clear();
+            nodes.clear();
+            pathsByRoot.invalidateAll();
+
+            loadNodes().forEach(node -> nodes.put(node.id(), new IndexNode(node.id(), node.labels())));
+            loadEdges().forEach(edge -> link(nodes.get(edge[0]), nodes.get(edge[1])));
+
+            initialized = true;
+            log.info("Hierarchy index built: {} nodes in {}ms", nodes.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the neighbourhoods of all pending records with a single query
+     * and applies them to the index. Only the application of the loaded
+     * neighbourhoods blocks readers.
+     */
+    private void applyPendingUpdates() {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        updateLock.lock();
+        try {
+            final Set<String> recordIds = new LinkedHashSet<>();
+            String recordId;
+            while ((recordId = pendingUpdates.poll()) != null) {
+                recordIds.add(recordId);
+            }
+            if (recordIds.isEmpty()) {
+                return;
+            }
+
+            final List<Neighbourhood> neighbourhoods = loadNeighbourhoods(recordIds);
+
+            lock.writeLock().lock();
+            try {
+                neighbourhoods.forEach(this::refresh);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Applied {} pending hierarchy index updates", recordIds.size());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void refresh(Neighbourhood neighbourhood) {
+        final String recordId = neighbourhood.id();
+
+        // Roots that could reach the record before the change
+        final Set<String> affectedRoots = findAncestors(recordId);
+
+        final IndexNode oldNode = nodes.remove(recordId);
+        if (oldNode != null) {
+            oldNode.successors.forEach(id -> Optional.ofNullable(nodes.get(id))
+                    .ifPresent(successor -> successor.predecessors.remove(recordId)));
+            oldNode.predecessors.forEach(id -> Optional.ofNullable(nodes.get(id))
+                    .ifPresent(predecessor -> predecessor.successors.remove(recordId)));
+        }
+
+        if (neighbourhood.labels() != null) {
+            final IndexNode node = new IndexNode(recordId, neighbourhood.labels());
+            nodes.put(recordId, node);
+            neighbourhood.successors().forEach(successor -> link(node, resolve(successor)));
+            neighbourhood.predecessors().forEach(predecessor -> link(resolve(predecessor), node));
+            // Roots that can reach the record after the change
+            affectedRoots.addAll(findAncestors(recordId));
+        }
+
+        pathsByRoot.invalidateAll(affectedRoots);
+    }
+
+    private IndexNode resolve(Neighbour neighbour) {
+        return nodes.computeIfAbsent(neighbour.id(), key -> new IndexNode(key, neighbour.labels()));
+    }
+
+    List<Neighbour> loadNodes() {
+        return List.copyOf(neo4jClient.query(NODES_QUERY)
+                .fetchAs(Neighbour.class)
+                .mappedBy((typeSystem, record) -> toNeighbour(record.get("id"), record.get("labels")))
+                .all());
+    }
+
+    List<String[]> loadEdges() {
+        return List.copyOf(neo4jClient.query(EDGES_QUERY)
+                .fetchAs(String[].class)
+                .mappedBy((typeSystem, record) -> new String[]{
+                        record.get("source").asString(), record.get("target").asString()})
+                .all());
+    }
+
+    List<Neighbourhood> loadNeighbourhoods(Collection<String> recordIds) {
+        return List.copyOf(neo4jClient.query(NEIGHBOURHOODS_QUERY)
+                .bind(List.copyOf(recordIds)).to("ids")
+                .fetchAs(Neighbourhood.class)
+                .mappedBy((typeSystem, record) -> new Neighbourhood(
+                        record.get("id").asString(),
+                        record.get("labels").isNull() ? null : record.get("labels").asList(Value::asString),
+                        toNeighbours(record.get("successors")),
+                        toNeighbours(record.get("predecessors"))))
+                .all());
+    }
+
+    private static List<Neighbour> toNeighbours(Value value) {
+        return value.asList(entry -> entry).stream()
+                .filter(entry -> !entry.get("id").isNull())
+                .map(entry -> toNeighbour(entry.get("id"), entry.get("labels")))
+                .toList();
+    }
+
+    private static Neighbour toNeighbour(Value id, Value labels) {
+        return new Neighbour(id.asString(), labels.asList(Value::asString));
+    }
+
+    private void link(IndexNode source, IndexNode target) {
+        if (source == null || target == null) {
+            return;
+        }
+        source.successors.add(target.id);
+        target.predecessors.add(source.id);
+    }
+
+    /**
+     * Collects the given record and every record that reaches it within
+     * {@link #MAX_DEPTH} relationships.
+     */
+    private Set<String> findAncestors(String recordId) {
+        final Set<String> ancestors = new HashSet<>();
+        ancestors.add(recordId);
+        Set<String> frontier = Set.of(recordId);
+        for (int depth = 0; depth < MAX_DEPTH && !frontier.isEmpty(); depth++) {
+            final Set<String> next = new HashSet<>();
+            for (String id : frontier) {
+                final IndexNode node = nodes.get(id);
+                if (node == null) {
+                    continue;
+                }
+                for (String predecessor : node.predecessors) {
+                    if (ancestors.add(predecessor)) {
+                        next.add(predecessor);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return ancestors;
+    }
+
+    private List<List<String>> computePaths(String rootId) {
+        final IndexNode root = nodes.get(rootId);
+        if (root == null || !root.object) {
+            return List.of();
+        }
+        final Set<List<String>> paths = new LinkedHashSet<>();
+        visit(root, 0, new ArrayList<>(), new HashSet<>(), paths);
+        return List.copyOf(paths);
+    }
+
+    /**
+     * Depth first traversal emitting a path for every object reached. A
+     * record is visited at most once per path, so cycles are not followed.
+     */
+    private void visit(IndexNode node, int depth, List<String> visiblePath, Set<String> onPath,
+                       Set<List<String>> paths) {
+        onPath.add(node.id);
+        if (!node.hidden) {
+            visiblePath.add(node.id);
+        }
+        if (depth > 0 && node.object && !visiblePath.isEmpty()) {
+            paths.add(List.copyOf(visiblePath));
+        }
+        if (depth < MAX_DEPTH) {
+            for (String successorId : node.successors) {
+                final IndexNode successor = nodes.get(successorId);
+                if (successor != null && !onPath.contains(successorId)) {
+                    visit(successor, depth + 1, visiblePath, onPath, paths);
+                }
+            }
+        }
+        if (!node.hidden) {
+            visiblePath.remove(visiblePath.size() - 1);
+        }
+        onPath.remove(node.id);
+    }
+
+    /**
+     * A record as loaded from the database.
+     */
+    record Neighbour(String id, List<String> labels) {
+    }
+
+    /**
+     * The current relationships of a record, labels are null if the record has been deleted.
+     */
+    record Neighbourhood(String id, List<String> labels, List<Neighbour> successors,
+                         List<Neighbour> predecessors) {
+    }
+
+    private static final class IndexNode {
+        private final String id;
+        private final boolean object;
+        private final boolean hidden;
+        private final Set<String> successors = new HashSet<>();
+        private final Set<String> predecessors = new HashSet<>();
+
+        private IndexNode(String id, List<String> labels) {
+            this.id = id;
+            this.object = labels != null && labels.contains("XtdObject");
+            this.hidden = labels != null && labels.stream().anyMatch(HIDDEN_LABELS::contains);
+        }
+    }
+}
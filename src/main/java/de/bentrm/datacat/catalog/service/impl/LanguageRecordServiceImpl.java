@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdLanguage;
@@ -28,8 +30,9 @@ public class LanguageRecordServiceImpl
 
     public LanguageRecordServiceImpl(Neo4jTemplate neo4jTemplate,
                                      LanguageRepository repository,
-                                     CatalogCleanupService cleanupService) {
-        super(XtdLanguage.class, neo4jTemplate, repository, cleanupService);
+                                     CatalogCleanupService cleanupService,
+                                     SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdLanguage.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -1,7 +1,10 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
+import de.bentrm.datacat.catalog.domain.TranslationResult;
 import de.bentrm.datacat.catalog.domain.XtdMultiLanguageText;
 import de.bentrm.datacat.catalog.domain.XtdText;
 import de.bentrm.datacat.catalog.repository.MultiLanguageTextRepository;
@@ -22,6 +25,7 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -38,8 +42,9 @@ public class MultiLanguageTextRecordServiceImpl
 
     public MultiLanguageTextRecordServiceImpl(Neo4jTemplate neo4jTemplate,
             MultiLanguageTextRepository repository,
-            CatalogCleanupService cleanupService) {
-        super(XtdMultiLanguageText.class, neo4jTemplate, repository, cleanupService);
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdMultiLanguageText.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -59,6 +64,21 @@ public class MultiLanguageTextRecordServiceImpl
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, List<XtdText>> getTextsForMultiLanguageTexts(List<String> multiLanguageTextIds) {
+        return mapRelatedRecords(getRepository().findAllTextIdsAssignedToMultiLanguageTexts(multiLanguageTextIds),
+                textRecordService::findAllEntitiesById);
+    }
+
+    @Override
+    public @NotNull List<TranslationResult> findTranslations(@NotNull List<String> ownerIds,
+                                                           @NotBlank String relationshipType) {
+        if (ownerIds.isEmpty()) {
+            return List.of();
+        }
+        return getRepository().findTranslationsByOwnerIds(ownerIds, relationshipType);
+    }
+
     @Transactional
     @Override
     public @NotNull XtdMultiLanguageText setRelatedRecords(@NotBlank String recordId,
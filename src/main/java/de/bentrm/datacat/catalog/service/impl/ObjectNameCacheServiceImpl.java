@@ -0,0 +1,74 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.catalog.service.ObjectNameCacheService;
+import de.bentrm.datacat.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class ObjectNameCacheServiceImpl implements ObjectNameCacheService {
+
+    private final Cache cache;
+
+    public ObjectNameCacheServiceImpl(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), "cache " + CACHE_NAME + " is missing");
+    }
+
+    /**
+     * The names of an object are cached in a single entry mapping the
+     * requested language codes to the name, so that all of them are
+     * evicted at once. Objects without a name in a language map it to an
+     * empty value.
+     */
+    @Override
+    public @NotNull Map<String, String> getNames(@NotNull List<String> objectIds, @NotNull String languageCode,
+                                                 @NotNull Function<List<String>, Map<String, String>> loader) {
+        final Map<String, String> names = new HashMap<>();
+        final List<String> missingIds = new ArrayList<>();
+        for (String objectId : objectIds) {
+            final Optional<String> cached = getEntry(objectId).get(languageCode);
+            if (cached == null) {
+                missingIds.add(objectId);
+            } else {
+                cached.ifPresent(name -> names.put(objectId, name));
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            final Map<String, String> loaded = loader.apply(missingIds);
+            for (String objectId : missingIds) {
+                final String name = loaded.get(objectId);
+                getEntry(objectId).put(languageCode, Optional.ofNullable(name));
+                if (name != null) {
+                    names.put(objectId, name);
+                }
+            }
+        }
+
+        log.trace("Resolved {} names, {} loaded from the database", objectIds.size(), missingIds.size());
+        return names;
+    }
+
+    @Override
+    public void evict(String objectId) {
+        if (objectId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> cache.evict(objectId));
+    }
+
+    /**
+     * @return The cached names of the object by language code, created if absent.
+     */
+    private Map<String, Optional<String>> getEntry(String objectId) {
+        return cache.get(objectId, ConcurrentHashMap::new);
+    }
+}
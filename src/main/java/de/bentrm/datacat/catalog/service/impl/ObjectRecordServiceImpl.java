@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdDictionary;
@@ -13,7 +15,6 @@ import de.bentrm.datacat.catalog.repository.ObjectRepository;
 import de.bentrm.datacat.catalog.repository.TextRepository;
 import de.bentrm.datacat.catalog.service.CatalogCleanupService;
 import de.bentrm.datacat.catalog.service.DictionaryRecordService;
-import de.bentrm.datacat.catalog.service.LanguageRecordService;
 import de.bentrm.datacat.catalog.service.MultiLanguageTextRecordService;
 import de.bentrm.datacat.catalog.service.ObjectRecordService;
 import de.bentrm.datacat.catalog.service.dto.ObjectDtoProjection;
@@ -35,14 +36,11 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -61,9 +59,6 @@ public class ObjectRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xtd
     @Autowired
     private MultiLanguageTextRecordService multiLanguageTextRecordService;
 
-    @Autowired
-    private LanguageRecordService languageRecordService;
-
     @Autowired
     private TextRepository textRepository;
 
@@ -71,68 +66,9 @@ public class ObjectRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xtd
     private MultiLanguageTextRepository multiLanguageTextRepository;
 
     public ObjectRecordServiceImpl(Neo4jTemplate neo4jTemplate, ObjectRepository repository,
-            CatalogCleanupService cleanupService) {
-        super(XtdObject.class, neo4jTemplate, repository, cleanupService);
-    }
-
-    @Override
-    public @NotNull Page<XtdObject> findAll(@NotNull de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        // Use optimized query when no complex filters are applied
-        if (isSimpleQuery(specification)) {
-            List<XtdObject> objects = findObjectsWithRelations(specification);
-            Pageable pageable = specification.getPageable().orElse(PageRequest.of(0, 20));
-            return PageableExecutionUtils.getPage(objects, pageable, 
-                () -> getRepository().count());
-        }
-        // Fallback to default implementation for complex queries
-        return super.findAll(specification);
-    }
-
-    private boolean isSimpleQuery(de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        // Consider it simple if there are no filters, only pagination and sorting
-        return specification.getFilters() == null || specification.getFilters().isEmpty();
-    }
-
-    private List<XtdObject> findObjectsWithRelations(de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        Pageable pageable = specification.getPageable().orElse(PageRequest.of(0, 20));
-        String query = buildOptimizedObjectQuery(pageable);
-        return getNeo4jTemplate().findAll(query, XtdObject.class);
-    }
-
-    private String buildOptimizedObjectQuery(Pageable pageable) {
-        StringBuilder queryBuilder = new StringBuilder();
-        queryBuilder.append("MATCH (o:XtdObject) ");
-        
-        // Add optional matches for commonly used relations
-        queryBuilder.append("OPTIONAL MATCH (o)<-[:GROUPS]-(subjects:XtdSubject) ");
-        queryBuilder.append("OPTIONAL MATCH (o)-[:NAMES]->(names:XtdMultiLanguageText) ");
-        queryBuilder.append("OPTIONAL MATCH (o)-[:COMMENTS]->(comments:XtdMultiLanguageText) ");
-        queryBuilder.append("OPTIONAL MATCH (o)-[:TEXTS]->(texts:XtdText) ");
-        queryBuilder.append("OPTIONAL MATCH (o)-[:DICTIONARY]->(dictionary:XtdDictionary) ");
-        queryBuilder.append("OPTIONAL MATCH (o)-[:TAGGED]->(tags:Tag) ");
-        
-        queryBuilder.append("RETURN o, ");
-        queryBuilder.append("collect(DISTINCT subjects) as subjects, ");
-        queryBuilder.append("collect(DISTINCT names) as names, ");
-        queryBuilder.append("collect(DISTINCT comments) as comments, ");
-        queryBuilder.append("collect(DISTINCT texts) as texts, ");
-        queryBuilder.append("collect(DISTINCT dictionary) as dictionary, ");
-        queryBuilder.append("collect(DISTINCT tags) as tags ");
-        
-        // Add sorting if specified
-        if (pageable.getSort().isSorted()) {
-            queryBuilder.append("ORDER BY ");
-            String sortClause = pageable.getSort().stream()
-                    .map(order -> "o." + order.getProperty() + " " + order.getDirection())
-                    .collect(Collectors.joining(", "));
-            queryBuilder.append(sortClause).append(" ");
-        }
-        
-        // Add pagination
-        queryBuilder.append("SKIP ").append(pageable.getOffset()).append(" ");
-        queryBuilder.append("LIMIT ").append(pageable.getPageSize());
-        
-        return queryBuilder.toString();
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdObject.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -203,6 +139,42 @@ public class ObjectRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xtd
         return StreamSupport.stream(comments.spliterator(), false).collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, XtdDictionary> getDictionariesForObjects(List<String> objectIds) {
+        return mapRelatedRecord(getRepository().findDictionaryIdsAssignedToObjects(objectIds),
+                dictionaryRecordService::findAllByIdsWithDirectRelations);
+    }
+
+    @Override
+    public Map<String, XtdMultiLanguageText> getDeprecationExplanationsForObjects(List<String> objectIds) {
+        return mapRelatedRecord(getRepository().findDeprecationExplanationIdsAssignedToObjects(objectIds),
+                multiLanguageTextRecordService::findAllByIdsWithDirectRelations);
+    }
+
+    @Override
+    public Map<String, List<XtdObject>> getReplacedObjectsForObjects(List<String> objectIds) {
+        return mapRelatedRecords(getRepository().findAllReplacedObjectIdsAssignedToObjects(objectIds),
+                getRepository()::findAllEntitiesById);
+    }
+
+    @Override
+    public Map<String, List<XtdObject>> getReplacingObjectsForObjects(List<String> objectIds) {
+        return mapRelatedRecords(getRepository().findAllReplacingObjectIdsAssignedToObjects(objectIds),
+                getRepository()::findAllEntitiesById);
+    }
+
+    @Override
+    public Map<String, List<XtdMultiLanguageText>> getNamesForObjects(List<String> objectIds) {
+        return mapRelatedRecords(getRepository().findAllNameIdsAssignedToObjects(objectIds),
+                multiLanguageTextRecordService::findAllEntitiesById);
+    }
+
+    @Override
+    public Map<String, List<XtdMultiLanguageText>> getCommentsForObjects(List<String> objectIds) {
+        return mapRelatedRecords(getRepository().findCommentIdsAssignedToObjects(objectIds),
+                multiLanguageTextRecordService::findAllEntitiesById);
+    }
+
     @Transactional
     @Override
     public @NotNull XtdObject setRelatedRecords(@NotBlank String recordId,
@@ -225,6 +197,7 @@ public class ObjectRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xtd
                 object.setDictionary(dictionary);
             }
             neo4jTemplate.saveAs(object, DictionaryDtoProjection.class);
+            statisticsService.recordDictionaryAssigned(object.getDictionary().getId(), true);
         }
         case ReplacedObjects -> {
             final Iterable<XtdObject> replacedObjects = getRepository().findAllEntitiesById(relatedRecordIds);
@@ -297,7 +270,7 @@ public class ObjectRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xtd
     @Transactional
     public XtdText createText(TranslationInput translation) {
 
-        final XtdLanguage language = languageRecordService.findByCode(translation.getLanguageTag()).orElseThrow(
+        final XtdLanguage language = referenceDataService.findLanguageByCode(translation.getLanguageTag()).orElseThrow(
                 () -> new IllegalArgumentException("No record with id " + translation.getLanguageTag() + " found."));
 
         XtdText text = new XtdText();
@@ -306,6 +279,7 @@ public class ObjectRecordServiceImpl extends AbstractSimpleRecordServiceImpl<Xtd
         text.setLanguage(language);
 
         text = textRepository.save(text);
+        statisticsService.recordCreated(text);
         return text;
     }
 
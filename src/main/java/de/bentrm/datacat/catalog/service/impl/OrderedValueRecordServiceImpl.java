@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdOrderedValue;
@@ -49,8 +51,9 @@ public class OrderedValueRecordServiceImpl extends
     private ObjectRecordService objectRecordService;
 
     public OrderedValueRecordServiceImpl(Neo4jTemplate neo4jTemplate, OrderedValueRepository repository,
-            CatalogCleanupService cleanupService) {
-        super(XtdOrderedValue.class, neo4jTemplate, repository, cleanupService);
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdOrderedValue.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
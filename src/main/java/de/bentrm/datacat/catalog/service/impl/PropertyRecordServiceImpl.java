@@ -1,6 +1,8 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
 import de.bentrm.datacat.base.specification.QuerySpecification;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdProperty;
@@ -37,7 +39,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
@@ -99,8 +100,9 @@ public class PropertyRecordServiceImpl extends AbstractSimpleRecordServiceImpl<X
         private ConceptRecordService conceptRecordService;
 
         public PropertyRecordServiceImpl(Neo4jTemplate neo4jTemplate, PropertyRepository repository,
-                        CatalogCleanupService cleanupService) {
-                super(XtdProperty.class, neo4jTemplate, repository, cleanupService);
+                        CatalogCleanupService cleanupService,
+                        SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+                super(XtdProperty.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
         }
 
         @Override
@@ -227,29 +229,25 @@ public class PropertyRecordServiceImpl extends AbstractSimpleRecordServiceImpl<X
 
         @Override
         public @NotNull Page<XtdProperty> findAll(@NotNull QuerySpecification specification) {
+                if (specification.isFullTextSearch() || specification.getAfter() != null) {
+                        // Full-text searches are ranked by relevance and pages requested by cursor are
+                        // continued behind the cursor record, neither is known to the optimized query
+                        return super.findAll(specification);
+                }
                 // Verwende eine optimierte Query für Properties, die wichtige Relationen
                 // vorlädt
-                Collection<XtdProperty> properties;
-                Pageable pageable;
-                final Long count = count(specification);
-
-                final Optional<Pageable> paged = specification.getPageable();
-                if (paged.isPresent()) {
-                        pageable = paged.get();
-                        // Verwende optimierte Cypher-Query statt der Standard-Query
-                        properties = findPropertiesWithRelations(specification, pageable);
-                } else {
-                        pageable = PageRequest.of(0, (int) Math.max(count, 10));
-                        properties = findPropertiesWithRelations(specification, pageable);
-                }
+                final Pageable pageable = getQueryExecutor().getPageable(specification);
+                // Verwende optimierte Cypher-Query statt der Standard-Query
+                final Collection<XtdProperty> properties = findPropertiesWithRelations(specification, pageable);
 
-                return PageableExecutionUtils.getPage(List.copyOf(properties), pageable, () -> count);
+                // The total is only counted if it cannot be derived from the page itself
+                return PageableExecutionUtils.getPage(List.copyOf(properties), pageable, () -> count(specification));
         }
 
         private Collection<XtdProperty> findPropertiesWithRelations(QuerySpecification specification,
                         Pageable pageable) {
                 String query = buildOptimizedPropertyQuery(specification, pageable);
-                return neo4jTemplate.findAll(query, XtdProperty.class);
+                return neo4jTemplate.findAll(query, specification.getParameters(pageable), XtdProperty.class);
         }
 
         private String buildOptimizedPropertyQuery(QuerySpecification specification, Pageable pageable) {
@@ -293,8 +291,8 @@ public class PropertyRecordServiceImpl extends AbstractSimpleRecordServiceImpl<X
                                      collect(DISTINCT tag) as tags%s
 
                                 RETURN p, dimensions, valueLists, units, symbols, quantityKinds, intervals, tags
-                                SKIP %d LIMIT %d
-                                """, whereClause, sort, pageable.getOffset(), pageable.getPageSize());
+                                SKIP $skip LIMIT $limit
+                                """, whereClause, sort);
         }
 
         @Transactional
@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdDimension;
@@ -16,11 +18,7 @@ import de.bentrm.datacat.catalog.service.dto.Relationships.UnitsDtoProjection;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -52,66 +50,9 @@ public class QuantityKindRecordServiceImpl extends
     private ConceptRecordService conceptRecordService;
 
     public QuantityKindRecordServiceImpl(Neo4jTemplate neo4jTemplate, QuantityKindRepository repository,
-            CatalogCleanupService cleanupService) {
-        super(XtdQuantityKind.class, neo4jTemplate, repository, cleanupService);
-    }
-
-    @Override
-    public @NotNull Page<XtdQuantityKind> findAll(@NotNull de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        // Use optimized query when no complex filters are applied
-        if (isSimpleQuery(specification)) {
-            List<XtdQuantityKind> quantityKinds = findQuantityKindsWithRelations(specification);
-            Pageable pageable = specification.getPageable().orElse(PageRequest.of(0, 20));
-            return PageableExecutionUtils.getPage(quantityKinds, pageable, 
-                () -> getRepository().count());
-        }
-        // Fallback to default implementation for complex queries
-        return super.findAll(specification);
-    }
-
-    private boolean isSimpleQuery(de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        // Consider it simple if there are no filters, only pagination and sorting
-        return specification.getFilters() == null || specification.getFilters().isEmpty();
-    }
-
-    private List<XtdQuantityKind> findQuantityKindsWithRelations(de.bentrm.datacat.base.specification.QuerySpecification specification) {
-        Pageable pageable = specification.getPageable().orElse(PageRequest.of(0, 20));
-        String query = buildOptimizedQuantityKindQuery(pageable);
-        return getNeo4jTemplate().findAll(query, XtdQuantityKind.class);
-    }
-
-    private String buildOptimizedQuantityKindQuery(Pageable pageable) {
-        StringBuilder queryBuilder = new StringBuilder();
-        queryBuilder.append("MATCH (qk:XtdQuantityKind) ");
-        
-        // Add optional matches for commonly used relations
-        queryBuilder.append("OPTIONAL MATCH (qk)<-[:QUANTITY_KINDS]-(properties:XtdProperty) ");
-        queryBuilder.append("OPTIONAL MATCH (qk)-[:DIMENSION]->(dimension:XtdDimension) ");
-        queryBuilder.append("OPTIONAL MATCH (qk)-[:UNITS]->(units:XtdUnit) ");
-        queryBuilder.append("OPTIONAL MATCH (qk)-[:NAMES]->(names:XtdMultiLanguageText) ");
-        queryBuilder.append("OPTIONAL MATCH (qk)-[:COMMENTS]->(comments:XtdMultiLanguageText) ");
-        
-        queryBuilder.append("RETURN qk, ");
-        queryBuilder.append("collect(DISTINCT properties) as properties, ");
-        queryBuilder.append("collect(DISTINCT dimension) as dimension, ");
-        queryBuilder.append("collect(DISTINCT units) as units, ");
-        queryBuilder.append("collect(DISTINCT names) as names, ");
-        queryBuilder.append("collect(DISTINCT comments) as comments ");
-        
-        // Add sorting if specified
-        if (pageable.getSort().isSorted()) {
-            queryBuilder.append("ORDER BY ");
-            String sortClause = pageable.getSort().stream()
-                    .map(order -> "qk." + order.getProperty() + " " + order.getDirection())
-                    .collect(Collectors.joining(", "));
-            queryBuilder.append(sortClause).append(" ");
-        }
-        
-        // Add pagination
-        queryBuilder.append("SKIP ").append(pageable.getOffset()).append(" ");
-        queryBuilder.append("LIMIT ").append(pageable.getPageSize());
-        
-        return queryBuilder.toString();
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdQuantityKind.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
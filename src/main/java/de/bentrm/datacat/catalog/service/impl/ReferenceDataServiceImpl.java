@@ -0,0 +1,108 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.catalog.domain.XtdCountry;
+import de.bentrm.datacat.catalog.domain.XtdLanguage;
+import de.bentrm.datacat.catalog.service.ReferenceDataService;
+import de.bentrm.datacat.util.TransactionUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Holds an immutable snapshot of the nodes of all languages and countries
+ * mapped by code. Each lookup maps a new record from the snapshot, so
+ * callers can link, and thereby save, the record without affecting other
+ * callers. The snapshot is loaded once the migrations that seed the
+ * reference data have run and is replaced whenever a language or country
+ * is saved or removed.
+ */
+@Slf4j
+@Service
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+    private final Neo4jClient neo4jClient;
+
+    private final Neo4jMappingContext mappingContext;
+
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataServiceImpl(Neo4jClient neo4jClient, Neo4jMappingContext mappingContext) {
+        this.neo4jClient = neo4jClient;
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public void load() {
+        snapshot = loadSnapshot();
+    }
+
+    @Override
+    public Optional<XtdLanguage> findLanguageByCode(@NotNull String code) {
+        final Snapshot current = getSnapshot();
+        return Optional.ofNullable(current.languages().get(code))
+                .map(node -> mappingContext.getRequiredMappingFunctionFor(XtdLanguage.class)
+                        .apply(current.typeSystem(), node));
+    }
+
+    @Override
+    public Optional<XtdCountry> findCountryByCode(@NotNull String code) {
+        final Snapshot current = getSnapshot();
+        return Optional.ofNullable(current.countries().get(code))
+                .map(node -> mappingContext.getRequiredMappingFunctionFor(XtdCountry.class)
+                        .apply(current.typeSystem(), node));
+    }
+
+    @Override
+    public void refresh() {
+        // The snapshot is reloaded lazily by the next lookup
+        TransactionUtils.afterCommit(() -> snapshot = null);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = loadSnapshot();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot loadSnapshot() {
+        final Collection<NodeRow> rows = neo4jClient
+                .query("MATCH (n) WHERE (n:XtdLanguage OR n:XtdCountry) AND n.code IS NOT NULL RETURN n")
+                .fetchAs(NodeRow.class)
+                .mappedBy((typeSystem, record) -> new NodeRow(typeSystem, record.get("n").asNode()))
+                .all();
+        final Map<String, Node> languages = toMapByCode(rows, XtdLanguage.LABEL);
+        final Map<String, Node> countries = toMapByCode(rows, XtdCountry.LABEL);
+        log.debug("Loaded {} languages and {} countries", languages.size(), countries.size());
+        return new Snapshot(languages, countries,
+                rows.isEmpty() ? TypeSystem.getDefault() : rows.iterator().next().typeSystem());
+    }
+
+    private static Map<String, Node> toMapByCode(Collection<NodeRow> rows, String label) {
+        return rows.stream()
+                .map(NodeRow::node)
+                .filter(node -> node.hasLabel(label))
+                .collect(Collectors.toUnmodifiableMap(node -> node.get("code").asString(), node -> node,
+                        (a, b) -> a));
+    }
+
+    private record NodeRow(TypeSystem typeSystem, Node node) {
+    }
+
+    /**
+     * The driver nodes are immutable values, the records are mapped from them on each lookup.
+     */
+    private record Snapshot(Map<String, Node> languages, Map<String, Node> countries, TypeSystem typeSystem) {
+    }
+}
@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdRelationshipToProperty;
@@ -48,8 +50,9 @@ private ObjectRecordService objectRecordService;
 
     public RelationshipToPropertyRecordServiceImpl(Neo4jTemplate neo4jTemplate,
                                      RelationshipToPropertyRepository repository,
-                                     CatalogCleanupService cleanupService) {
-        super(XtdRelationshipToProperty.class, neo4jTemplate, repository, cleanupService);
+                                     CatalogCleanupService cleanupService,
+                                     SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdRelationshipToProperty.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Transactional
@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdRelationshipToSubject;
@@ -57,9 +59,6 @@ public class RelationshipToSubjectRecordServiceImpl
             @Autowired
             private RelationshipTypeRepository relationshipTypeRepository;
 
-            @Autowired
-            private de.bentrm.datacat.catalog.repository.LanguageRepository languageRepository;
-
             @Autowired
             private de.bentrm.datacat.catalog.repository.TextRepository textRepository;
 
@@ -68,8 +67,9 @@ public class RelationshipToSubjectRecordServiceImpl
 
     public RelationshipToSubjectRecordServiceImpl(Neo4jTemplate neo4jTemplate,
                                      RelationshipToSubjectRepository repository,
-                                     CatalogCleanupService cleanupService) {
-        super(XtdRelationshipToSubject.class, neo4jTemplate, repository, cleanupService);
+                                     CatalogCleanupService cleanupService,
+                                     SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdRelationshipToSubject.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Transactional
@@ -92,6 +92,8 @@ public class RelationshipToSubjectRecordServiceImpl
             newRecord = this.setRelatedRecords(newRecord, relatedRecordIds);
             log.trace("Set related records with ids: {}", relatedRecordIds);
 
+            hierarchyIndexService.markDirty(newRecord.getId());
+            statisticsService.recordCreated(newRecord);
             log.trace("Persisted new relationship record with id: {}", newRecord.getId());
 
             return newRecord;
@@ -184,7 +186,7 @@ public class RelationshipToSubjectRecordServiceImpl
             relationshipType = relationshipTypeRepository.save(relationshipType);
 
             // Namen als XtdMultiLanguageText mit deutscher Sprache hinzufügen
-            de.bentrm.datacat.catalog.domain.XtdLanguage germanLanguage = languageRepository.findByCode("de")
+            de.bentrm.datacat.catalog.domain.XtdLanguage germanLanguage = referenceDataService.findLanguageByCode("de")
                     .orElseThrow(() -> new IllegalArgumentException("German language not found in database."));
 
             de.bentrm.datacat.catalog.domain.XtdText text = new de.bentrm.datacat.catalog.domain.XtdText();
@@ -286,6 +288,7 @@ public class RelationshipToSubjectRecordServiceImpl
             default -> objectRecordService.setRelatedRecords(recordId, relatedRecordIds, relationType);
         }
 
+        hierarchyIndexService.markDirty(recordId);
         log.trace("Updated relationship: {}", relationship);
         return relationship;
     }
@@ -11,6 +11,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.validation.annotation.Validated;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdSubdivision;
@@ -35,8 +37,9 @@ public class SubdivisionRecordServiceImpl extends AbstractSimpleRecordServiceImp
     private ConceptRecordService conceptRecordService;
 
     public SubdivisionRecordServiceImpl(Neo4jTemplate neo4jTemplate, SubdivisionRepository repository,
-            CatalogCleanupService cleanupService) {
-        super(XtdSubdivision.class, neo4jTemplate, repository, cleanupService);
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdSubdivision.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
 import de.bentrm.datacat.base.specification.QuerySpecification;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdProperty;
@@ -25,6 +27,7 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -55,8 +58,9 @@ public class SubjectRecordServiceImpl
 
     public SubjectRecordServiceImpl(Neo4jTemplate neo4jTemplate,
             SubjectRepository repository,
-            CatalogCleanupService cleanupService) {
-        super(XtdSubject.class, neo4jTemplate, repository, cleanupService);
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdSubject.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -115,6 +119,22 @@ public class SubjectRecordServiceImpl
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<String, List<XtdRelationshipToSubject>> getConnectedSubjectsForSubjects(List<String> subjectIds,
+                                                                                       String relationshipTypeName) {
+        return mapRelatedRecords(getRepository()
+                        .findAllConnectedSubjectRelationshipIdsAssignedToSubjects(subjectIds, relationshipTypeName),
+                relationshipToSubjectRecordService::findAllByIdsWithDirectRelations);
+    }
+
+    @Override
+    public Map<String, List<XtdRelationshipToSubject>> getConnectingSubjectsForSubjects(List<String> subjectIds,
+                                                                                        String relationshipTypeName) {
+        return mapRelatedRecords(getRepository()
+                        .findAllConnectingSubjectRelationshipIdsAssignedToSubjects(subjectIds, relationshipTypeName),
+                relationshipToSubjectRecordService::findAllByIdsWithDirectRelations);
+    }
+
     @Override
     public Optional<XtdSubject> findByIdWithIncomingAndOutgoingRelations(String id) {
         return getRepository().findByIdWithIncomingAndOutgoingRelations(id);
@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.Tag;
 import de.bentrm.datacat.catalog.repository.TagRepository;
 import de.bentrm.datacat.catalog.service.TagService;
@@ -12,8 +14,9 @@ import jakarta.validation.constraints.NotNull;
 @Service
 public class TagServiceImpl extends AbstractQueryServiceImpl<Tag, TagRepository> implements TagService {
 
-    public TagServiceImpl(Neo4jTemplate neo4jTemplate, TagRepository repository) {
-        super(Tag.class, neo4jTemplate, repository);
+    public TagServiceImpl(Neo4jTemplate neo4jTemplate, TagRepository repository, SpecificationQueryExecutor queryExecutor,
+                          EntityProjectionLoader projectionLoader) {
+        super(Tag.class, neo4jTemplate, repository, queryExecutor, projectionLoader);
     }
 
     @Override
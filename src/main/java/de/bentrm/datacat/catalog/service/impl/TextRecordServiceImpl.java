@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import de.bentrm.datacat.catalog.domain.SimpleRelationType;
 import de.bentrm.datacat.catalog.domain.XtdLanguage;
@@ -18,6 +20,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
@@ -39,8 +42,9 @@ public class TextRecordServiceImpl
 
     public TextRecordServiceImpl(Neo4jTemplate neo4jTemplate,
                                      TextRepository repository,
-                                     CatalogCleanupService cleanupService) {
-        super(XtdText.class, neo4jTemplate, repository, cleanupService);
+                                     CatalogCleanupService cleanupService,
+                                     SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdText.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -62,6 +66,12 @@ public class TextRecordServiceImpl
         
     }
 
+    @Override
+    public Map<String, XtdLanguage> getLanguagesForTexts(List<String> textIds) {
+        return mapRelatedRecord(getRepository().findLanguageIdsByTextIds(textIds),
+                languageRepository::findAllByIdWithDirectRelations);
+    }
+
     @Transactional
     @Override
     public @NotNull XtdText setRelatedRecords(@NotBlank String recordId,
@@ -93,4 +103,9 @@ public class TextRecordServiceImpl
     public TextCountResult countTexts(String textId) {
         return getRepository().countTexts(textId);
     }
+
+    @Override
+    public List<String> findObjectIdsNamedByText(String textId) {
+        return getRepository().findObjectIdsByNameTextId(textId);
+    }
 }
@@ -1,7 +1,9 @@
 package de.bentrm.datacat.catalog.service.impl;
 
 import de.bentrm.datacat.auth.domain.User;
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
 import de.bentrm.datacat.base.repository.UserRepository;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.service.UserService;
 
 import org.springframework.data.neo4j.core.Neo4jTemplate;
@@ -20,8 +22,9 @@ public class UserServiceImpl
 
     private final UserRepository repository;
 
-    public UserServiceImpl(Neo4jTemplate neo4jTemplate, UserRepository repository) {
-        super(User.class, neo4jTemplate, repository);
+    public UserServiceImpl(Neo4jTemplate neo4jTemplate, UserRepository repository, SpecificationQueryExecutor queryExecutor,
+                           EntityProjectionLoader projectionLoader) {
+        super(User.class, neo4jTemplate, repository, queryExecutor, projectionLoader);
         this.repository = repository;
     }
 
@@ -1,5 +1,7 @@
 package de.bentrm.datacat.catalog.service.impl;
 
+import de.bentrm.datacat.base.repository.EntityProjectionLoader;
+import de.bentrm.datacat.base.specification.SpecificationQueryExecutor;
 import de.bentrm.datacat.catalog.domain.*;
 import de.bentrm.datacat.catalog.repository.ValueRepository;
 import de.bentrm.datacat.catalog.service.CatalogCleanupService;
@@ -40,8 +42,9 @@ public class ValueRecordServiceImpl extends AbstractSimpleRecordServiceImpl<XtdV
     private OrderedValueRecordService orderedValueRecordService;
 
     public ValueRecordServiceImpl(ValueRepository repository, Neo4jTemplate neo4jTemplate,
-            CatalogCleanupService cleanupService) {
-        super(XtdValue.class, neo4jTemplate, repository, cleanupService);
+            CatalogCleanupService cleanupService,
+            SpecificationQueryExecutor queryExecutor, EntityProjectionLoader projectionLoader) {
+        super(XtdValue.class, neo4jTemplate, repository, cleanupService, queryExecutor, projectionLoader);
     }
 
     @Override
@@ -0,0 +1,306 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.catalog.repository.CatalogValidationQuery;
+import de.bentrm.datacat.catalog.service.VerificationReportService;
+import de.bentrm.datacat.catalog.service.value.VerificationCheckValue;
+import de.bentrm.datacat.catalog.service.value.VerificationReport;
+import de.bentrm.datacat.catalog.service.value.VerificationSummaryValue;
+import de.bentrm.datacat.properties.AppProperties;
+import de.bentrm.datacat.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Materializes the verification reports. All reports are computed during
+ * the startup warm-up. Changed records are collected and, after a short
+ * delay that bundles subsequent changes, only the reports depending on the
+ * labels of these records are recomputed by a single background thread.
+ * Each result carries the generation of changes it reflects.
+ */
+@Slf4j
+@Service
+public class VerificationReportServiceImpl implements VerificationReportService {
+
+    private static final String LABELS_QUERY = """
+            UNWIND $ids AS id
+            OPTIONAL MATCH (n:Entity {id: id})
+            RETURN labels(n) AS labels
+            """;
+
+    private final CatalogValidationQuery validationQuery;
+
+    private final Neo4jClient neo4jClient;
+
+    private final AppProperties.VerificationProperties properties;
+
+    private final Map<VerificationReport, ReportResult> results = new ConcurrentHashMap<>();
+
+    private final Queue<String> dirtyIds = new ConcurrentLinkedQueue<>();
+
+    private final Set<VerificationReport> outdatedReports = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Number of changes reported so far.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    /**
+     * The verification of all reports currently running, shared by concurrent callers.
+     */
+    private final AtomicReference<CompletableFuture<VerificationSummaryValue>> runningVerification =
+            new AtomicReference<>();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("verification-reports").factory());
+
+    /**
+     * Bounds the number of database sessions held by report queries.
+     */
+    private final Semaphore sessionBudget;
+
+    private final MeterRegistry meterRegistry;
+
+    public VerificationReportServiceImpl(CatalogValidationQuery validationQuery, Neo4jClient neo4jClient,
+                                         AppProperties properties, MeterRegistry meterRegistry) {
+        this.validationQuery = validationQuery;
+        this.neo4jClient = neo4jClient;
+        this.properties = properties.getVerification();
+        this.sessionBudget = new Semaphore(this.properties.getMaxConcurrentChecks(), true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public @NotNull Page<String> findIds(@NotNull VerificationReport report, @NotNull Pageable pageable) {
+        ReportResult result = results.get(report);
+        if (result == null) {
+            // Not computed yet, e.g. while the initial computation is still running
+            result = compute(report);
+            results.putIfAbsent(report, result);
+        }
+        final List<String> ids = result.ids();
+        final int from = (int) Math.min(pageable.getOffset(), ids.size());
+        final int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(ids.subList(from, to), pageable, ids.size());
+    }
+
+    @Override
+    public @NotNull VerificationSummaryValue verifyAll() {
+        final CompletableFuture<VerificationSummaryValue> verification = new CompletableFuture<>();
+        final CompletableFuture<VerificationSummaryValue> running =
+                runningVerification.compareAndExchange(null, verification);
+        if (running != null) {
+            log.debug("Joining the running catalog verification");
+            return running.join();
+        }
+        try {
+            final VerificationSummaryValue summary = runChecks();
+            verification.complete(summary);
+            return summary;
+        } catch (RuntimeException e) {
+            verification.completeExceptionally(e);
+            throw e;
+        } finally {
+            runningVerification.set(null);
+        }
+    }
+
+    private VerificationSummaryValue runChecks() {
+        final long startTime = System.currentTimeMillis();
+        final Map<VerificationReport, Future<VerificationCheckValue>> checks = new EnumMap<>(VerificationReport.class);
+        try (ExecutorService checkExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (VerificationReport report : VerificationReport.values()) {
+                checks.put(report, checkExecutor.submit(() -> check(report)));
+            }
+        }
+
+        final List<VerificationCheckValue> results = new ArrayList<>();
+        checks.forEach((report, check) -> {
+            try {
+                results.add(check.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(new VerificationCheckValue(report.name(), null, 0, "interrupted"));
+            } catch (ExecutionException e) {
+                results.add(new VerificationCheckValue(report.name(), null, 0, e.getCause().getMessage()));
+            }
+        });
+        final VerificationSummaryValue summary = new VerificationSummaryValue(results,
+                System.currentTimeMillis() - startTime);
+        log.info("Verified catalog with {} checks in {}ms, {} records listed", results.size(),
+                summary.getDurationMillis(), summary.getTotalElements());
+        return summary;
+    }
+
+    @Scheduled(cron = "${datacat.verification.schedule:-}")
+    public void verifyScheduled() {
+        verifyAll();
+    }
+
+    private VerificationCheckValue check(VerificationReport report) {
+        final long startTime = System.currentTimeMillis();
+        try {
+            final ReportResult result = compute(report);
+            results.put(report, result);
+            return new VerificationCheckValue(report.name(), (long) result.ids().size(),
+                    System.currentTimeMillis() - startTime, null);
+        } catch (RuntimeException e) {
+            log.warn("Verification check {} failed", report, e);
+            return new VerificationCheckValue(report.name(), null, System.currentTimeMillis() - startTime,
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public void markDirty(String recordId) {
+        if (recordId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            dirtyIds.add(recordId);
+            scheduleRefresh();
+        });
+    }
+
+    @Override
+    public void invalidate() {
+        TransactionUtils.afterCommit(() -> {
+            outdatedReports.addAll(EnumSet.allOf(VerificationReport.class));
+            scheduleRefresh();
+        });
+    }
+
+    private void scheduleRefresh() {
+        generation.incrementAndGet();
+        if (refreshScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::refresh, properties.getRefreshDelay().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refresh() {
+        refreshScheduled.set(false);
+        final Set<String> recordIds = new HashSet<>();
+        String recordId;
+        while ((recordId = dirtyIds.poll()) != null) {
+            recordIds.add(recordId);
+        }
+        final Set<VerificationReport> reports = EnumSet.noneOf(VerificationReport.class);
+        reports.addAll(outdatedReports);
+        outdatedReports.removeAll(reports);
+
+        try {
+            if (!recordIds.isEmpty()) {
+                reports.addAll(findAffectedReports(recordIds));
+            }
+            for (VerificationReport report : reports) {
+                results.put(report, compute(report));
+            }
+            if (!reports.isEmpty()) {
+                log.debug("Recomputed {} verification reports after {} changed records", reports.size(),
+                        recordIds.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Refreshing the verification reports failed, retrying with the next change", e);
+            outdatedReports.addAll(recordIds.isEmpty() ? reports : EnumSet.allOf(VerificationReport.class));
+        }
+    }
+
+    /**
+     * Deleted records can not be traced back to their labels, so their
+     * removal outdates all reports.
+     */
+    @SuppressWarnings("unchecked")
+    private Set<VerificationReport> findAffectedReports(Set<String> recordIds) {
+        final Set<String> labels = new HashSet<>();
+        boolean deleted = false;
+        for (Map<String, Object> row : neo4jClient.query(LABELS_QUERY)
+                .bind(List.copyOf(recordIds)).to("ids")
+                .fetch().all()) {
+            final List<String> recordLabels = (List<String>) row.get("labels");
+            if (recordLabels == null) {
+                deleted = true;
+            } else {
+                labels.addAll(recordLabels);
+            }
+        }
+
+        final Set<VerificationReport> reports = EnumSet.noneOf(VerificationReport.class);
+        for (VerificationReport report : VerificationReport.values()) {
+            if (deleted || report.dependsOn(labels)) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    private ReportResult compute(VerificationReport report) {
+        try {
+            sessionBudget.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database session", e);
+        }
+        try {
+            return Timer.builder("datacat.verification.check")
+                    .tag("report", report.name())
+                    .register(meterRegistry)
+                    .record(() -> query(report));
+        } finally {
+            sessionBudget.release();
+        }
+    }
+
+    private ReportResult query(VerificationReport report) {
+        final long startTime = System.currentTimeMillis();
+        final long currentGeneration = generation.get();
+        final List<String> ids = switch (report) {
+            case THEME_WITHOUT_SUBJECT -> validationQuery.findThemeWithoutSubject();
+            case SUBJECT_WITHOUT_PROP -> validationQuery.findSubjectWithoutProp();
+            case PROP_GROUP_WITHOUT_PROP -> validationQuery.findPropGroupWithoutProp();
+            case PROP_WITHOUT_SUBJECT_OR_PROP_GROUP -> validationQuery.findPropWithoutSubjectOrPropGroup();
+            case VALUE_LIST_WITHOUT_PROP -> validationQuery.findValueListWithoutProp();
+            case UNIT_WITHOUT_VALUE_LIST -> validationQuery.findUnitWithoutValueList();
+            case VALUE_WITHOUT_VALUE_LIST -> validationQuery.findValueWithoutValueList();
+            case MISSING_TAGS -> validationQuery.findMissingTags();
+            case MISSING_ENGLISH_NAME -> validationQuery.findMissingEnglishName();
+            case MULTIPLE_IDS -> validationQuery.findMultipleIDs();
+            case MISSING_DESCRIPTION -> validationQuery.findMissingDescription();
+            case MISSING_ENGLISH_DESCRIPTION -> validationQuery.findMissingEnglishDescription();
+            case MULTIPLE_NAMES -> validationQuery.findMultipleNames();
+            case MULTIPLE_NAMES_ACROSS_CLASSES -> validationQuery.findMultipleNamesAcrossClasses();
+            case MISSING_DICTIONARY -> validationQuery.findMissingDictionary();
+            case MISSING_REFERENCE_DOCUMENT -> validationQuery.findMissingReferenceDocument();
+            case INACTIVE_CONCEPTS -> validationQuery.findInactiveConcepts();
+        };
+        log.trace("Computed verification report {} with {} records in {}ms (generation {})", report, ids.size(),
+                System.currentTimeMillis() - startTime, currentGeneration);
+        return new ReportResult(Collections.unmodifiableList(new ArrayList<>(ids)), currentGeneration);
+    }
+
+    /**
+     * @param generation The number of changes reported before the computation started.
+     */
+    private record ReportResult(List<String> ids, long generation) {
+    }
+}
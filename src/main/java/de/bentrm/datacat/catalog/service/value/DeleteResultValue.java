@@ -0,0 +1,17 @@
+package de.bentrm.datacat.catalog.service.value;
+
+import lombok.Value;
+
+@Value
+public class DeleteResultValue {
+    int records;
+    int dependents;
+    long durationMillis;
+
+    /**
+     * @return The number of deleted records per second.
+     */
+    public double getRecordsPerSecond() {
+        return durationMillis > 0 ? records * 1000.0 / durationMillis : records;
+    }
+}
@@ -0,0 +1,18 @@
+package de.bentrm.datacat.catalog.service.value;
+
+import lombok.Value;
+
+@Value
+public class ImportResultValue {
+    int records;
+    int texts;
+    int relationships;
+    long durationMillis;
+
+    /**
+     * @return The number of imported records per second.
+     */
+    public double getRecordsPerSecond() {
+        return durationMillis > 0 ? records * 1000.0 / durationMillis : records;
+    }
+}
@@ -0,0 +1,14 @@
+package de.bentrm.datacat.catalog.service.value;
+
+import lombok.Value;
+
+@Value
+public class VerificationCheckValue {
+    String name;
+    /**
+     * Number of listed records or null if the check failed.
+     */
+    Long totalElements;
+    long durationMillis;
+    String error;
+}
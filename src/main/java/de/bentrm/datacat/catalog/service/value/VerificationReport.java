@@ -0,0 +1,42 @@
+package de.bentrm.datacat.catalog.service.value;
+
+import java.util.Set;
+
+/**
+ * Enumeration of the catalog verification reports. Each report names the
+ * node labels its query depends on. A report is only recomputed if a
+ * record with one of these labels has changed.
+ */
+public enum VerificationReport {
+    THEME_WITHOUT_SUBJECT("XtdSubject", "XtdRelationshipToSubject", "Tag"),
+    SUBJECT_WITHOUT_PROP("XtdSubject", "XtdRelationshipToSubject", "XtdProperty", "Tag"),
+    PROP_GROUP_WITHOUT_PROP("XtdSubject", "XtdProperty", "Tag"),
+    PROP_WITHOUT_SUBJECT_OR_PROP_GROUP("XtdProperty", "XtdSubject", "XtdRelationshipToSubject", "Tag"),
+    VALUE_LIST_WITHOUT_PROP("XtdValueList", "XtdProperty"),
+    UNIT_WITHOUT_VALUE_LIST("XtdUnit", "XtdValueList", "XtdProperty"),
+    VALUE_WITHOUT_VALUE_LIST("XtdValue", "XtdOrderedValue", "XtdValueList"),
+    MISSING_TAGS("XtdSubject", "XtdProperty", "XtdUnit", "XtdValue", "Tag"),
+    MISSING_ENGLISH_NAME("XtdObject"),
+    MULTIPLE_IDS("Entity"),
+    MISSING_DESCRIPTION("XtdConcept", "XtdMultiLanguageText", "XtdText"),
+    MISSING_ENGLISH_DESCRIPTION("XtdConcept", "XtdMultiLanguageText", "XtdText"),
+    MULTIPLE_NAMES("XtdObject", "Tag"),
+    MULTIPLE_NAMES_ACROSS_CLASSES("XtdObject", "Tag"),
+    MISSING_DICTIONARY("XtdObject", "XtdDictionary"),
+    MISSING_REFERENCE_DOCUMENT("XtdConcept", "XtdExternalDocument"),
+    INACTIVE_CONCEPTS("XtdObject");
+
+    private final Set<String> labels;
+
+    VerificationReport(String... labels) {
+        this.labels = Set.of(labels);
+    }
+
+    /**
+     * @param changedLabels The labels of a changed record.
+     * @return True if the change may affect the result of this report.
+     */
+    public boolean dependsOn(Set<String> changedLabels) {
+        return labels.contains("Entity") || changedLabels.stream().anyMatch(labels::contains);
+    }
+}
@@ -0,0 +1,21 @@
+package de.bentrm.datacat.catalog.service.value;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class VerificationSummaryValue {
+    List<VerificationCheckValue> checks;
+    long durationMillis;
+
+    /**
+     * @return The number of records listed by all successful checks.
+     */
+    public long getTotalElements() {
+        return checks.stream()
+                .filter(check -> check.getTotalElements() != null)
+                .mapToLong(VerificationCheckValue::getTotalElements)
+                .sum();
+    }
+}
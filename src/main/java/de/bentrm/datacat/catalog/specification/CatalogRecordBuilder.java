@@ -5,24 +5,55 @@ import de.bentrm.datacat.catalog.domain.CatalogRecordType;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 @ToString(callSuper = true)
 public abstract class CatalogRecordBuilder<B extends CatalogRecordBuilder<B>> extends GenericBuilder<B> {
 
+    /**
+     * Name of the full-text index on the {@code text} property of {@code XtdText} nodes.
+     */
+    public static final String TEXT_INDEX = "xtd_text_fulltext";
+
+    private static final Pattern LUCENE_SPECIAL_CHARACTERS = Pattern.compile("([+\\-!():^\\[\\]\"{}~*?|&/\\\\])");
+
+    protected String searchTerm;
+    protected List<String> languageTags;
+    protected boolean fuzzy;
+
+    /**
+     * Restricts the result to records whose name contains all terms of the
+     * query. Matching is performed using the full-text index, results are
+     * ranked by relevance.
+     */
     @Override
     public B query(String query) {
-        final Optional<String> regex = sanitizeQueryString(query);
+        if (query != null && !query.isBlank()) {
+            this.searchTerm = query.trim();
+        }
+        return self();
+    }
 
-        if (regex.isPresent()) {
-        String textFilter = "EXISTS {MATCH(n)-[:NAMES]->(y:XtdMultiLanguageText)-[:TEXTS]->(z:XtdText) WHERE z.text =~ '.*" + regex.get() + ".*'}";
+    /**
+     * Only names in the given languages are matched by the query, e.g. "de"
+     * or "en-US". Languages are compared by their primary subtag, so
+     * "en-US" matches names in "en" and "en-GB" as well.
+     */
+    public B languageTags(final List<String> languageTags) {
+        this.languageTags = List.copyOf(languageTags);
+        return self();
+    }
 
-        // Add the filter to the list of filters
-        this.filters.add(textFilter);
-        }
+    /**
+     * Allows the terms of the query to match with minor spelling differences.
+     */
+    public B fuzzy(final Boolean fuzzy) {
+        this.fuzzy = Boolean.TRUE.equals(fuzzy);
         return self();
     }
 
@@ -49,9 +80,58 @@ public abstract class CatalogRecordBuilder<B extends CatalogRecordBuilder<B>> ex
     }
 
     public B tagged(final List<String> tagIds) {
-        String filter = "EXISTS { MATCH (n)-[:TAGGED]->(t:Tag) WHERE t.id IN ['" + String.join("', '", tagIds) + "'] }";
+        String filter = "EXISTS { MATCH (n)-[:TAGGED]->(t:Tag) WHERE t.id IN " + bind(List.copyOf(tagIds)) + " }";
         filters.add(filter);
         return self();
     }
 
+    /**
+     * Renders the full-text part of the query. The clause is assembled when
+     * the specification is built, as the search term and its options may be
+     * set in any order.
+     * @return The clause or null if no search term has been given.
+     */
+    protected String buildFullTextClause() {
+        if (searchTerm == null) {
+            return null;
+        }
+        final String luceneQuery = toLuceneQuery(searchTerm);
+        if (luceneQuery.isEmpty()) {
+            return null;
+        }
+
+        final String languageFilter = buildLanguageFilter();
+        return "CALL db.index.fulltext.queryNodes('" + TEXT_INDEX + "', " + bind(luceneQuery) + ") YIELD node, score "
+                + "MATCH (n)-[:NAMES]->(:XtdMultiLanguageText)-[:TEXTS]->(node) "
+                + (languageFilter != null ? "WHERE " + languageFilter + " " : "")
+                + "WITH n, max(score) AS score";
+    }
+
+    /**
+     * @return The condition on the matched text {@code node} or null if no languages are given.
+     */
+    private String buildLanguageFilter() {
+        if (languageTags == null || languageTags.isEmpty()) {
+            return null;
+        }
+        final List<String> primaryTags = languageTags.stream()
+                .map(tag -> tag.split("-", 2)[0].toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        return "EXISTS { MATCH (node)-[:LANGUAGE]->(l:XtdLanguage) WHERE toLower(split(l.code, '-')[0]) IN "
+                + bind(primaryTags) + " }";
+    }
+
+    /**
+     * Translates the user input into a Lucene query: every whitespace
+     * separated term has to match as prefix of a word in the text. Fuzzy
+     * queries additionally accept terms within an edit distance of two.
+     */
+    private String toLuceneQuery(String term) {
+        return Arrays.stream(term.split("\\s+"))
+                .map(token -> LUCENE_SPECIAL_CHARACTERS.matcher(token).replaceAll("\\\\$1"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> fuzzy ? "(" + token + "~ OR " + token + "*)" : token + "*")
+                .collect(Collectors.joining(" AND "));
+    }
 }
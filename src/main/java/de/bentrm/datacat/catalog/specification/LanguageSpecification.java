@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static de.bentrm.datacat.catalog.domain.XtdObject.DEFAULT_LANGUAGE_TAG;
@@ -19,8 +20,8 @@ public final class LanguageSpecification extends QuerySpecification {
         return new Builder();
     }
 
-    private LanguageSpecification(List<String> filters, Integer pageNumber, Integer pageSize) {
-        super(filters, Sort.Direction.ASC, List.of("labels." + DEFAULT_LANGUAGE_TAG), pageNumber, pageSize);
+    private LanguageSpecification(List<String> filters, Map<String, Object> parameters, Integer pageNumber, Integer pageSize, String after) {
+        super(filters, parameters, null, Sort.Direction.ASC, List.of("labels." + DEFAULT_LANGUAGE_TAG), pageNumber, pageSize, after);
     }
 
     @Slf4j
@@ -39,7 +40,8 @@ public final class LanguageSpecification extends QuerySpecification {
         public LanguageSpecification.Builder query(String query) {
             final Optional<String> regex = sanitizeQueryString(query);
             if (regex.isPresent()) {
-                final String textFilter = " n.englishName =~ '" + regex.get() + "'" + " OR n.nativeName =~ '" + regex.get() + "'";
+                final String pattern = bind(regex.get());
+                final String textFilter = " n.englishName =~ " + pattern + " OR n.nativeName =~ " + pattern;
                 this.filters.add(textFilter);
             }
             return self();
@@ -47,7 +49,7 @@ public final class LanguageSpecification extends QuerySpecification {
 
         @Override
         public LanguageSpecification build() {
-            return new LanguageSpecification(this.filters, this.pageNumber, this.pageSize);
+            return new LanguageSpecification(this.filters, this.parameters, this.pageNumber, this.pageSize, this.after);
         }
 
     }
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
 
 import static de.bentrm.datacat.catalog.domain.XtdObject.DEFAULT_LANGUAGE_TAG;
 
@@ -18,8 +19,8 @@ public final class RootSpecification extends QuerySpecification {
         return new Builder();
     }
 
-    protected RootSpecification(List<String> filters, Integer pageNumber, Integer pageSize) {
-        super(filters, Sort.Direction.ASC, List.of("labels." + DEFAULT_LANGUAGE_TAG), pageNumber, pageSize);
+    protected RootSpecification(List<String> filters, Map<String, Object> parameters, String fullTextClause, Integer pageNumber, Integer pageSize, String after) {
+        super(filters, parameters, fullTextClause, Sort.Direction.ASC, List.of("labels." + DEFAULT_LANGUAGE_TAG), pageNumber, pageSize, after);
     }
 
     @Slf4j
@@ -33,7 +34,8 @@ public final class RootSpecification extends QuerySpecification {
 
         @Override
         public RootSpecification build() {
-            return new RootSpecification(this.filters, this.pageNumber, this.pageSize);
+            final String fullTextClause = buildFullTextClause();
+            return new RootSpecification(this.filters, this.parameters, fullTextClause, this.pageNumber, this.pageSize, this.after);
         }
     }
 }
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static de.bentrm.datacat.catalog.domain.XtdObject.DEFAULT_LANGUAGE_TAG;
@@ -19,8 +20,8 @@ public class TagSpecification extends QuerySpecification {
         return new TagSpecification.Builder();
     }
 
-    private TagSpecification(List<String> filters, Integer pageNumber, Integer pageSize) {
-        super(filters, Sort.Direction.ASC, List.of("labels." + DEFAULT_LANGUAGE_TAG), pageNumber, pageSize);
+    private TagSpecification(List<String> filters, Map<String, Object> parameters, Integer pageNumber, Integer pageSize, String after) {
+        super(filters, parameters, null, Sort.Direction.ASC, List.of("labels." + DEFAULT_LANGUAGE_TAG), pageNumber, pageSize, after);
     }
 
     @Slf4j
@@ -39,7 +40,7 @@ public class TagSpecification extends QuerySpecification {
         public TagSpecification.Builder query(String query) {
             final Optional<String> regex = sanitizeQueryString(query);
             if (regex.isPresent()) {
-                final String textFilter = " n.name =~ '" + regex.get() + "'";
+                final String textFilter = " n.name =~ " + bind(regex.get());
                 this.filters.add(textFilter);
             }
             return self();
@@ -47,7 +48,7 @@ public class TagSpecification extends QuerySpecification {
 
         @Override
         public TagSpecification build() {
-            return new TagSpecification(this.filters, this.pageNumber, this.pageSize);
+            return new TagSpecification(this.filters, this.parameters, this.pageNumber, this.pageSize, this.after);
         }
 
     }
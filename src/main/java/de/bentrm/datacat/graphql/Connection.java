@@ -1,6 +1,7 @@
 package de.bentrm.datacat.graphql;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.util.Assert;
 
 import java.util.Collection;
@@ -17,6 +18,16 @@ public class Connection<T> {
         return new Connection<>(page.getContent(), PageInfo.of(page), page.getTotalElements());
     }
 
+    /**
+     * Creates a connection without total number of elements. The page info
+     * carries the cursors but not the number of pages, so this is only to be
+     * used if the client did not select any of the counted fields.
+     */
+    public static <T> Connection<T> of(Slice<T> slice) {
+        Assert.notNull(slice, "A slice may never be null.");
+        return new Connection<>(slice.getContent(), PageInfo.of(slice), null);
+    }
+
     public static <T> Connection<T> of(Collection<T> list) {
         Assert.notNull(list, "A collection may never be null.");
         return new Connection<T>(list, PageInfo.of(list), (long) list.size());
@@ -1,9 +1,15 @@
 package de.bentrm.datacat.graphql;
 
+import de.bentrm.datacat.catalog.domain.XtdRelationshipToSubject;
+import de.bentrm.datacat.properties.AppProperties;
+import org.dataloader.DataLoaderOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 /**
  * GraphQL configuration for optimizing batch loading and performance.
@@ -15,11 +21,32 @@ public class GraphQLConfig {
     /**
      * Configure BatchLoaderRegistry for large datasets.
      * This helps prevent "Connection pool pending acquisition queue is full" errors.
-     * Note: Batch loading options (batch size, scheduling delay) should be configured
-     * when registering individual batch loaders using DataLoaderOptions.
+     * The {@link RelationshipDataLoader} is registered with a maximum batch size of
+     * {@code datacat.query.max-batch-size} keys, related records are cached for the
+     * duration of a request so each one is loaded only once. The
+     * {@link SubjectRelationshipDataLoader} is registered with the same options.
      */
     @Bean
-    public BatchLoaderRegistry batchLoaderRegistry() {
-        return new DefaultBatchLoaderRegistry();
+    public BatchLoaderRegistry batchLoaderRegistry(RelationshipDataLoader relationshipDataLoader,
+                                                   SubjectRelationshipDataLoader subjectRelationshipDataLoader,
+                                                   AppProperties properties) {
+        final BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
+        registry.<RelationshipDataLoader.Key, List<Object>>forName(RelationshipDataLoader.NAME)
+                .withOptions(getDataLoaderOptions(properties))
+                .registerMappedBatchLoader((keys, environment) ->
+                        Mono.fromCallable(() -> relationshipDataLoader.loadRelatedRecords(keys)));
+        registry.<SubjectRelationshipDataLoader.Key, List<XtdRelationshipToSubject>>forName(
+                        SubjectRelationshipDataLoader.NAME)
+                .withOptions(getDataLoaderOptions(properties))
+                .registerMappedBatchLoader((keys, environment) ->
+                        Mono.fromCallable(() -> subjectRelationshipDataLoader.loadRelationships(keys)));
+        return registry;
+    }
+
+    private static DataLoaderOptions getDataLoaderOptions(AppProperties properties) {
+        return DataLoaderOptions.newOptions()
+                .setMaxBatchSize(properties.getQuery().getMaxBatchSize())
+                .setCachingEnabled(true)
+                .build();
     }
 }
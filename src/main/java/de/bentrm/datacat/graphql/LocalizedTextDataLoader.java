@@ -0,0 +1,68 @@
+package de.bentrm.datacat.graphql;
+
+import de.bentrm.datacat.graphql.input.LocalizationInput;
+import de.bentrm.datacat.util.LocalizationUtils;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Batches the resolution of localized text fields like comment or
+ * description. All keys of a request that share the relationship type and
+ * the language priority list are resolved with a single query.
+ */
+@Slf4j
+@Component
+public class LocalizedTextDataLoader {
+
+    public static final String NAME = "localizedText";
+
+    public LocalizedTextDataLoader(BatchLoaderRegistry registry) {
+        registry.<Key, String>forName(NAME)
+                .registerMappedBatchLoader((keys, environment) -> Mono.fromCallable(() -> loadTranslations(keys)));
+    }
+
+    /**
+     * Schedules the lookup of a localized text of the given record.
+     *
+     * @param environment      The environment of the current data fetcher.
+     * @param ownerId          The id of the record owning the text.
+     * @param relationshipType The relationship type linking the multi language text, e.g. COMMENTS.
+     * @param input            The requested languages, the default languages are used if missing.
+     * @return The selected translation or null if the record has no text.
+     */
+    public static CompletableFuture<String> load(DataFetchingEnvironment environment, String ownerId,
+                                                 String relationshipType, LocalizationInput input) {
+        final List<Locale.LanguageRange> priorityList = input != null && input.getPriorityList() != null
+                ? input.getPriorityList()
+                : LocalizationUtils.DEFAULT_LANGUAGE_RANGE;
+        final DataLoader<Key, String> dataLoader = environment.getDataLoader(NAME);
+        return dataLoader.load(new Key(ownerId, relationshipType, priorityList));
+    }
+
+    private static Map<Key, String> loadTranslations(Set<Key> keys) {
+        final Map<Key, String> result = new HashMap<>();
+        final Map<Key, List<Key>> groups = keys.stream()
+                .collect(Collectors.groupingBy(key -> new Key(null, key.relationshipType(), key.priorityList())));
+
+        groups.forEach((group, groupKeys) -> {
+            final List<String> ownerIds = groupKeys.stream().map(Key::ownerId).distinct().toList();
+            final Map<String, String> translations = LocalizationUtils
+                    .getTranslations(group.priorityList(), ownerIds, group.relationshipType());
+            groupKeys.forEach(key -> result.put(key, translations.get(key.ownerId())));
+        });
+
+        log.trace("Resolved {} localized texts in {} queries", keys.size(), groups.size());
+        return result;
+    }
+
+    public record Key(String ownerId, String relationshipType, List<Locale.LanguageRange> priorityList) {
+    }
+}
@@ -1,6 +1,10 @@
 package de.bentrm.datacat.graphql;
 
+import de.bentrm.datacat.base.specification.CursorPage;
+import de.bentrm.datacat.base.specification.CursorSlice;
+import de.bentrm.datacat.base.specification.PageCursor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.Collection;
 
@@ -10,16 +14,65 @@ public class PageInfo {
     private final Long pageSize;
     private final Long pageElements;
     private final Long totalPages;
+    private final String startCursor;
+    private final String endCursor;
+    private final Boolean hasNext;
+    private final Boolean hasPrevious;
 
     public PageInfo(long pageNumber, long pageSize, long pageElements, long totalPages) {
+        this(pageNumber, pageSize, pageElements, totalPages, null, null, null, null);
+    }
+
+    /**
+     * @param totalPages  The number of pages or null if the matching records have not been counted.
+     * @param hasNext     Whether a next page exists or null to derive it from the page number.
+     * @param hasPrevious Whether a previous page exists or null to derive it from the page number.
+     */
+    public PageInfo(long pageNumber, long pageSize, long pageElements, Long totalPages, String startCursor,
+                    String endCursor, Boolean hasNext, Boolean hasPrevious) {
         this.pageNumber = pageNumber;
         this.pageSize = pageSize;
         this.pageElements = pageElements;
         this.totalPages = totalPages;
+        this.startCursor = startCursor;
+        this.endCursor = endCursor;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
     }
 
+    /**
+     * Pages loaded without cursors are given offset cursors, so a client can
+     * continue any list by cursor.
+     */
     public static PageInfo of(Page<?> page) {
-        return new PageInfo(page.getNumber(), page.getSize(), page.getContent().size(), page.getTotalPages());
+        final int elements = page.getContent().size();
+        if (page instanceof CursorPage<?> cursorPage) {
+            return new PageInfo(page.getNumber(), page.getSize(), elements, (long) page.getTotalPages(),
+                    cursorPage.getStartCursor(), cursorPage.getEndCursor(), page.hasNext(), page.hasPrevious());
+        }
+        final long offset = page.getPageable().isPaged() ? page.getPageable().getOffset() : 0;
+        return new PageInfo(page.getNumber(), page.getSize(), elements, (long) page.getTotalPages(),
+                elements > 0 ? PageCursor.ofOffset(offset + 1).encode() : null,
+                elements > 0 ? PageCursor.ofOffset(offset + elements).encode() : null,
+                null, null);
+    }
+
+    /**
+     * Page info of a list whose matching records have not been counted. The
+     * number of pages is unknown, the cursors and whether further records
+     * follow are taken from the slice.
+     */
+    public static PageInfo of(Slice<?> slice) {
+        final int elements = slice.getContent().size();
+        if (slice instanceof CursorSlice<?> cursorSlice) {
+            return new PageInfo(slice.getNumber(), slice.getSize(), elements, null, cursorSlice.getStartCursor(),
+                    cursorSlice.getEndCursor(), slice.hasNext(), slice.hasPrevious());
+        }
+        final long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        return new PageInfo(slice.getNumber(), slice.getSize(), elements, null,
+                elements > 0 ? PageCursor.ofOffset(offset + 1).encode() : null,
+                elements > 0 ? PageCursor.ofOffset(offset + elements).encode() : null,
+                slice.hasNext(), slice.hasPrevious());
     }
 
     public static PageInfo of(Collection<?> content) {
@@ -42,20 +95,28 @@ public class PageInfo {
         return totalPages;
     }
 
+    public String getStartCursor() {
+        return startCursor;
+    }
+
+    public String getEndCursor() {
+        return endCursor;
+    }
+
     public Boolean isHasNext() {
-        return this.pageNumber < this.totalPages;
+        return hasNext != null ? hasNext : this.pageNumber < this.totalPages;
     }
 
     public Boolean isHasPrevious() {
-        return this.pageNumber != 0;
+        return hasPrevious != null ? hasPrevious : this.pageNumber != 0;
     }
 
     public Boolean isFirst() {
-        return pageNumber == 0;
+        return hasPrevious != null ? !hasPrevious : pageNumber == 0;
     }
 
     public Boolean isLast() {
-        return this.pageNumber == this.totalPages;
+        return hasNext != null ? !hasNext : this.pageNumber == this.totalPages;
     }
 
 }
@@ -0,0 +1,163 @@
+package de.bentrm.datacat.graphql;
+
+import de.bentrm.datacat.base.domain.Entity;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Batches the resolution of the {@link org.springframework.data.neo4j.core.schema.Relationship}
+ * fields of the domain classes. The relationship is looked up in the mapping
+ * metadata by the field name. All keys of a request that share the label,
+ * relationship type and direction are resolved with a single query. The
+ * batch loader is registered in {@link GraphQLConfig}.
+ */
+@Slf4j
+@Component
+public class RelationshipDataLoader {
+
+    public static final String NAME = "relationship";
+
+    private final Neo4jClient neo4jClient;
+
+    private final Neo4jMappingContext mappingContext;
+
+    private final Map<RelationshipField, Relation> relations = new ConcurrentHashMap<>();
+
+    public RelationshipDataLoader(Neo4jClient neo4jClient, Neo4jMappingContext mappingContext) {
+        this.neo4jClient = neo4jClient;
+        this.mappingContext = mappingContext;
+    }
+
+    /**
+     * Schedules the lookup of the records related to the given record.
+     *
+     * @param environment The environment of the current data fetcher.
+     * @param source      The record owning the relationship.
+     * @param fieldName   The name of the relationship field of the domain class.
+     * @return The related records, loaded without their relationships.
+     */
+    public <T> CompletableFuture<List<T>> loadMany(DataFetchingEnvironment environment, Entity source,
+                                                   String fieldName) {
+        return load(environment, source, fieldName, false);
+    }
+
+    /**
+     * Schedules the lookup of the single record related to the given record.
+     *
+     * @param environment         The environment of the current data fetcher.
+     * @param source              The record owning the relationship.
+     * @param fieldName           The name of the relationship field of the domain class.
+     * @param withDirectRelations Whether the outgoing relationships of the related record are loaded as well.
+     * @return The related record or null if there is none.
+     */
+    public <T> CompletableFuture<T> loadOne(DataFetchingEnvironment environment, Entity source, String fieldName,
+                                            boolean withDirectRelations) {
+        return this.<T>load(environment, source, fieldName, withDirectRelations)
+                .thenApply(records -> records.isEmpty() ? null : records.get(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<List<T>> load(DataFetchingEnvironment environment, Entity source,
+                                                String fieldName, boolean withDirectRelations) {
+        final Relation relation = relations.computeIfAbsent(new RelationshipField(source.getClass(), fieldName),
+                this::resolve);
+        final Key key = new Key(relation, withDirectRelations, source.getId());
+        return environment.<Key, List<Object>>getDataLoader(NAME).load(key)
+                .thenApply(records -> records != null ? (List<T>) records : List.of());
+    }
+
+    /**
+     * Resolves the related records of all given keys.
+     *
+     * @return The related records mapped by their key, keys without related records are omitted.
+     */
+    public Map<Key, List<Object>> loadRelatedRecords(Set<Key> keys) {
+        final Map<Key, List<Object>> result = new HashMap<>();
+        final Map<Key, List<Key>> groups = keys.stream()
+                .collect(Collectors.groupingBy(key -> new Key(key.relation(), key.withDirectRelations(), null)));
+
+        groups.forEach((group, groupKeys) -> {
+            final List<String> ids = groupKeys.stream().map(Key::recordId).distinct().toList();
+            final Map<String, List<Object>> relatedRecords = query(group.relation(), group.withDirectRelations(), ids);
+            groupKeys.forEach(key -> {
+                final List<Object> records = relatedRecords.get(key.recordId());
+                if (records != null) {
+                    result.put(key, records);
+                }
+            });
+        });
+
+        log.trace("Resolved related records of {} records in {} queries", keys.size(), groups.size());
+        return result;
+    }
+
+    private Map<String, List<Object>> query(Relation relation, boolean withDirectRelations, List<String> ids) {
+        final String pattern = relation.direction() == Relationship.Direction.OUTGOING
+                ? "-[:" + relation.type() + "]->"
+                : "<-[:" + relation.type() + "]-";
+        final String query = "MATCH (n:" + relation.label() + ")" + pattern + "(o:" + relation.targetLabel() + ")"
+                + " WHERE n.id IN $ids"
+                + (withDirectRelations
+                ? " OPTIONAL MATCH (o)-[r]->(related)"
+                + " WITH n, o, collect(r) AS relations, collect(related) AS relatedNodes"
+                + " RETURN n.id AS sourceId, o, relations, relatedNodes"
+                : " RETURN n.id AS sourceId, o");
+
+        final var mappingFunction = mappingContext.getRequiredMappingFunctionFor(relation.targetType());
+        final Map<String, List<Object>> result = new HashMap<>();
+        neo4jClient.query(query)
+                .bind(ids).to("ids")
+                .fetchAs(RelatedRecord.class)
+                .mappedBy((typeSystem, record) -> new RelatedRecord(record.get("sourceId").asString(),
+                        mappingFunction.apply(typeSystem, record)))
+                .all()
+                .forEach(row -> result.computeIfAbsent(row.sourceId(), id -> new ArrayList<>()).add(row.record()));
+        return result;
+    }
+
+    private Relation resolve(RelationshipField field) {
+        final Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(field.domainClass());
+        final RelationshipDescription description = entity.getRelationships().stream()
+                .filter(relationship -> relationship.getFieldName().equals(field.fieldName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No relationship " + field.fieldName()
+                        + " found on " + field.domainClass().getSimpleName() + "."));
+        return new Relation(
+                escape(entity.getPrimaryLabel()),
+                escape(description.getType()),
+                description.getDirection(),
+                escape(description.getTarget().getPrimaryLabel()),
+                description.getTarget().getUnderlyingClass());
+    }
+
+    private static String escape(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+
+    /**
+     * A relationship of the graph, the label and types are escaped for use in a query.
+     */
+    public record Relation(String label, String type, Relationship.Direction direction, String targetLabel,
+                           Class<?> targetType) {
+    }
+
+    public record Key(Relation relation, boolean withDirectRelations, String recordId) {
+    }
+
+    private record RelationshipField(Class<?> domainClass, String fieldName) {
+    }
+
+    private record RelatedRecord(String sourceId, Object record) {
+    }
+}
@@ -0,0 +1,77 @@
+package de.bentrm.datacat.graphql;
+
+import de.bentrm.datacat.catalog.domain.XtdRelationshipToSubject;
+import de.bentrm.datacat.catalog.service.SubjectRecordService;
+import de.bentrm.datacat.graphql.input.RelationshipToSubjectFilterInput;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Batches the resolution of the connected and connecting subjects of
+ * subjects. All keys of a request that share the direction and the
+ * relationship type filter are resolved with a single query. The
+ * relationships are loaded with their directly related records, so their
+ * type, scope and target subjects need no further query. The batch loader
+ * is registered in {@link GraphQLConfig}.
+ */
+@Slf4j
+@Component
+public class SubjectRelationshipDataLoader {
+
+    public static final String NAME = "subjectRelationship";
+
+    private final SubjectRecordService subjectRecordService;
+
+    public SubjectRelationshipDataLoader(SubjectRecordService subjectRecordService) {
+        this.subjectRecordService = subjectRecordService;
+    }
+
+    /**
+     * Schedules the lookup of the relationships of the given subject.
+     *
+     * @param environment The environment of the current data fetcher.
+     * @param subjectId   The id of the subject.
+     * @param connecting  True for the relationships targeting the subject, false for the ones starting at it.
+     * @param filter      Restricts the relationships to a relationship type, may be null.
+     * @return The relationships of the subject.
+     */
+    public CompletableFuture<List<XtdRelationshipToSubject>> load(DataFetchingEnvironment environment,
+                                                                  String subjectId, boolean connecting,
+                                                                  RelationshipToSubjectFilterInput filter) {
+        final String relationshipTypeName = filter != null ? filter.getRelationshipTypeName() : null;
+        final DataLoader<Key, List<XtdRelationshipToSubject>> dataLoader = environment.getDataLoader(NAME);
+        return dataLoader.load(new Key(subjectId, connecting, relationshipTypeName))
+                .thenApply(relationships -> relationships != null ? relationships : List.of());
+    }
+
+    /**
+     * Resolves the relationships of all given keys.
+     *
+     * @return The relationships mapped by their key.
+     */
+    public Map<Key, List<XtdRelationshipToSubject>> loadRelationships(Set<Key> keys) {
+        final Map<Key, List<XtdRelationshipToSubject>> result = new HashMap<>();
+        final Map<Key, List<Key>> groups = keys.stream()
+                .collect(Collectors.groupingBy(key -> new Key(null, key.connecting(), key.relationshipTypeName())));
+
+        groups.forEach((group, groupKeys) -> {
+            final List<String> subjectIds = groupKeys.stream().map(Key::subjectId).distinct().toList();
+            final Map<String, List<XtdRelationshipToSubject>> relationships = group.connecting()
+                    ? subjectRecordService.getConnectingSubjectsForSubjects(subjectIds, group.relationshipTypeName())
+                    : subjectRecordService.getConnectedSubjectsForSubjects(subjectIds, group.relationshipTypeName());
+            groupKeys.forEach(key -> result.put(key, relationships.getOrDefault(key.subjectId(), List.of())));
+        });
+
+        log.trace("Resolved subject relationships of {} subjects in {} queries", keys.size(), groups.size());
+        return result;
+    }
+
+    public record Key(String subjectId, boolean connecting, String relationshipTypeName) {
+    }
+}
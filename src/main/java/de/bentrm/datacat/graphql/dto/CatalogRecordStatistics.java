@@ -2,6 +2,7 @@ package de.bentrm.datacat.graphql.dto;
 
 public class CatalogRecordStatistics {
     private String id;
+    private String name;
     private Long count;
 
     public CatalogRecordStatistics(String id, Long count) {
@@ -9,6 +10,12 @@ public class CatalogRecordStatistics {
         this.count = count;
     }
 
+    public CatalogRecordStatistics(String id, String name, Long count) {
+        this.id = id;
+        this.name = name;
+        this.count = count;
+    }
+
     public String getId() {
         return id;
     }
@@ -17,6 +24,14 @@ public class CatalogRecordStatistics {
         this.id = id;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
     public Long getCount() {
         return count;
     }
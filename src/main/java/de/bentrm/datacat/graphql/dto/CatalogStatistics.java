@@ -7,6 +7,10 @@ public class CatalogStatistics {
 
     private List<CatalogRecordStatistics> items = new ArrayList<>();
 
+    private List<CatalogRecordStatistics> tags = new ArrayList<>();
+
+    private List<CatalogRecordStatistics> dictionaries = new ArrayList<>();
+
     public List<CatalogRecordStatistics> getItems() {
         return items;
     }
@@ -14,4 +18,20 @@ public class CatalogStatistics {
     public void setItems(List<CatalogRecordStatistics> items) {
         this.items = items;
     }
+
+    public List<CatalogRecordStatistics> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<CatalogRecordStatistics> tags) {
+        this.tags = tags;
+    }
+
+    public List<CatalogRecordStatistics> getDictionaries() {
+        return dictionaries;
+    }
+
+    public void setDictionaries(List<CatalogRecordStatistics> dictionaries) {
+        this.dictionaries = dictionaries;
+    }
 }
@@ -12,4 +12,5 @@ public class FilterInput {
     List<String> tagged;
     Integer pageNumber = 0;
     Integer pageSize = 10;
+    String after;
 }
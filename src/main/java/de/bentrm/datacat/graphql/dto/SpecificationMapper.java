@@ -10,6 +10,7 @@ import de.bentrm.datacat.graphql.input.HierarchyRootNodeFilterInput;
 import de.bentrm.datacat.graphql.input.SearchInput;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.factory.Mappers;
@@ -26,12 +27,20 @@ public interface SpecificationMapper {
 
     CatalogRecordSpecification toCatalogRecordSpecification(@NotNull SearchInput input);
 
+    @Mapping(target = "languageTags", ignore = true)
+    @Mapping(target = "fuzzy", ignore = true)
     CatalogRecordSpecification toCatalogRecordSpecification(@NotNull FilterInput input);
 
+    @Mapping(target = "languageTags", ignore = true)
+    @Mapping(target = "fuzzy", ignore = true)
+    @Mapping(target = "after", ignore = true)
     CatalogRecordSpecification toCatalogRecordSpecification(@NotNull HierarchyRootNodeFilterInput input);
 
+    @Mapping(target = "languageTags", ignore = true)
+    @Mapping(target = "fuzzy", ignore = true)
     LanguageSpecification toLanguageSpecification(@NotNull FilterInput input);
 
+    @Mapping(target = "after", ignore = true)
     UserSpecification toSpecification(@NotNull AccountFilterInput filter);
 
     AccountUpdateDto toDto(AccountUpdateInput input);
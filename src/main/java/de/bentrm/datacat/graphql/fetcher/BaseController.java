@@ -1,8 +1,12 @@
 package de.bentrm.datacat.graphql.fetcher;
 
+import de.bentrm.datacat.base.domain.Entity;
 import de.bentrm.datacat.catalog.domain.CatalogRecord;
 import de.bentrm.datacat.catalog.service.CatalogService;
+import de.bentrm.datacat.catalog.service.QueryService;
 import de.bentrm.datacat.graphql.dto.CatalogStatistics;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingEnvironment;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -24,8 +28,18 @@ public class BaseController {
     }
 
     @QueryMapping
-    public Optional<CatalogRecord> node(@Argument String id) {
-        return catalogService.getEntryById(id);
+    public Optional<CatalogRecord> node(@Argument String id, DataFetchingEnvironment environment) {
+        return catalogService.getEntryById(id, SelectionSetUtils.getPropertyFieldNames(environment));
+    }
+
+    /**
+     * Loads a single record for a top-level query. Only the relationships of
+     * selected fields that are read from the record itself are loaded, all
+     * other fields are resolved by their own (batched) data fetchers.
+     */
+    static <T extends Entity> Optional<T> findById(QueryService<T> service, String id,
+                                                   DataFetchingEnvironment environment) {
+        return service.findByIdWithRelations(id, SelectionSetUtils.getPropertyFieldNames(environment));
     }
 
     // @QueryMapping
@@ -10,6 +10,7 @@ import de.bentrm.datacat.catalog.domain.XtdValue;
 import de.bentrm.datacat.catalog.service.CatalogCleanupService;
 import de.bentrm.datacat.catalog.service.CatalogService;
 import de.bentrm.datacat.catalog.service.ConceptRecordService;
+import de.bentrm.datacat.catalog.service.ObjectNameCacheService;
 import de.bentrm.datacat.catalog.service.TagService;
 import de.bentrm.datacat.catalog.service.TextRecordService;
 import de.bentrm.datacat.catalog.service.ValueRecordService;
@@ -26,6 +27,8 @@ import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Controller
 @Validated
@@ -58,25 +61,33 @@ public class ContentController {
     @Autowired
     private ValueRecordService valueRecordService;
 
+    @Autowired
+    private ObjectNameCacheService objectNameCacheService;
+
     @MutationMapping
     protected AddTextPayload addName(@Argument AddTextInput input) {
         final XtdObject item = objectRecordService.addName(input);
+        objectNameCacheService.evict(input.getCatalogEntryId());
         return payloadMapper.toAddTextPayload(item);
     }
 
     @MutationMapping
     protected UpdateTextPayload updateName(@Argument UpdateTextInput input) {
+        final List<String> namedObjectIds = textRecordService.findObjectIdsNamedByText(input.getTextId());
         final XtdText item = textRecordService.updateText(input.getTextId(), input.getValue());
+        namedObjectIds.forEach(objectNameCacheService::evict);
         return payloadMapper.toUpdateTextPayload(item);
     }
 
     @MutationMapping
     protected DeleteTextPayload deleteName(@Argument DeleteTextInput input) {
+        final List<String> namedObjectIds = textRecordService.findObjectIdsNamedByText(input.getTextId());
         TextCountResult textCount = textRecordService.countTexts(input.getTextId());
         final XtdText item = textRecordService.deleteText(input.getTextId());
         if (textCount.getTextNumber() == 1) {
             catalogCleanupService.deleteNodeWithRelationships(textCount.getId());
         }
+        namedObjectIds.forEach(objectNameCacheService::evict);
         return payloadMapper.toDeleteTextPayload(item);
     }
 
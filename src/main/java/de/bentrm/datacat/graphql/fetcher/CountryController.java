@@ -7,18 +7,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class CountryController {
@@ -29,29 +30,27 @@ public class CountryController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdCountry> getCountry(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdCountry.class.getSimpleName());
+    public Optional<XtdCountry> getCountry(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
     
     @QueryMapping
-    public Connection<XtdCountry> findCountries(@Argument FilterInput input) {
+    public Connection<XtdCountry> findCountries(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdCountry> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdCountry", field = "subdivisions")
-    public Map<XtdCountry, List<XtdSubdivision>> getSubdivisions(List<XtdCountry> countries) {
-        return countries.stream()
-                .filter(country -> country != null)  // Filter out null countries
-                .collect(Collectors.toMap(
-                        country -> country,
-                        country -> {
-                            List<XtdSubdivision> result = service.getSubdivisions(country);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdCountry", field = "subdivisions")
+    public CompletableFuture<List<XtdSubdivision>> getSubdivisions(XtdCountry country,
+                                                                   DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, country, "subdivisions");
     }
 }
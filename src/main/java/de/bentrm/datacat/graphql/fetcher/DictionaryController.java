@@ -8,6 +8,9 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -33,17 +36,19 @@ public class DictionaryController {
     private SpecificationMapper specificationMapper;
 
     @QueryMapping
-    public Optional<XtdDictionary> getDictionary(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdDictionary.class.getSimpleName());
+    public Optional<XtdDictionary> getDictionary(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdDictionary> findDictionaries(@Argument FilterInput input) {
+    public Connection<XtdDictionary> findDictionaries(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdDictionary> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
     @BatchMapping(typeName = "XtdDictionary", field = "name")
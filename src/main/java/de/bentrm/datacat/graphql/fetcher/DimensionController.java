@@ -7,17 +7,18 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class DimensionController {
@@ -28,107 +29,61 @@ public class DimensionController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdDimension> getDimension(@Argument String id) {
-        return dimensionRecordService.findByIdWithDirectRelations(id, XtdDimension.class.getSimpleName());
+    public Optional<XtdDimension> getDimension(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(dimensionRecordService, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdDimension> findDimensions (@Argument FilterInput input) {
+    public Connection<XtdDimension> findDimensions (@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdDimension> page = dimensionRecordService.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(dimensionRecordService.findAll(specification));
+        }
+        return Connection.of(dimensionRecordService.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdDimension", field = "thermodynamicTemperatureExponent")
-    public Map<XtdDimension, Optional<XtdRational>> getThermodynamicTemperatureExponent(List<XtdDimension> dimensions) {
-        return dimensions.stream()
-                .filter(dimension -> dimension != null)  // Filter out null dimensions
-                .collect(Collectors.toMap(
-                        dimension -> dimension,
-                        dimension -> {
-                            Optional<XtdRational> result = dimensionRecordService.getThermodynamicTemperatureExponent(dimension);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdDimension", field = "thermodynamicTemperatureExponent")
+    public CompletableFuture<XtdRational> getThermodynamicTemperatureExponent(XtdDimension dimension,
+                                                                              DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, dimension, "thermodynamicTemperatureExponent", true);
     }
 
-    @BatchMapping(typeName = "XtdDimension", field = "electricCurrentExponent")
-    public Map<XtdDimension, Optional<XtdRational>> getElectricCurrentExponent(List<XtdDimension> dimensions) {
-        return dimensions.stream()
-                .filter(dimension -> dimension != null)  // Filter out null dimensions
-                .collect(Collectors.toMap(
-                        dimension -> dimension,
-                        dimension -> {
-                            Optional<XtdRational> result = dimensionRecordService.getElectricCurrentExponent(dimension);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdDimension", field = "electricCurrentExponent")
+    public CompletableFuture<XtdRational> getElectricCurrentExponent(XtdDimension dimension,
+                                                                     DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, dimension, "electricCurrentExponent", true);
     }
 
-    @BatchMapping(typeName = "XtdDimension", field = "lengthExponent")
-    public Map<XtdDimension, Optional<XtdRational>> getLengthExponent(List<XtdDimension> dimensions) {
-        return dimensions.stream()
-                .filter(dimension -> dimension != null)  // Filter out null dimensions
-                .collect(Collectors.toMap(
-                        dimension -> dimension,
-                        dimension -> {
-                            Optional<XtdRational> result = dimensionRecordService.getLengthExponent(dimension);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdDimension", field = "lengthExponent")
+    public CompletableFuture<XtdRational> getLengthExponent(XtdDimension dimension,
+                                                            DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, dimension, "lengthExponent", true);
     }
 
-    @BatchMapping(typeName = "XtdDimension", field = "luminousIntensityExponent")
-    public Map<XtdDimension, Optional<XtdRational>> getLuminousIntensityExponent(List<XtdDimension> dimensions) {
-        return dimensions.stream()
-                .filter(dimension -> dimension != null)  // Filter out null dimensions
-                .collect(Collectors.toMap(
-                        dimension -> dimension,
-                        dimension -> {
-                            Optional<XtdRational> result = dimensionRecordService.getLuminousIntensityExponent(dimension);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdDimension", field = "luminousIntensityExponent")
+    public CompletableFuture<XtdRational> getLuminousIntensityExponent(XtdDimension dimension,
+                                                                       DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, dimension, "luminousIntensityExponent", true);
     }
 
-    @BatchMapping(typeName = "XtdDimension", field = "amountOfSubstanceExponent")
-    public Map<XtdDimension, Optional<XtdRational>> getAmountOfSubstanceExponent(List<XtdDimension> dimensions) {
-        return dimensions.stream()
-                .filter(dimension -> dimension != null)  // Filter out null dimensions
-                .collect(Collectors.toMap(
-                        dimension -> dimension,
-                        dimension -> {
-                            Optional<XtdRational> result = dimensionRecordService.getAmountOfSubstanceExponent(dimension);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdDimension", field = "amountOfSubstanceExponent")
+    public CompletableFuture<XtdRational> getAmountOfSubstanceExponent(XtdDimension dimension,
+                                                                       DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, dimension, "amountOfSubstanceExponent", true);
     }
 
-    @BatchMapping(typeName = "XtdDimension", field = "massExponent")
-    public Map<XtdDimension, Optional<XtdRational>> getMassExponent(List<XtdDimension> dimensions) {
-        return dimensions.stream()
-                .filter(dimension -> dimension != null)  // Filter out null dimensions
-                .collect(Collectors.toMap(
-                        dimension -> dimension,
-                        dimension -> {
-                            Optional<XtdRational> result = dimensionRecordService.getMassExponent(dimension);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdDimension", field = "massExponent")
+    public CompletableFuture<XtdRational> getMassExponent(XtdDimension dimension, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, dimension, "massExponent", true);
     }
 
-    @BatchMapping(typeName = "XtdDimension", field = "timeExponent")
-    public Map<XtdDimension, Optional<XtdRational>> getTimeExponent(List<XtdDimension> dimensions) {
-        return dimensions.stream()
-                .filter(dimension -> dimension != null)  // Filter out null dimensions
-                .collect(Collectors.toMap(
-                        dimension -> dimension,
-                        dimension -> {
-                            Optional<XtdRational> result = dimensionRecordService.getTimeExponent(dimension);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdDimension", field = "timeExponent")
+    public CompletableFuture<XtdRational> getTimeExponent(XtdDimension dimension, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, dimension, "timeExponent", true);
     }
 }
@@ -8,18 +8,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.ArrayList;
 import java.util.Optional;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class ExternalDocumentController {
@@ -30,44 +31,35 @@ public class ExternalDocumentController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdExternalDocument> getExternalDocument(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdExternalDocument.class.getSimpleName());
+    public Optional<XtdExternalDocument> getExternalDocument(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdExternalDocument> findExternalDocuments(@Argument FilterInput input) {
+    public Connection<XtdExternalDocument> findExternalDocuments(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdExternalDocument> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdExternalDocument", field = "languages")
-    public Map<XtdExternalDocument, List<XtdLanguage>> getLanguages(List<XtdExternalDocument> documents) {
-        return documents.stream()
-                .filter(document -> document != null)  // Filter out null documents
-                .collect(Collectors.toMap(
-                        document -> document,
-                        document -> {
-                            List<XtdLanguage> result = service.getLanguages(document);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdExternalDocument", field = "languages")
+    public CompletableFuture<List<XtdLanguage>> getLanguages(XtdExternalDocument document,
+                                                             DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, document, "languages");
     }
 
-    @BatchMapping(typeName = "XtdExternalDocument", field = "documents")
-    public Map<XtdExternalDocument, List<XtdConcept>> getConcepts(List<XtdExternalDocument> documents) {
-        return documents.stream()
-                .filter(document -> document != null)  // Filter out null documents
-                .collect(Collectors.toMap(
-                        document -> document,
-                        document -> {
-                            List<XtdConcept> result = service.getConcepts(document);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdExternalDocument", field = "documents")
+    public CompletableFuture<List<XtdConcept>> getConcepts(XtdExternalDocument document,
+                                                           DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, document, "documents");
     }
 
 }
@@ -7,17 +7,18 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class IntervalController {
@@ -28,43 +29,32 @@ public class IntervalController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdInterval> getInterval(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdInterval.class.getSimpleName());
+    public Optional<XtdInterval> getInterval(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdInterval> findIntervals(@Argument FilterInput input) {
+    public Connection<XtdInterval> findIntervals(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdInterval> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdInterval", field = "minimum")
-    public Map<XtdInterval, Optional<XtdValueList>> getMinimum(List<XtdInterval> intervals) {
-        return intervals.stream()
-                .filter(interval -> interval != null)  // Filter out null intervals
-                .collect(Collectors.toMap(
-                        interval -> interval,
-                        interval -> {
-                            Optional<XtdValueList> result = service.getMinimum(interval);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdInterval", field = "minimum")
+    public CompletableFuture<XtdValueList> getMinimum(XtdInterval interval, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, interval, "minimum", true);
     }
 
-    @BatchMapping(typeName = "XtdInterval", field = "maximum")
-    public Map<XtdInterval, Optional<XtdValueList>> getMaximum(List<XtdInterval> intervals) {
-        return intervals.stream()
-                .filter(interval -> interval != null)  // Filter out null intervals
-                .collect(Collectors.toMap(
-                        interval -> interval,
-                        interval -> {
-                            Optional<XtdValueList> result = service.getMaximum(interval);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdInterval", field = "maximum")
+    public CompletableFuture<XtdValueList> getMaximum(XtdInterval interval, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, interval, "maximum", true);
     }
 }
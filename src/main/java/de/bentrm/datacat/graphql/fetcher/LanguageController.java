@@ -6,10 +6,12 @@ import de.bentrm.datacat.catalog.service.LanguageRecordService;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
@@ -27,8 +29,8 @@ public class LanguageController {
     private SpecificationMapper specificationMapper;
 
     @QueryMapping
-    public Optional<XtdLanguage> getLanguage(@Argument String id) {
-        return languageRecordService.findByIdWithDirectRelations(id, XtdLanguage.class.getSimpleName());
+    public Optional<XtdLanguage> getLanguage(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(languageRecordService, id, environment);
     }
 
     @QueryMapping
@@ -37,10 +39,12 @@ public class LanguageController {
     }
 
     @QueryMapping
-    public Connection<XtdLanguage> findLanguages(@Argument FilterInput input) {
+    public Connection<XtdLanguage> findLanguages(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final QuerySpecification specification = specificationMapper.toLanguageSpecification(input);
-        final Page<XtdLanguage> page = languageRecordService.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(languageRecordService.findAll(specification));
+        }
+        return Connection.of(languageRecordService.findAllWithoutTotal(specification));
     }
 }
@@ -7,17 +7,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.util.BatchMappingUtils;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Controller
@@ -30,28 +32,23 @@ public class MultiLanguageTextController {
     private SpecificationMapper specificationMapper;
 
     @QueryMapping
-    public Optional<XtdMultiLanguageText> getMultiLanguageText(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdMultiLanguageText.class.getSimpleName());
+    public Optional<XtdMultiLanguageText> getMultiLanguageText(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
     
     @QueryMapping
-    public Connection<XtdMultiLanguageText> findMultiLanguageTexts(@Argument FilterInput input) {
+    public Connection<XtdMultiLanguageText> findMultiLanguageTexts(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdMultiLanguageText> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
     @BatchMapping(typeName = "XtdMultiLanguageText", field = "texts")
     public Map<XtdMultiLanguageText, List<XtdText>> getTexts(List<XtdMultiLanguageText> multiLanguageTexts) {
-        return multiLanguageTexts.stream()
-                .filter(multiLanguageText -> multiLanguageText != null)  // Filter out null multiLanguageTexts
-                .collect(Collectors.toMap(
-                        multiLanguageText -> multiLanguageText,
-                        multiLanguageText -> {
-                            List<XtdText> result = service.getTexts(multiLanguageText);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+        return BatchMappingUtils.toLists(multiLanguageTexts,
+                service.getTextsForMultiLanguageTexts(BatchMappingUtils.ids(multiLanguageTexts)));
     }
 }
@@ -3,19 +3,22 @@ package de.bentrm.datacat.graphql.fetcher;
 import de.bentrm.datacat.catalog.domain.XtdDictionary;
 import de.bentrm.datacat.catalog.domain.XtdMultiLanguageText;
 import de.bentrm.datacat.catalog.domain.XtdObject;
-import de.bentrm.datacat.catalog.domain.XtdText;
 import de.bentrm.datacat.catalog.service.CatalogService;
 import de.bentrm.datacat.catalog.service.ObjectRecordService;
 import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
+import de.bentrm.datacat.graphql.LocalizedTextDataLoader;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
 import de.bentrm.datacat.graphql.input.LocalizationInput;
+import de.bentrm.datacat.util.BatchMappingUtils;
 import de.bentrm.datacat.util.LocalizationUtils;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -25,6 +28,7 @@ import org.springframework.stereotype.Controller;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,95 +45,55 @@ public class ObjectController {
     private SpecificationMapper specificationMapper;
 
     @QueryMapping
-    public Optional<XtdObject> getObject(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdObject.class.getSimpleName());
+    public Optional<XtdObject> getObject(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdObject> findObjects(@Argument FilterInput input) {
+    public Connection<XtdObject> findObjects(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdObject> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
     @BatchMapping(typeName = "XtdObject", field = "names")
     public Map<XtdObject, List<XtdMultiLanguageText>> getNames(List<XtdObject> objects) {
-        return objects.stream()
-                .filter(object -> object != null)  // Filter out null objects
-                .collect(Collectors.toMap(
-                        object -> object,
-                        object -> {
-                            List<XtdMultiLanguageText> result = service.getNames(object);
-                            return result != null ? result : List.of();  // Handle null List
-                        }
-                ));                
+        return BatchMappingUtils.toLists(objects,
+                service.getNamesForObjects(BatchMappingUtils.ids(objects)));
     }
 
     @BatchMapping(typeName = "XtdObject", field = "dictionary")
     public Map<XtdObject, Optional<XtdDictionary>> getDictionary(List<XtdObject> objects) {
-        return objects.stream()
-                .filter(object -> object != null)  // Filter out null objects
-                .collect(Collectors.toMap(
-                        object -> object,
-                        object -> {
-                            Optional<XtdDictionary> result = service.getDictionary(object);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+        return BatchMappingUtils.toOptionals(objects,
+                service.getDictionariesForObjects(BatchMappingUtils.ids(objects)));
     }
 
     @BatchMapping(typeName = "XtdObject", field = "deprecationExplanation")
     public Map<XtdObject, Optional<XtdMultiLanguageText>> getDeprecationExplanation(List<XtdObject> objects) {
-        return objects.stream()
-                .filter(object -> object != null)  // Filter out null objects
-                .collect(Collectors.toMap(
-                        object -> object,
-                        object -> {
-                            Optional<XtdMultiLanguageText> result = service.getDeprecationExplanation(object);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+        return BatchMappingUtils.toOptionals(objects,
+                service.getDeprecationExplanationsForObjects(BatchMappingUtils.ids(objects)));
     }
 
     @BatchMapping(typeName = "XtdObject", field = "replacedObjects")
     public Map<XtdObject, List<XtdObject>> getReplacedObjects(List<XtdObject> objects) {
-        return objects.stream()
-                .filter(object -> object != null)  // Filter out null objects
-                .collect(Collectors.toMap(
-                        object -> object,
-                        object -> {
-                            List<XtdObject> result = service.getReplacedObjects(object);
-                            return result != null ? result : List.of();  // Handle null List
-                        }
-                ));
+        return BatchMappingUtils.toLists(objects,
+                service.getReplacedObjectsForObjects(BatchMappingUtils.ids(objects)));
     }
 
     @BatchMapping(typeName = "XtdObject", field = "replacingObjects")
     public Map<XtdObject, List<XtdObject>> getReplacingObjects(List<XtdObject> objects) {
-        return objects.stream()
-                .filter(object -> object != null)  // Filter out null objects
-                .collect(Collectors.toMap(
-                        object -> object,
-                        object -> {
-                            List<XtdObject> result = service.getReplacingObjects(object);
-                            return result != null ? result : List.of();  // Handle null List
-                        }
-                ));
+        return BatchMappingUtils.toLists(objects,
+                service.getReplacingObjectsForObjects(BatchMappingUtils.ids(objects)));
     }
 
     @BatchMapping(typeName = "XtdObject", field = "comments")
     public Map<XtdObject, List<XtdMultiLanguageText>> getComments(List<XtdObject> objects) {
-        return objects.stream()
-                .filter(object -> object != null)  // Filter out null objects
-                .collect(Collectors.toMap(
-                        object -> object,
-                        object -> {
-                            List<XtdMultiLanguageText> result = service.getComments(object);
-                            return result != null ? result : List.of();  // Handle null List
-                        }
-                ));                
+        return BatchMappingUtils.toLists(objects,
+                service.getCommentsForObjects(BatchMappingUtils.ids(objects)));
     }
     
     @BatchMapping(typeName = "XtdObject", field = "name")
@@ -194,21 +158,9 @@ public class ObjectController {
     }
 
     @SchemaMapping(typeName = "XtdObject", field = "comment")
-    public Optional<String> getComment(XtdObject object, @Argument LocalizationInput input) {
-
-        XtdMultiLanguageText comment = service.getComments(object).stream().findFirst().orElse(null);
-        if (comment == null) {
-            return null;
-        }
-
-        XtdText translation = null;
-        if (input != null && input.getPriorityList() != null) {
-            translation = LocalizationUtils.getTranslation(input.getPriorityList(), comment.getId());
-        } else {
-            translation = LocalizationUtils.getTranslation(comment.getId());
-        }
-
-        return Optional.ofNullable(translation != null ? translation.getText() : null);
+    public CompletableFuture<String> getComment(XtdObject object, @Argument LocalizationInput input,
+                                                DataFetchingEnvironment environment) {
+        return LocalizedTextDataLoader.load(environment, object.getId(), "COMMENTS", input);
     }
 
 }
@@ -8,20 +8,22 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Controller
@@ -33,53 +35,40 @@ public class OrderedValueController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdOrderedValue> getOrderedValue(@Argument String id) {
-        return orderedValueRecordService.findByIdWithDirectRelations(id, XtdOrderedValue.class.getSimpleName());
+    public Optional<XtdOrderedValue> getOrderedValue(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(orderedValueRecordService, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdOrderedValue> findOrderedValues(@Argument FilterInput input) {
+    public Connection<XtdOrderedValue> findOrderedValues(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdOrderedValue> page = orderedValueRecordService.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(orderedValueRecordService.findAll(specification));
+        }
+        return Connection.of(orderedValueRecordService.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdOrderedValue", field = "orderedValue")
-    public Map<XtdOrderedValue, XtdValue> getOrderedValue(List<XtdOrderedValue> orderedValues) {
-        return orderedValues.stream()
-                .filter(orderedValue -> orderedValue != null)  // Filter out null orderedValues
-                .collect(Collectors.toMap(
-                        orderedValue -> orderedValue,
-                        orderedValue -> {
-                            // Verwende bereits geladene Daten wenn verfügbar
-                            XtdValue result = orderedValue.getOrderedValue();
-                            if (result == null) {
-                                // Fallback: lade aus DB wenn nicht bereits geladen
-                                result = orderedValueRecordService.getValue(orderedValue);
-                            }
-                            return result;  // Return as-is since it's not Optional or List
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdOrderedValue", field = "orderedValue")
+    public CompletableFuture<XtdValue> getOrderedValue(XtdOrderedValue orderedValue,
+                                                       DataFetchingEnvironment environment) {
+        if (orderedValue.getOrderedValue() != null) {
+            return CompletableFuture.completedFuture(orderedValue.getOrderedValue());
+        }
+        return relationshipDataLoader.loadOne(environment, orderedValue, "orderedValue", true);
     }
 
-    @BatchMapping(typeName = "XtdOrderedValue", field = "valueLists")
-    public Map<XtdOrderedValue, List<XtdValueList>> getValueLists(List<XtdOrderedValue> orderedValues) {
-        return orderedValues.stream()
-                .filter(orderedValue -> orderedValue != null)  // Filter out null orderedValues
-                .collect(Collectors.toMap(
-                        orderedValue -> orderedValue,
-                        orderedValue -> {
-                            // Verwende bereits geladene Daten wenn verfügbar
-                            List<XtdValueList> result = new ArrayList<>(orderedValue.getValueLists());
-                            if (result.isEmpty()) {
-                                // Fallback: lade aus DB wenn nicht bereits geladen
-                                result = orderedValueRecordService.getValueLists(orderedValue);
-                            }
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdOrderedValue", field = "valueLists")
+    public CompletableFuture<List<XtdValueList>> getValueLists(XtdOrderedValue orderedValue,
+                                                               DataFetchingEnvironment environment) {
+        if (!orderedValue.getValueLists().isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>(orderedValue.getValueLists()));
+        }
+        return relationshipDataLoader.loadMany(environment, orderedValue, "valueLists");
     }
 }
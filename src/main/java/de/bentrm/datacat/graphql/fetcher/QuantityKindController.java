@@ -8,18 +8,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class QuantityKindController {
@@ -30,43 +31,34 @@ public class QuantityKindController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdQuantityKind> getQuantityKind(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdQuantityKind.class.getSimpleName());
+    public Optional<XtdQuantityKind> getQuantityKind(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdQuantityKind> findQuantityKinds(@Argument FilterInput input) {
+    public Connection<XtdQuantityKind> findQuantityKinds(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdQuantityKind> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdQuantityKind", field = "units")
-    public Map<XtdQuantityKind, List<XtdUnit>> getUnits(List<XtdQuantityKind> quantityKinds) {
-        return quantityKinds.stream()
-                .filter(quantityKind -> quantityKind != null)  // Filter out null quantityKinds
-                .collect(Collectors.toMap(
-                        quantityKind -> quantityKind,
-                        quantityKind -> {
-                            List<XtdUnit> result = service.getUnits(quantityKind);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdQuantityKind", field = "units")
+    public CompletableFuture<List<XtdUnit>> getUnits(XtdQuantityKind quantityKind,
+                                                     DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, quantityKind, "units");
     }
 
-    @BatchMapping(typeName = "XtdQuantityKind", field = "dimension")
-    public Map<XtdQuantityKind, Optional<XtdDimension>> getDimension(List<XtdQuantityKind> quantityKinds) {
-        return quantityKinds.stream()
-                .filter(quantityKind -> quantityKind != null)  // Filter out null quantityKinds
-                .collect(Collectors.toMap(
-                        quantityKind -> quantityKind,
-                        quantityKind -> {
-                            Optional<XtdDimension> result = service.getDimension(quantityKind);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdQuantityKind", field = "dimension")
+    public CompletableFuture<XtdDimension> getDimension(XtdQuantityKind quantityKind,
+                                                        DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, quantityKind, "dimension", true);
     }
 }
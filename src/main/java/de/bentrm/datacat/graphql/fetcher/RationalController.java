@@ -6,8 +6,10 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
@@ -24,15 +26,17 @@ public class RationalController {
     private SpecificationMapper specificationMapper;
 
     @QueryMapping
-    public Optional<XtdRational> getRational(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdRational.class.getSimpleName());
+    public Optional<XtdRational> getRational(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
     
     @QueryMapping
-    public Connection<XtdRational> findRationals(@Argument FilterInput input) {
+    public Connection<XtdRational> findRationals(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdRational> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 }
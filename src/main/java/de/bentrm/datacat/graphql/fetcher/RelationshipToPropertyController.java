@@ -7,18 +7,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class RelationshipToPropertyController {
@@ -30,42 +31,33 @@ public class RelationshipToPropertyController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdRelationshipToProperty> getRelationshipToProperty(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdRelationshipToProperty.class.getSimpleName());
+    public Optional<XtdRelationshipToProperty> getRelationshipToProperty(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdRelationshipToProperty> findRelationshipToProperties(@Argument FilterInput input) {
+    public Connection<XtdRelationshipToProperty> findRelationshipToProperties(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdRelationshipToProperty> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdRelationshipToProperty", field = "connectingProperty")
-    public Map<XtdRelationshipToProperty, XtdProperty> getConnectingProperty(List<XtdRelationshipToProperty> relationshipToProperties) {
-        return relationshipToProperties.stream()
-                .filter(relationshipToProperty -> relationshipToProperty != null)  // Filter out null relationships
-                .collect(Collectors.toMap(
-                        relationshipToProperty -> relationshipToProperty,
-                        relationshipToProperty -> {
-                            XtdProperty result = service.getConnectingProperty(relationshipToProperty);
-                            return result;  // Return as-is since it's not Optional or List
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdRelationshipToProperty", field = "connectingProperty")
+    public CompletableFuture<XtdProperty> getConnectingProperty(XtdRelationshipToProperty relationshipToProperty,
+                                                                DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, relationshipToProperty, "connectingProperty", true);
     }
 
-    @BatchMapping(typeName = "XtdRelationshipToProperty", field = "targetProperties")
-    public Map<XtdRelationshipToProperty, List<XtdProperty>> getTargetProperties(List<XtdRelationshipToProperty> relationshipToProperties) {
-        return relationshipToProperties.stream()
-                .filter(relationshipToProperty -> relationshipToProperty != null)  // Filter out null relationships
-                .collect(Collectors.toMap(
-                        relationshipToProperty -> relationshipToProperty,
-                        relationshipToProperty -> {
-                            List<XtdProperty> result = service.getTargetProperties(relationshipToProperty);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdRelationshipToProperty", field = "targetProperties")
+    public CompletableFuture<List<XtdProperty>> getTargetProperties(XtdRelationshipToProperty relationshipToProperty,
+                                                                    DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, relationshipToProperty, "targetProperties");
     }
 }
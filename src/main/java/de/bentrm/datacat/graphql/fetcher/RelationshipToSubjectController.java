@@ -8,18 +8,20 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class RelationshipToSubjectController {
@@ -30,71 +32,55 @@ public class RelationshipToSubjectController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdRelationshipToSubject> getRelationshipToSubject(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdRelationshipToSubject.class.getSimpleName());
+    public Optional<XtdRelationshipToSubject> getRelationshipToSubject(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdRelationshipToSubject> findRelationshipToSubjects(@Argument FilterInput input) {
+    public Connection<XtdRelationshipToSubject> findRelationshipToSubjects(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdRelationshipToSubject> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdRelationshipToSubject", field = "connectingSubject")
-    public Map<XtdRelationshipToSubject, XtdSubject> getConnectingSubject(List<XtdRelationshipToSubject> relationshipToSubjects) {
-        return relationshipToSubjects.stream()
-                .filter(relationshipToSubject -> relationshipToSubject != null)  // Filter out null relationships
-                .collect(Collectors.toMap(
-                        relationshipToSubject -> relationshipToSubject,
-                        relationshipToSubject -> {
-                            XtdSubject result = service.getConnectingSubject(relationshipToSubject);
-                            return result;  // Return as-is since it's not Optional or List
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdRelationshipToSubject", field = "connectingSubject")
+    public CompletableFuture<XtdSubject> getConnectingSubject(XtdRelationshipToSubject relationshipToSubject,
+                                                              DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, relationshipToSubject, "connectingSubject", true);
     }
 
-    @BatchMapping(typeName = "XtdRelationshipToSubject", field = "targetSubjects")
-    public Map<XtdRelationshipToSubject, List<XtdSubject>> getTargetSubjects(List<XtdRelationshipToSubject> relationshipToSubjects) {
-        return relationshipToSubjects.stream()
-                .filter(relationshipToSubject -> relationshipToSubject != null)  // Filter out null relationships
-                .collect(Collectors.toMap(
-                        relationshipToSubject -> relationshipToSubject,
-                        relationshipToSubject -> {
-                            List<XtdSubject> result = service.getTargetSubjects(relationshipToSubject);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdRelationshipToSubject", field = "targetSubjects")
+    public CompletableFuture<List<XtdSubject>> getTargetSubjects(XtdRelationshipToSubject relationshipToSubject,
+                                                                 DataFetchingEnvironment environment) {
+        if (!relationshipToSubject.getTargetSubjects().isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>(relationshipToSubject.getTargetSubjects()));
+        }
+        return relationshipDataLoader.loadMany(environment, relationshipToSubject, "targetSubjects");
     }
 
-    @BatchMapping(typeName = "XtdRelationshipToSubject", field = "scopeSubjects")
-    public Map<XtdRelationshipToSubject, List<XtdSubject>> getScopeSubjects(List<XtdRelationshipToSubject> relationshipToSubjects) {
-        return relationshipToSubjects.stream()
-                .filter(relationshipToSubject -> relationshipToSubject != null)  // Filter out null relationships
-                .collect(Collectors.toMap(
-                        relationshipToSubject -> relationshipToSubject,
-                        relationshipToSubject -> {
-                            List<XtdSubject> result = service.getScopeSubjects(relationshipToSubject);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdRelationshipToSubject", field = "scopeSubjects")
+    public CompletableFuture<List<XtdSubject>> getScopeSubjects(XtdRelationshipToSubject relationshipToSubject,
+                                                                DataFetchingEnvironment environment) {
+        if (!relationshipToSubject.getScopeSubjects().isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>(relationshipToSubject.getScopeSubjects()));
+        }
+        return relationshipDataLoader.loadMany(environment, relationshipToSubject, "scopeSubjects");
     }
 
-    @BatchMapping(typeName = "XtdRelationshipToSubject", field = "relationshipType")
-    public Map<XtdRelationshipToSubject, XtdRelationshipType> getRelationshipType(List<XtdRelationshipToSubject> relationshipToSubjects) {
-        Map<XtdRelationshipToSubject, XtdRelationshipType> result = new java.util.HashMap<>();
-        for (XtdRelationshipToSubject relationshipToSubject : relationshipToSubjects) {
-            if (relationshipToSubject != null) {
-                XtdRelationshipType relationshipType = service.getRelationshipType(relationshipToSubject);
-                if (relationshipType != null) {
-                    result.put(relationshipToSubject, relationshipType);
-                }
-            }
+    @SchemaMapping(typeName = "XtdRelationshipToSubject", field = "relationshipType")
+    public CompletableFuture<XtdRelationshipType> getRelationshipType(XtdRelationshipToSubject relationshipToSubject,
+                                                                      DataFetchingEnvironment environment) {
+        if (relationshipToSubject.getRelationshipType() != null) {
+            return CompletableFuture.completedFuture(relationshipToSubject.getRelationshipType());
         }
-        return result;
+        return relationshipDataLoader.loadOne(environment, relationshipToSubject, "relationshipType", true);
     }
-
 }
@@ -10,19 +10,26 @@ import de.bentrm.datacat.graphql.dto.SpecificationMapper;
 import de.bentrm.datacat.graphql.input.HierarchyFilterInput;
 import de.bentrm.datacat.graphql.input.HierarchyRootNodeFilterInput;
 import de.bentrm.datacat.graphql.input.SearchInput;
+import de.bentrm.datacat.util.SelectionSetUtils;
 import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.stream.Stream;
 
 @Slf4j
 @Controller
 public class SearchController {
 
+    private static final int DEFAULT_HIERARCHY_BATCH_SIZE = 1000;
+
     @Autowired
     private SpecificationMapper specificationMapper;
 
@@ -42,12 +49,15 @@ public class SearchController {
         CatalogRecordSpecification spec = specificationMapper.toCatalogRecordSpecification(input);
 
         if (selectionSet.containsAnyOf("nodes/*", "pageInfo/*")) {
-                Page<XtdRoot> page = catalogSearchService.search(spec);
-                return Connection.of(page);
-            } else {
-                Long totalElements = catalogSearchService.count(spec);
-                return Connection.empty(totalElements);
+            // The page is fetched together with its total only if the client asks for a counted field
+            if (SelectionSetUtils.isCountSelected(selectionSet)) {
+                return Connection.of(catalogSearchService.search(spec));
             }
+            return Connection.of(catalogSearchService.searchWithoutTotal(spec));
+        } else {
+            Long totalElements = catalogSearchService.count(spec);
+            return Connection.empty(totalElements);
+        }
     }
 
     @QueryMapping
@@ -76,4 +86,20 @@ public class SearchController {
             throw e;
         }
     }
+
+    @SubscriptionMapping
+    public Flux<HierarchyValue> hierarchyStream(@Argument HierarchyFilterInput input, @Argument Integer batchSize) {
+        log.info("=== Hierarchy stream called with input: {} ===", input);
+        if (input == null) {
+            input = new HierarchyFilterInput();
+        }
+        final CatalogRecordSpecification rootNodeSpecification = specificationMapper
+                .toCatalogRecordSpecification(input.getRootNodeFilter());
+        final int size = batchSize != null ? batchSize : DEFAULT_HIERARCHY_BATCH_SIZE;
+
+        // Root nodes are resolved right away within the caller's security context. Chunks are then
+        // pulled on demand, so at most one batch is held in memory per subscriber.
+        final Stream<HierarchyValue> chunks = catalogService.streamHierarchy(rootNodeSpecification, size);
+        return Flux.fromStream(chunks).subscribeOn(Schedulers.boundedElastic());
+    }
 }
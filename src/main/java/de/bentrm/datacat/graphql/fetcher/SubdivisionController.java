@@ -6,18 +6,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class SubdivisionController {
@@ -28,29 +29,27 @@ public class SubdivisionController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdSubdivision> getSubdivision(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdSubdivision.class.getSimpleName());
+    public Optional<XtdSubdivision> getSubdivision(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
     
     @QueryMapping
-    public Connection<XtdSubdivision> findSubdivisions(@Argument FilterInput input) {
+    public Connection<XtdSubdivision> findSubdivisions(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdSubdivision> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdSubdivision", field = "subdivisions")
-    public Map<XtdSubdivision, List<XtdSubdivision>> getSubdivisions(List<XtdSubdivision> subdivisions) {
-        return subdivisions.stream()
-                .filter(subdivision -> subdivision != null)  // Filter out null subdivisions
-                .collect(Collectors.toMap(
-                        subdivision -> subdivision,
-                        subdivision -> {
-                            List<XtdSubdivision> result = service.getSubdivisions(subdivision);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdSubdivision", field = "subdivisions")
+    public CompletableFuture<List<XtdSubdivision>> getSubdivisions(XtdSubdivision subdivision,
+                                                                   DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, subdivision, "subdivisions");
     }
 }
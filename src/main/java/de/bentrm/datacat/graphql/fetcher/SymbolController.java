@@ -8,18 +8,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class SymbolController {
@@ -30,42 +31,31 @@ public class SymbolController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdSymbol> getSymbol(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdSymbol.class.getSimpleName());
+    public Optional<XtdSymbol> getSymbol(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
     
     @QueryMapping
-    public Connection<XtdSymbol> findSymbols(@Argument FilterInput input) {
+    public Connection<XtdSymbol> findSymbols(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdSymbol> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdSymbol", field = "subject")
-    public Map<XtdSymbol, Optional<XtdSubject>> getSubject(List<XtdSymbol> symbols) {
-        return symbols.stream()
-                .filter(symbol -> symbol != null)  // Filter out null symbols
-                .collect(Collectors.toMap(
-                        symbol -> symbol,
-                        symbol -> {
-                            Optional<XtdSubject> result = service.getSubject(symbol);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdSymbol", field = "subject")
+    public CompletableFuture<XtdSubject> getSubject(XtdSymbol symbol, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, symbol, "subject", true);
     }
 
-    @BatchMapping(typeName = "XtdSymbol", field = "symbol")
-    public Map<XtdSymbol, Optional<XtdText>> getSymbolText(List<XtdSymbol> symbols) {
-        return symbols.stream()
-                .filter(symbol -> symbol != null)  // Filter out null symbols
-                .collect(Collectors.toMap(
-                        symbol -> symbol,
-                        symbol -> {
-                            Optional<XtdText> result = service.getSymbolText(symbol);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdSymbol", field = "symbol")
+    public CompletableFuture<XtdText> getSymbolText(XtdSymbol symbol, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, symbol, "symbol", true);
     }
 }
@@ -7,9 +7,11 @@ import de.bentrm.datacat.catalog.specification.TagSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
@@ -32,16 +34,18 @@ public class TagController {
 
 
     @QueryMapping
-    public Optional<Tag> getTag(@Argument String id) {
-        return repository.findByIdWithDirectRelations(id, Tag.class.getSimpleName());
+    public Optional<Tag> getTag(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(tagService, id, environment);
     }
 
     @QueryMapping
-    public Connection<Tag> findTags(@Argument FilterInput input) {
+    public Connection<Tag> findTags(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final TagSpecification specification = specificationMapper.toTagSpec(input);
-        final Page<Tag> page = tagService.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(tagService.findAll(specification));
+        }
+        return Connection.of(tagService.findAllWithoutTotal(specification));
     }
 
     // Schema-Mapping für Tag.name mit Validierung
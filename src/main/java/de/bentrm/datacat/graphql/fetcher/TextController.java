@@ -7,8 +7,11 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.util.BatchMappingUtils;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -17,7 +20,6 @@ import org.springframework.stereotype.Controller;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Controller
 public class TextController {
@@ -29,28 +31,23 @@ public class TextController {
     private SpecificationMapper specificationMapper;
 
     @QueryMapping
-    public Optional<XtdText> getText(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdText.class.getSimpleName());
+    public Optional<XtdText> getText(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
     }
     
     @QueryMapping
-    public Connection<XtdText> findTexts(@Argument FilterInput input) {
+    public Connection<XtdText> findTexts(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdText> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
     @BatchMapping(typeName = "XtdText", field = "language")
     public Map<XtdText, XtdLanguage> getLanguage(List<XtdText> texts) {
-        return texts.stream()
-                .filter(text -> text != null)  // Filter out null texts
-                .collect(Collectors.toMap(
-                        text -> text,
-                        text -> {
-                            XtdLanguage result = service.getLanguage(text);
-                            return result;  // Return as-is since it's not Optional or List
-                        }
-                ));                
+        return BatchMappingUtils.toValues(texts,
+                service.getLanguagesForTexts(BatchMappingUtils.ids(texts)));
     }
 }
@@ -11,18 +11,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class UnitController {
@@ -33,95 +34,52 @@ public class UnitController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdUnit> getUnit(@Argument String id) {
-        return service.findByIdWithDirectRelations(id, XtdUnit.class.getSimpleName());
+    public Optional<XtdUnit> getUnit(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(service, id, environment);
 
     }
     
     @QueryMapping
-    public Connection<XtdUnit> findUnits(@Argument FilterInput input) {
+    public Connection<XtdUnit> findUnits(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null) input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdUnit> page = service.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(service.findAll(specification));
+        }
+        return Connection.of(service.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdUnit", field = "properties")
-    public Map<XtdUnit, List<XtdProperty>> getProperties(List<XtdUnit> units) {
-        return units.stream()
-                .filter(unit -> unit != null)  // Filter out null units
-                .collect(Collectors.toMap(
-                        unit -> unit,
-                        unit -> {
-                            List<XtdProperty> result = service.getProperties(unit);
-                            return result != null ? result : new ArrayList<>();  // Handle null result
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdUnit", field = "properties")
+    public CompletableFuture<List<XtdProperty>> getProperties(XtdUnit unit, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, unit, "properties");
     }
 
-    @BatchMapping(typeName = "XtdUnit", field = "dimension")
-    public Map<XtdUnit, Optional<XtdDimension>> getDimension(List<XtdUnit> units) {
-        return units.stream()
-                .filter(unit -> unit != null)  // Filter out null units
-                .collect(Collectors.toMap(
-                        unit -> unit,
-                        unit -> {
-                            Optional<XtdDimension> result = service.getDimension(unit);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdUnit", field = "dimension")
+    public CompletableFuture<XtdDimension> getDimension(XtdUnit unit, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, unit, "dimension", true);
     }
 
-    @BatchMapping(typeName = "XtdUnit", field = "symbol")
-    public Map<XtdUnit, Optional<XtdMultiLanguageText>> getSymbol(List<XtdUnit> units) {
-        return units.stream()
-                .filter(unit -> unit != null)  // Filter out null units
-                .collect(Collectors.toMap(
-                        unit -> unit,
-                        unit -> {
-                            Optional<XtdMultiLanguageText> result = service.getSymbol(unit);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdUnit", field = "symbol")
+    public CompletableFuture<XtdMultiLanguageText> getSymbol(XtdUnit unit, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, unit, "symbol", true);
     }
 
-    @BatchMapping(typeName = "XtdUnit", field = "coefficient")
-    public Map<XtdUnit, Optional<XtdRational>> getCoefficient(List<XtdUnit> units) {
-        return units.stream()
-                .filter(unit -> unit != null)  // Filter out null units
-                .collect(Collectors.toMap(
-                        unit -> unit,
-                        unit -> {
-                            Optional<XtdRational> result = service.getCoefficient(unit);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdUnit", field = "coefficient")
+    public CompletableFuture<XtdRational> getCoefficient(XtdUnit unit, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, unit, "coefficient", true);
     }
 
-    @BatchMapping(typeName = "XtdUnit", field = "offset")
-    public Map<XtdUnit, Optional<XtdRational>> getOffset(List<XtdUnit> units) {
-        return units.stream()
-                .filter(unit -> unit != null)  // Filter out null units
-                .collect(Collectors.toMap(
-                        unit -> unit,
-                        unit -> {
-                            Optional<XtdRational> result = service.getOffset(unit);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdUnit", field = "offset")
+    public CompletableFuture<XtdRational> getOffset(XtdUnit unit, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadOne(environment, unit, "offset", true);
     }
 
-    @BatchMapping(typeName = "XtdUnit", field = "valueLists")
-    public Map<XtdUnit, Optional<List<XtdValueList>>> getValueLists(List<XtdUnit> units) {
-        return units.stream()
-                .filter(unit -> unit != null)  // Filter out null units
-                .collect(Collectors.toMap(
-                        unit -> unit,
-                        unit -> {
-                            Optional<List<XtdValueList>> result = service.getValueLists(unit);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdUnit", field = "valueLists")
+    public CompletableFuture<List<XtdValueList>> getValueLists(XtdUnit unit, DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, unit, "valueLists");
     }
 }
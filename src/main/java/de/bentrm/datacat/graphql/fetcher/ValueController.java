@@ -7,17 +7,19 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.graphql.RelationshipDataLoader;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.graphql.data.method.annotation.Argument;
-import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class ValueController {
@@ -28,30 +30,28 @@ public class ValueController {
     @Autowired
     private SpecificationMapper specificationMapper;
 
+    @Autowired
+    private RelationshipDataLoader relationshipDataLoader;
+
     @QueryMapping
-    public Optional<XtdValue> getValue(@Argument String id) {
-        return valueRecordService.findByIdWithDirectRelations(id, XtdValue.class.getSimpleName());
+    public Optional<XtdValue> getValue(@Argument String id, DataFetchingEnvironment environment) {
+        return BaseController.findById(valueRecordService, id, environment);
     }
 
     @QueryMapping
-    public Connection<XtdValue> findValues(@Argument FilterInput input) {
+    public Connection<XtdValue> findValues(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdValue> page = valueRecordService.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(valueRecordService.findAll(specification));
+        }
+        return Connection.of(valueRecordService.findAllWithoutTotal(specification));
     }
 
-    @BatchMapping(typeName = "XtdValue", field = "orderedValues")
-    public Map<XtdValue, Optional<List<XtdOrderedValue>>> getOrderedValues(List<XtdValue> values) {
-        return values.stream()
-                .filter(value -> value != null)  // Filter out null values
-                .collect(Collectors.toMap(
-                        value -> value,
-                        value -> {
-                            Optional<List<XtdOrderedValue>> result = valueRecordService.getOrderedValues(value);
-                            return result != null ? result : Optional.empty();  // Handle null Optional
-                        }
-                ));                
+    @SchemaMapping(typeName = "XtdValue", field = "orderedValues")
+    public CompletableFuture<List<XtdOrderedValue>> getOrderedValues(XtdValue value,
+                                                                     DataFetchingEnvironment environment) {
+        return relationshipDataLoader.loadMany(environment, value, "orderedValues");
     }
 }
@@ -10,6 +10,8 @@ import de.bentrm.datacat.catalog.specification.CatalogRecordSpecification;
 import de.bentrm.datacat.graphql.Connection;
 import de.bentrm.datacat.graphql.dto.FilterInput;
 import de.bentrm.datacat.graphql.dto.SpecificationMapper;
+import de.bentrm.datacat.util.SelectionSetUtils;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,12 +52,14 @@ public class ValueListController {
     }
 
     @QueryMapping
-    public Connection<XtdValueList> findValueLists(@Argument FilterInput input) {
+    public Connection<XtdValueList> findValueLists(@Argument FilterInput input, DataFetchingFieldSelectionSet selectionSet) {
         if (input == null)
             input = new FilterInput();
         final CatalogRecordSpecification specification = specificationMapper.toCatalogRecordSpecification(input);
-        final Page<XtdValueList> page = valueListRecordService.findAll(specification);
-        return Connection.of(page);
+        if (SelectionSetUtils.isCountSelected(selectionSet)) {
+            return Connection.of(valueListRecordService.findAll(specification));
+        }
+        return Connection.of(valueListRecordService.findAllWithoutTotal(specification));
     }
 
     @SchemaMapping(typeName = "XtdValueList", field = "values")
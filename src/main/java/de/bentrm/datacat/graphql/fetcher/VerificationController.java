@@ -8,6 +8,7 @@ import org.springframework.stereotype.Controller;
 
 import de.bentrm.datacat.catalog.service.CatalogVerificationService;
 import de.bentrm.datacat.catalog.service.value.VerificationConnection;
+import de.bentrm.datacat.catalog.service.value.VerificationSummaryValue;
 
 @Controller
 public class VerificationController {
@@ -15,6 +16,11 @@ public class VerificationController {
     @Autowired
     private CatalogVerificationService service;
 
+    @QueryMapping
+    public VerificationSummaryValue verifyCatalog() {
+        return service.verifyCatalog();
+    }
+
     @QueryMapping
     public VerificationConnection findSubjectWithoutProp(@Argument int pageNumber, @Argument int pageSize) {
         return service.getSubjectWithoutProp(PageRequest.of(pageNumber, pageSize));
@@ -14,5 +14,5 @@ public class CreateRelationshipInput {
     @NotNull SimpleRelationType relationshipType;
     @Valid RelationshipPropertiesInput properties;
     @NotBlank String fromId;
-    @NotEmpty List<String> toIds;
+    @NotEmpty List<@NotBlank String> toIds;
 }
@@ -0,0 +1,12 @@
+package de.bentrm.datacat.graphql.input;
+
+import lombok.Data;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+@Data
+public class DeleteCatalogEntriesInput {
+    @NotEmpty List<@NotBlank String> catalogEntryIds;
+}
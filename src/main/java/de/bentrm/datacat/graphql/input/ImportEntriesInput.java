@@ -0,0 +1,15 @@
+package de.bentrm.datacat.graphql.input;
+
+import lombok.Data;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ImportEntriesInput {
+    @NotEmpty List<@NotNull @Valid CreateEntryInput> entries = new ArrayList<>();
+    List<@NotNull @Valid CreateRelationshipInput> relationships = new ArrayList<>();
+}
@@ -10,6 +10,8 @@ import java.util.List;
 @Data
 public class SearchInput {
     private String query;
+    private List<@NotNull String> languageTags;
+    private Boolean fuzzy;
     private List<@NotNull @Valid EntryFilterInput> filters;
     private List<@NotNull CatalogRecordType> entityTypeIn;
     private List<@NotNull CatalogRecordType> entityTypeNotIn;
@@ -18,4 +20,5 @@ public class SearchInput {
     private List<@NotNull String> tagged;
     private Integer pageNumber = 0;
     private Integer pageSize = 10;
+    private String after;
 }
@@ -7,9 +7,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +34,33 @@ public class AppProperties {
     @NotNull
     private EmailProperties mail;
 
+    @NotNull
+    private ExportProperties export = new ExportProperties();
+
+    @NotNull
+    private CacheProperties cache = new CacheProperties();
+
+    @NotNull
+    private QueryProperties query = new QueryProperties();
+
+    @NotNull
+    private AuditProperties audit = new AuditProperties();
+
+    @NotNull
+    private ImportProperties imports = new ImportProperties();
+
+    @NotNull
+    private DeleteProperties deletes = new DeleteProperties();
+
+    @NotNull
+    private VerificationProperties verification = new VerificationProperties();
+
+    @NotNull
+    private StatisticsProperties statistics = new StatisticsProperties();
+
+    @NotNull
+    private MigrationProperties migrations = new MigrationProperties();
+
     /**
      * Properties that describe the client application that interacts with the API.
      */
@@ -122,4 +151,212 @@ public class AppProperties {
         private String from;
 
     }
+
+    /**
+     * Settings of the catalog export.
+     */
+    @Validated
+    @Data
+    public static class ExportProperties {
+
+        /**
+         * Language code of the texts exported as name, description, definition, examples
+         * and deprecation explanation.
+         */
+        @NotBlank
+        private String primaryLanguage = "de";
+
+        /**
+         * Language code of the texts exported as name_en, description_en and definition_en.
+         */
+        @NotBlank
+        private String secondaryLanguage = "en";
+
+        /**
+         * Number of records that are loaded per round trip.
+         */
+        @Min(1)
+        private int pageSize = 1000;
+    }
+
+    /**
+     * Bounds of the in-memory caches.
+     */
+    @Validated
+    @Data
+    public static class CacheProperties {
+
+        /**
+         * Maximum number of objects whose names are cached (one entry per object holding all requested languages).
+         */
+        @Min(0)
+        private long namesMaximumSize = 100_000;
+
+        /**
+         * Time after which a cached object name is reloaded.
+         */
+        @NotNull
+        private Duration namesTimeToLive = Duration.ofHours(1);
+
+        /**
+         * Maximum number of cached JWT token verifications.
+         */
+        @Min(0)
+        private long tokensMaximumSize = 10_000;
+
+        /**
+         * Time after which a token is verified again, even if it is still valid.
+         * Bounds the delay until changes to an account made outside of the admin API take effect.
+         */
+        @NotNull
+        private Duration tokensTimeToLive = Duration.ofMinutes(10);
+
+        /**
+         * Maximum number of cached hierarchy paths, summed over all root records.
+         * Root records whose paths exceed this limit are computed on each request.
+         */
+        @Min(0)
+        private long hierarchyPathsMaximumSize = 200_000;
+    }
+
+    /**
+     * Limits of the list queries.
+     */
+    @Validated
+    @Data
+    public static class QueryProperties {
+
+        /**
+         * Maximum number of records returned by a list query that does not request a page size.
+         */
+        @Min(1)
+        private int maxUnpagedResults = 1000;
+
+        /**
+         * Maximum number of records whose related records are loaded with a single query.
+         */
+        @Min(1)
+        private int maxBatchSize = 500;
+    }
+
+    /**
+     * Settings of the asynchronous audit log.
+     */
+    @Validated
+    @Data
+    public static class AuditProperties {
+
+        /**
+         * Whether entity changes are audited.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of buffered audit events. Further events are dropped until the buffer drains.
+         */
+        @Min(1)
+        private int bufferSize = 10_000;
+
+        /**
+         * Maximum number of audit events written at once.
+         */
+        @Min(1)
+        private int batchSize = 500;
+
+        /**
+         * Time after which persisted audit events are deleted.
+         */
+        @NotNull
+        private Duration retention = Duration.ofDays(90);
+
+        /**
+         * Time between two deletions of the audit events past their retention.
+         */
+        @NotNull
+        private Duration pruneInterval = Duration.ofHours(1);
+    }
+
+    /**
+     * Settings of the bulk catalog import.
+     */
+    @Validated
+    @Data
+    public static class ImportProperties {
+
+        /**
+         * Number of rows that are written per statement.
+         */
+        @Min(1)
+        private int batchSize = 1000;
+    }
+
+    /**
+     * Settings of the bulk deletion of catalog records.
+     */
+    @Validated
+    @Data
+    public static class DeleteProperties {
+
+        /**
+         * Number of records that are deleted per statement.
+         */
+        @Min(1)
+        private int batchSize = 1000;
+    }
+
+    /**
+     * Settings of the catalog verification reports.
+     */
+    @Validated
+    @Data
+    public static class VerificationProperties {
+
+        /**
+         * Time between the first change of a record and the recomputation of the
+         * affected reports. Changes within this time are handled at once.
+         */
+        @NotNull
+        private Duration refreshDelay = Duration.ofSeconds(5);
+
+        /**
+         * Maximum number of verification queries running at the same time.
+         * Each running query holds a database session.
+         */
+        @Min(1)
+        private int maxConcurrentChecks = 4;
+
+        /**
+         * Cron expression of the scheduled verification of the whole catalog, "-" disables it.
+         */
+        @NotBlank
+        private String schedule = "-";
+    }
+
+    /**
+     * Settings of the catalog statistics.
+     */
+    @Validated
+    @Data
+    public static class StatisticsProperties {
+
+        /**
+         * Time between two reconciliations of the cached counts with the database.
+         */
+        @NotNull
+        private Duration reconcileInterval = Duration.ofMinutes(15);
+    }
+
+    /**
+     * Settings of the database migrations run on startup.
+     */
+    @Validated
+    @Data
+    public static class MigrationProperties {
+
+        /**
+         * Number of migration commands committed per transaction, 0 applies each migration in a single transaction.
+         */
+        @Min(0)
+        private int batchSize = 0;
+    }
 }
@@ -0,0 +1,59 @@
+package de.bentrm.datacat.util;
+
+import de.bentrm.datacat.base.domain.Entity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Maps the results of batched service calls, which are keyed by record id,
+ * back to the source objects of a {@code @BatchMapping}.
+ */
+public final class BatchMappingUtils {
+
+    private BatchMappingUtils() {
+    }
+
+    public static List<String> ids(List<? extends Entity> sources) {
+        return sources.stream()
+                .filter(Objects::nonNull)
+                .map(Entity::getId)
+                .distinct()
+                .toList();
+    }
+
+    public static <K extends Entity, V> Map<K, List<V>> toLists(List<K> sources, Map<String, List<V>> valuesById) {
+        final Map<K, List<V>> result = new LinkedHashMap<>();
+        sources.stream()
+                .filter(Objects::nonNull)
+                .forEach(source -> result.putIfAbsent(source, valuesById.getOrDefault(source.getId(), List.of())));
+        return result;
+    }
+
+    public static <K extends Entity, V> Map<K, Optional<V>> toOptionals(List<K> sources, Map<String, V> valuesById) {
+        final Map<K, Optional<V>> result = new LinkedHashMap<>();
+        sources.stream()
+                .filter(Objects::nonNull)
+                .forEach(source -> result.putIfAbsent(source, Optional.ofNullable(valuesById.get(source.getId()))));
+        return result;
+    }
+
+    /**
+     * Sources without a value are omitted, they resolve to null.
+     */
+    public static <K extends Entity, V> Map<K, V> toValues(List<K> sources, Map<String, V> valuesById) {
+        final Map<K, V> result = new LinkedHashMap<>();
+        sources.stream()
+                .filter(Objects::nonNull)
+                .forEach(source -> {
+                    final V value = valuesById.get(source.getId());
+                    if (value != null) {
+                        result.putIfAbsent(source, value);
+                    }
+                });
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package de.bentrm.datacat.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads CSV files with a header row as written by the export: values are
+ * separated by commas and may be quoted, quotes within quoted values are
+ * doubled.
+ */
+public final class CsvUtils {
+
+    private CsvUtils() {
+    }
+
+    /**
+     * Reads all rows of the given UTF-8 encoded input. Empty values are read
+     * as null, blank lines are skipped.
+     *
+     * @return The rows as maps from the header name to the value.
+     * @throws IllegalArgumentException If the input has no header row.
+     */
+    public static List<Map<String, String>> read(InputStream input) throws IOException {
+        final List<Map<String, String>> rows = new ArrayList<>();
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            final List<String> header = readLine(reader);
+            if (header == null) {
+                throw new IllegalArgumentException("The CSV file has no header row.");
+            }
+            List<String> values;
+            while ((values = readLine(reader)) != null) {
+                if (values.size() == 1 && values.get(0).isEmpty()) {
+                    continue;
+                }
+                final Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    final String value = i < values.size() ? values.get(i) : "";
+                    row.put(header.get(i).trim(), value.isEmpty() ? null : value);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * @return The values of the next line or null at the end of the input.
+     */
+    static List<String> readLine(Reader reader) throws IOException {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    final int next = reader.read();
+                    if (next == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    value.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,112 @@
+package de.bentrm.datacat.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers to read Cypher scripts consisting of several statements.
+ */
+public final class CypherScriptUtils {
+
+    private static final Pattern SCHEMA_STATEMENT = Pattern.compile(
+            "^(CREATE|DROP)\\b[^(]*\\b(INDEX|CONSTRAINT)\\b", Pattern.CASE_INSENSITIVE);
+
+    private CypherScriptUtils() {
+    }
+
+    /**
+     * Splits a script into its statements. Statements are separated by
+     * semicolons outside of string literals, quoted identifiers and comments.
+     * Comments are removed, blank statements are skipped.
+     *
+     * @param script The Cypher script.
+     * @return The trimmed statements in order of appearance.
+     */
+    public static List<String> splitStatements(String script) {
+        final List<String> statements = new ArrayList<>();
+        final StringBuilder statement = new StringBuilder();
+        final int length = script.length();
+        int i = 0;
+        while (i < length) {
+            final char c = script.charAt(i);
+            final char next = i + 1 < length ? script.charAt(i + 1) : 0;
+            if (c == '\'' || c == '"' || c == '`') {
+                final int end = findClosingQuote(script, i);
+                statement.append(script, i, end);
+                i = end;
+            } else if (c == '/' && next == '/') {
+                while (i < length && script.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && next == '*') {
+                final int end = script.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                statement.append(' ');
+            } else if (c == ';') {
+                addStatement(statements, statement);
+                i++;
+            } else {
+                statement.append(c);
+                i++;
+            }
+        }
+        addStatement(statements, statement);
+        return statements;
+    }
+
+    /**
+     * Index and constraint changes may not be combined with data changes
+     * in the same transaction.
+     *
+     * @param statement A single Cypher statement.
+     * @return True if the statement creates or drops an index or constraint.
+     */
+    public static boolean isSchemaStatement(String statement) {
+        return SCHEMA_STATEMENT.matcher(statement.strip()).find();
+    }
+
+    /**
+     * @param statement A single Cypher statement.
+     * @return The hex encoded SHA-256 checksum of the statement.
+     */
+    public static String checksum(String statement) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(statement.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * @return The index behind the quote closing the one at the given index.
+     */
+    private static int findClosingQuote(String script, int start) {
+        final char quote = script.charAt(start);
+        int i = start + 1;
+        while (i < script.length()) {
+            final char c = script.charAt(i);
+            if (c == '\\' && quote != '`') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return script.length();
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder statement) {
+        final String value = statement.toString().strip();
+        if (!value.isEmpty()) {
+            statements.add(value);
+        }
+        statement.setLength(0);
+    }
+}
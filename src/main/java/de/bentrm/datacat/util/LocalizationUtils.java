@@ -1,17 +1,13 @@
 package de.bentrm.datacat.util;
 
-import de.bentrm.datacat.catalog.domain.XtdMultiLanguageText;
-import de.bentrm.datacat.catalog.domain.XtdText;
+import de.bentrm.datacat.catalog.domain.TranslationResult;
 import de.bentrm.datacat.catalog.service.MultiLanguageTextRecordService;
-import de.bentrm.datacat.catalog.service.TextRecordService;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.annotation.Nullable;
 
 import org.springframework.stereotype.Component;
 import jakarta.validation.constraints.NotNull;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -22,11 +18,9 @@ public final class LocalizationUtils {
 
 
     private static MultiLanguageTextRecordService multiLanguageTextRecordService;
-    private static TextRecordService textRecordService;
 
-    public LocalizationUtils(MultiLanguageTextRecordService multiLanguageTextRecordService, TextRecordService textRecordService) {
+    public LocalizationUtils(MultiLanguageTextRecordService multiLanguageTextRecordService) {
         LocalizationUtils.multiLanguageTextRecordService = multiLanguageTextRecordService;
-        LocalizationUtils.textRecordService = textRecordService;
     }
 
     public static List<Locale.LanguageRange> getPriorityList(Locale... locales) {
@@ -40,36 +34,51 @@ public final class LocalizationUtils {
         return ranges;
     }
 
-    @Nullable
-    public static XtdText getTranslation(@NotNull String id) {
-        return getTranslation(DEFAULT_LANGUAGE_RANGE, id);
+    /**
+     * Resolves the translations of many records in one round trip. For each
+     * record the first multi language text linked by the given relationship
+     * type is used.
+     *
+     * @param priorityList     The priority list used to select a translation.
+     * @param ownerIds         The ids of the records.
+     * @param relationshipType The relationship type linking the multi language text, e.g. COMMENTS.
+     * @return The selected translation text mapped by record id, records without a text are omitted.
+     */
+    public static Map<String, String> getTranslations(@NotNull List<Locale.LanguageRange> priorityList,
+                                                      @NotNull List<String> ownerIds,
+                                                      @NotNull String relationshipType) {
+        final Map<String, Map<Locale, String>> textsByOwner = new HashMap<>();
+        for (TranslationResult translation : multiLanguageTextRecordService.findTranslations(ownerIds, relationshipType)) {
+            textsByOwner.computeIfAbsent(translation.getOwnerId(), id -> new HashMap<>())
+                    .putIfAbsent(Locale.forLanguageTag(translation.getLanguageCode()), translation.getText());
+        }
+
+        final Map<String, String> result = new HashMap<>();
+        textsByOwner.forEach((ownerId, texts) -> {
+            final String text = texts.get(selectLocale(priorityList, texts.keySet()));
+            if (text != null) {
+                result.put(ownerId, text);
+            }
+        });
+        return result;
     }
 
+    /**
+     * Selects the locale of the available translations that best matches the priority list,
+     * falling back to English.
+     */
     @Nullable
-    public static XtdText getTranslation(@NotNull List<Locale.LanguageRange> priorityList, @NotNull String id) {
-
-        final XtdMultiLanguageText mText = multiLanguageTextRecordService.findByIdWithDirectRelations(id).orElse(null);
-
-        final Map<Locale, XtdText> translationMap = mText.getTexts().stream()
-                .map(t -> textRecordService.findByIdWithDirectRelations(t.getId()).orElse(null))
-                .filter(Objects::nonNull).collect(Collectors.toMap(XtdText::getLocale, Function.identity()));
-
-        final Set<Locale> locales = translationMap.keySet();
-
-        if (translationMap.isEmpty()) {
-            return null;
-        }
-
+    private static Locale selectLocale(@NotNull List<Locale.LanguageRange> priorityList, @NotNull Set<Locale> locales) {
         final List<Locale> filteredCandidates = Locale.filter(priorityList, locales);
         if (!filteredCandidates.isEmpty()) {
-            return translationMap.get(filteredCandidates.get(0));
+            return filteredCandidates.get(0);
         }
 
         Locale lookupCandidate = Locale.lookup(priorityList, locales);
         if (lookupCandidate != null) {
-            return translationMap.get(lookupCandidate);
+            return lookupCandidate;
         }
 
-        return translationMap.getOrDefault(Locale.ENGLISH, null);
+        return Locale.ENGLISH;
     }
 }
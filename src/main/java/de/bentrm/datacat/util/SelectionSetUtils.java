@@ -0,0 +1,51 @@
+package de.bentrm.datacat.util;
+
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.SelectedField;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Inspects the fields requested by a GraphQL query.
+ */
+public final class SelectionSetUtils {
+
+    private SelectionSetUtils() {
+    }
+
+    /**
+     * @return Whether the client selected a field of a connection that
+     * requires counting all matching records. Cursors and whether a next
+     * page exists are known without counting.
+     */
+    public static boolean isCountSelected(DataFetchingFieldSelectionSet selectionSet) {
+        return selectionSet.containsAnyOf("totalElements", "pageInfo/totalPages", "pageInfo/isLast");
+    }
+
+    /**
+     * @return The names of the fields selected directly below the current
+     * field, including the fields selected in type conditions, that are read
+     * from the returned object itself. Fields that are resolved by a data
+     * fetcher of their own, e.g. a schema or batch mapping, are omitted.
+     */
+    public static Set<String> getPropertyFieldNames(DataFetchingEnvironment environment) {
+        final GraphQLCodeRegistry codeRegistry = environment.getGraphQLSchema().getCodeRegistry();
+        return environment.getSelectionSet().getImmediateFields().stream()
+                .filter(field -> isReadFromProperty(codeRegistry, field))
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean isReadFromProperty(GraphQLCodeRegistry codeRegistry, SelectedField field) {
+        return field.getObjectTypes().stream().anyMatch(objectType -> {
+            final GraphQLFieldDefinition definition = objectType.getFieldDefinition(field.getName());
+            return definition != null
+                    && codeRegistry.getDataFetcher(objectType, definition) instanceof TrivialDataFetcher;
+        });
+    }
+}
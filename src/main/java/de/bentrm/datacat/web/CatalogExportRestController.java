@@ -0,0 +1,195 @@
+package de.bentrm.datacat.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bentrm.datacat.catalog.domain.ExportItemResult;
+import de.bentrm.datacat.catalog.domain.ExportRelationshipResult;
+import de.bentrm.datacat.catalog.service.CatalogExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the catalog export directly to the response instead of building
+ * it in memory. Records are written as NDJSON or CSV in id order. An
+ * interrupted download can be resumed by passing the last received id as
+ * {@code after}. For relationships this is the id of the relating record
+ * ({@code entity1}); the rows of that record must be requested again by
+ * passing the preceding id.
+ * The response is gzip compressed if the client accepts it.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/export")
+public class CatalogExportRestController {
+
+    private static final Map<String, Function<ExportItemResult, Object>> RECORD_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<ExportRelationshipResult, Object>> RELATIONSHIP_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        RECORD_COLUMNS.put("id", ExportItemResult::getId);
+        RECORD_COLUMNS.put("type", ExportItemResult::getType);
+        RECORD_COLUMNS.put("tags", ExportItemResult::getTags);
+        RECORD_COLUMNS.put("name", ExportItemResult::getName);
+        RECORD_COLUMNS.put("name_en", ExportItemResult::getName_en);
+        RECORD_COLUMNS.put("description", ExportItemResult::getDescription);
+        RECORD_COLUMNS.put("description_en", ExportItemResult::getDescription_en);
+        RECORD_COLUMNS.put("definition", ExportItemResult::getDefinition);
+        RECORD_COLUMNS.put("definition_en", ExportItemResult::getDefinition_en);
+        RECORD_COLUMNS.put("examples", ExportItemResult::getExamples);
+        RECORD_COLUMNS.put("languageOfCreator", ExportItemResult::getLanguageOfCreator);
+        RECORD_COLUMNS.put("countryOfOrigin", ExportItemResult::getCountryOfOrigin);
+        RECORD_COLUMNS.put("languages", ExportItemResult::getLanguages);
+        RECORD_COLUMNS.put("createdBy", ExportItemResult::getCreatedBy);
+        RECORD_COLUMNS.put("created", ExportItemResult::getCreated);
+        RECORD_COLUMNS.put("lastModified", ExportItemResult::getLastModified);
+        RECORD_COLUMNS.put("lastModifiedBy", ExportItemResult::getLastModifiedBy);
+        RECORD_COLUMNS.put("majorVersion", ExportItemResult::getMajorVersion);
+        RECORD_COLUMNS.put("minorVersion", ExportItemResult::getMinorVersion);
+        RECORD_COLUMNS.put("status", ExportItemResult::getStatus);
+        RECORD_COLUMNS.put("deprecationExplanation", ExportItemResult::getDeprecationExplanation);
+        RECORD_COLUMNS.put("dataType", ExportItemResult::getDataType);
+        RECORD_COLUMNS.put("dataFormat", ExportItemResult::getDataFormat);
+        RECORD_COLUMNS.put("scale", ExportItemResult::getScale);
+        RECORD_COLUMNS.put("base", ExportItemResult::getBase);
+        RECORD_COLUMNS.put("uri", ExportItemResult::getUri);
+        RECORD_COLUMNS.put("author", ExportItemResult::getAuthor);
+        RECORD_COLUMNS.put("isbn", ExportItemResult::getIsbn);
+        RECORD_COLUMNS.put("publisher", ExportItemResult::getPublisher);
+        RECORD_COLUMNS.put("dateOfPublication", ExportItemResult::getDateOfPublication);
+
+        RELATIONSHIP_COLUMNS.put("entity1", ExportRelationshipResult::getEntity1);
+        RELATIONSHIP_COLUMNS.put("relationship", ExportRelationshipResult::getRelationship);
+        RELATIONSHIP_COLUMNS.put("entity2", ExportRelationshipResult::getEntity2);
+    }
+
+    private final CatalogExportService exportService;
+
+    private final ObjectMapper objectMapper;
+
+    public CatalogExportRestController(CatalogExportService exportService, ObjectMapper objectMapper) {
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/records")
+    public void exportCatalogRecords(@RequestParam(defaultValue = "ndjson") String format,
+                                     @RequestParam(required = false) String after,
+                                     @RequestParam(required = false) Integer limit,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        final ExportFormat exportFormat = ExportFormat.of(format);
+        try (Writer writer = openWriter(request, response, exportFormat, "catalog-records")) {
+            final Consumer<ExportItemResult> rowWriter = rowWriter(writer, exportFormat, RECORD_COLUMNS);
+            final long count = exportService.streamExportCatalogRecords(after, limit, rowWriter);
+            log.debug("Exported {} catalog records as {}", count, exportFormat);
+        }
+    }
+
+    @GetMapping("/relationships")
+    public void exportCatalogRecordsRelationships(@RequestParam(defaultValue = "ndjson") String format,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  HttpServletRequest request,
+                                                  HttpServletResponse response) throws IOException {
+        final ExportFormat exportFormat = ExportFormat.of(format);
+        try (Writer writer = openWriter(request, response, exportFormat, "catalog-relationships")) {
+            final Consumer<ExportRelationshipResult> rowWriter = rowWriter(writer, exportFormat, RELATIONSHIP_COLUMNS);
+            final long count = exportService.streamExportCatalogRecordsRelationships(after, limit, rowWriter);
+            log.debug("Exported {} relationships as {}", count, exportFormat);
+        }
+    }
+
+    private Writer openWriter(HttpServletRequest request, HttpServletResponse response, ExportFormat format,
+                              String fileName) throws IOException {
+        response.setContentType(format.contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + fileName + "." + format.extension + "\"");
+
+        OutputStream out = response.getOutputStream();
+        final String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, true);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    private <T> Consumer<T> rowWriter(Writer writer, ExportFormat format, Map<String, Function<T, Object>> columns)
+            throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", columns.keySet()));
+            writer.write("\n");
+        }
+        return row -> {
+            try {
+                if (format == ExportFormat.CSV) {
+                    final StringBuilder line = new StringBuilder();
+                    for (Function<T, Object> column : columns.values()) {
+                        if (!line.isEmpty()) {
+                            line.append(',');
+                        }
+                        line.append(toCsvValue(column.apply(row)));
+                    }
+                    writer.write(line.append('\n').toString());
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write("\n");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        final String text = value instanceof Collection<?> values
+                ? String.join("|", values.stream().map(String::valueOf).toList())
+                : value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        private static ExportFormat of(String format) {
+            try {
+                return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+            }
+        }
+    }
+}
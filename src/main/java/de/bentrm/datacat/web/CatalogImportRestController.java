@@ -0,0 +1,205 @@
+package de.bentrm.datacat.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bentrm.datacat.catalog.domain.CatalogRecordType;
+import de.bentrm.datacat.catalog.domain.Enums.XtdDataTypeEnum;
+import de.bentrm.datacat.catalog.domain.Enums.XtdStatusOfActivationEnum;
+import de.bentrm.datacat.catalog.domain.SimpleRelationType;
+import de.bentrm.datacat.catalog.service.CatalogImportService;
+import de.bentrm.datacat.catalog.service.value.ImportResultValue;
+import de.bentrm.datacat.graphql.input.CatalogEntryPropertiesInput;
+import de.bentrm.datacat.graphql.input.CreateEntryInput;
+import de.bentrm.datacat.graphql.input.CreateRelationshipInput;
+import de.bentrm.datacat.graphql.input.ImportEntriesInput;
+import de.bentrm.datacat.graphql.input.PropertyInput;
+import de.bentrm.datacat.graphql.input.TranslationInput;
+import de.bentrm.datacat.graphql.input.ValueInput;
+import de.bentrm.datacat.util.CsvUtils;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Accepts catalog imports as file uploads. The {@code file} part is either
+ * a JSON document shaped like the {@code importCatalogEntries} mutation
+ * input or a CSV file with one record per row:
+ * <ul>
+ *     <li>{@code id}, {@code type}, {@code tags} (separated by {@code |}), {@code status},
+ *     {@code majorVersion}, {@code minorVersion}, {@code languageOfCreator},
+ *     {@code countryOfOrigin}, {@code dataType}, {@code dataFormat} and {@code nominalValue}</li>
+ *     <li>one column per text and language, e.g. {@code name@de} or {@code description@en}</li>
+ * </ul>
+ * Relationships of a CSV import are passed as a second CSV part
+ * {@code relationships} with the columns {@code fromId}, {@code relationshipType} and {@code toId}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/import")
+public class CatalogImportRestController {
+
+    private final CatalogImportService importService;
+
+    private final ObjectMapper objectMapper;
+
+    public CatalogImportRestController(CatalogImportService importService, ObjectMapper objectMapper) {
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping("/records")
+    public ImportResultValue importCatalogRecords(@RequestParam("file") MultipartFile file,
+                                                  @RequestParam(value = "relationships", required = false)
+                                                  MultipartFile relationships) throws IOException {
+        final ImportEntriesInput input;
+        if (isCsv(file)) {
+            input = new ImportEntriesInput();
+            input.setEntries(readEntries(file));
+            if (relationships != null) {
+                input.setRelationships(readRelationships(relationships));
+            }
+        } else {
+            input = readInput(file);
+        }
+        if (input.getEntries() == null) {
+            throw new IllegalArgumentException("The import contains no entries.");
+        }
+        log.debug("Importing {} records from {}", input.getEntries().size(), file.getOriginalFilename());
+        return importService.importEntries(input);
+    }
+
+    /**
+     * Invalid imports are rejected as a whole, the message lists the errors.
+     */
+    @ExceptionHandler({IllegalArgumentException.class, ConstraintViolationException.class})
+    public ProblemDetail handleInvalidImport(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    private ImportEntriesInput readInput(MultipartFile file) throws IOException {
+        final ImportEntriesInput input;
+        try {
+            input = objectMapper.readValue(file.getInputStream(), ImportEntriesInput.class);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid import: " + e.getOriginalMessage());
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("The import contains no entries.");
+        }
+        return input;
+    }
+
+    private static boolean isCsv(MultipartFile file) {
+        final String contentType = file.getContentType();
+        final String fileName = file.getOriginalFilename();
+        return (contentType != null && contentType.startsWith("text/csv"))
+                || (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".csv"));
+    }
+
+    private List<CreateEntryInput> readEntries(MultipartFile file) throws IOException {
+        final List<CreateEntryInput> entries = new ArrayList<>();
+        for (Map<String, String> row : CsvUtils.read(file.getInputStream())) {
+            final CatalogEntryPropertiesInput properties = new CatalogEntryPropertiesInput();
+            properties.setId(row.get("id"));
+            if (row.get("status") != null) {
+                properties.setStatus(parse(XtdStatusOfActivationEnum.class, row.get("status")));
+            }
+            if (row.get("majorVersion") != null) {
+                properties.setMajorVersion(parseInt(row.get("majorVersion")));
+            }
+            if (row.get("minorVersion") != null) {
+                properties.setMinorVersion(parseInt(row.get("minorVersion")));
+            }
+            properties.setLanguageOfCreator(row.get("languageOfCreator"));
+            properties.setCountryOfOrigin(row.get("countryOfOrigin"));
+            if (row.get("dataType") != null || row.get("dataFormat") != null) {
+                final PropertyInput propertyProperties = new PropertyInput();
+                if (row.get("dataType") != null) {
+                    propertyProperties.setDataType(parse(XtdDataTypeEnum.class, row.get("dataType")));
+                }
+                propertyProperties.setDataFormat(row.get("dataFormat"));
+                properties.setPropertyProperties(propertyProperties);
+            }
+            if (row.get("nominalValue") != null) {
+                final ValueInput valueProperties = new ValueInput();
+                valueProperties.setNominalValue(row.get("nominalValue"));
+                properties.setValueProperties(valueProperties);
+            }
+            properties.setNames(readTexts(row, "name"));
+            properties.setDescriptions(readTexts(row, "description"));
+            properties.setComments(readTexts(row, "comment"));
+            properties.setDefinition(readTexts(row, "definition"));
+            properties.setExamples(readTexts(row, "example"));
+            properties.setDeprecationExplanation(readTexts(row, "deprecationExplanation"));
+
+            final CreateEntryInput entry = new CreateEntryInput();
+            entry.setCatalogEntryType(parse(CatalogRecordType.class, row.get("type")));
+            entry.setProperties(properties);
+            if (row.get("tags") != null) {
+                entry.setTags(List.of(row.get("tags").split("\\|")));
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private List<TranslationInput> readTexts(Map<String, String> row, String column) {
+        final List<TranslationInput> texts = new ArrayList<>();
+        row.forEach((key, value) -> {
+            if (key.startsWith(column + "@") && value != null) {
+                final TranslationInput text = new TranslationInput();
+                text.setLanguageTag(key.substring(column.length() + 1));
+                text.setValue(value);
+                texts.add(text);
+            }
+        });
+        return texts.isEmpty() ? null : texts;
+    }
+
+    private List<CreateRelationshipInput> readRelationships(MultipartFile file) throws IOException {
+        // Rows of the same relationship are merged into one input with many targets
+        final Map<List<String>, CreateRelationshipInput> relationships = new LinkedHashMap<>();
+        for (Map<String, String> row : CsvUtils.read(file.getInputStream())) {
+            final String fromId = row.get("fromId");
+            final SimpleRelationType relationshipType = parse(SimpleRelationType.class, row.get("relationshipType"));
+            final CreateRelationshipInput relationship = relationships.computeIfAbsent(
+                    List.of(String.valueOf(fromId), relationshipType.name()), key -> {
+                        final CreateRelationshipInput input = new CreateRelationshipInput();
+                        input.setFromId(fromId);
+                        input.setRelationshipType(relationshipType);
+                        input.setToIds(new ArrayList<>());
+                        return input;
+                    });
+            relationship.getToIds().add(row.get("toId"));
+        }
+        return new ArrayList<>(relationships.values());
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unsupported " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Not a number: " + value);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.bentrm.datacat.base.specification;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void keysetCursorSurvivesEncoding() {
+        final PageCursor cursor = PageCursor.decode(PageCursor.ofKeyset("Wall", "id-1").encode());
+
+        assertThat(cursor.isKeyset()).isTrue();
+        assertThat(cursor.key()).isEqualTo("Wall");
+        assertThat(cursor.id()).isEqualTo("id-1");
+        assertThat(cursor.offset()).isNull();
+    }
+
+    @Test
+    void keysetCursorWithoutKeySurvivesEncoding() {
+        final PageCursor cursor = PageCursor.decode(PageCursor.ofKeyset(null, "id-1").encode());
+
+        assertThat(cursor.isKeyset()).isTrue();
+        assertThat(cursor.key()).isNull();
+    }
+
+    @Test
+    void offsetCursorSurvivesEncoding() {
+        final PageCursor cursor = PageCursor.decode(PageCursor.ofOffset(20).encode());
+
+        assertThat(cursor.isKeyset()).isFalse();
+        assertThat(cursor.offset()).isEqualTo(20L);
+    }
+
+    @Test
+    void decodeRejectsForeignValues() {
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(encode("{}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(encode("{\"offset\":1,\"id\":\"id-1\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(encode("{\"offset\":-1}")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,244 @@
+package de.bentrm.datacat.base.specification;
+
+import de.bentrm.datacat.properties.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.types.Node;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SpecificationQueryExecutorTest {
+
+    @Mock
+    private Neo4jClient neo4jClient;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Neo4jClient.UnboundRunnableSpec runnableSpec;
+
+    @Mock
+    private Neo4jTemplate neo4jTemplate;
+
+    @Mock
+    private Neo4jMappingContext mappingContext;
+
+    @Captor
+    private ArgumentCaptor<String> query;
+
+    @Captor
+    private ArgumentCaptor<Map<String, Object>> parameters;
+
+    private final List<Record> records = new ArrayList<>();
+
+    private SpecificationQueryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new SpecificationQueryExecutor(neo4jClient, neo4jTemplate, mappingContext, new AppProperties());
+    }
+
+    @Test
+    void keysetCursorContinuesBehindSortKeyAndId() {
+        returnNoRecords();
+
+        executor.findSlice(new TestSpecification(Sort.Direction.ASC, PageCursor.ofKeyset("Wall", "id-1").encode()),
+                "Tag", Object.class);
+
+        verify(neo4jClient).query(query.capture());
+        verify(runnableSpec, atLeastOnce()).bindAll(parameters.capture());
+        assertThat(query.getValue())
+                .contains("(n.`name` >= $afterKey AND (n.`name` > $afterKey OR n.id > $afterId)) OR n.`name` IS NULL")
+                .contains("ORDER BY n.`name` ASC, n.id ASC SKIP $skip LIMIT $limit");
+        assertThat(parameters.getValue())
+                .containsEntry("afterKey", "Wall")
+                .containsEntry("afterId", "id-1")
+                .containsEntry("skip", 0L)
+                .containsEntry("limit", 11);
+    }
+
+    @Test
+    void keysetCursorWithoutKeyContinuesBehindId() {
+        returnNoRecords();
+
+        executor.findSlice(new TestSpecification(Sort.Direction.DESC, PageCursor.ofKeyset(null, "id-1").encode()),
+                "Tag", Object.class);
+
+        verify(neo4jClient).query(query.capture());
+        verify(runnableSpec, atLeastOnce()).bindAll(parameters.capture());
+        assertThat(query.getValue())
+                .contains("(n.`name` IS NOT NULL OR n.id < $afterId)")
+                .contains("ORDER BY n.`name` DESC, n.id DESC");
+        assertThat(parameters.getValue())
+                .containsEntry("afterId", "id-1")
+                .doesNotContainKey("afterKey");
+    }
+
+    @Test
+    void offsetCursorSkipsPrecedingRecords() {
+        returnNoRecords();
+
+        executor.findSlice(new TestSpecification(Sort.Direction.ASC, PageCursor.ofOffset(20).encode()),
+                "Tag", Object.class);
+
+        verify(neo4jClient).query(query.capture());
+        verify(runnableSpec, atLeastOnce()).bindAll(parameters.capture());
+        assertThat(query.getValue()).doesNotContain("$afterId");
+        assertThat(parameters.getValue()).containsEntry("skip", 20L);
+    }
+
+    @Test
+    void cursorWalkKeepsTheOrderOfTheFirstPage() {
+        returnRecords();
+        when(mappingContext.getRequiredMappingFunctionFor(String.class))
+                .thenReturn((typeSystem, record) -> record.get("id").asString());
+
+        records.addAll(List.of(record("a", "Door"), record("b", "Wall"), record("c", "Window")));
+        final Page<String> first = executor.findPage(new TestSpecification("labels.de", 2, null), "XtdObject",
+                String.class);
+
+        assertThat(first.getContent()).containsExactly("a", "b");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getTotalElements()).isEqualTo(3);
+
+        records.clear();
+        records.add(record("c", "Window"));
+        final Page<String> second = executor.findPage(
+                new TestSpecification("labels.de", 2, ((CursorPage<String>) first).getEndCursor()), "XtdObject",
+                String.class);
+
+        assertThat(second.getContent()).containsExactly("c");
+        assertThat(second.hasNext()).isFalse();
+        verify(neo4jClient, times(2)).query(query.capture());
+        verify(runnableSpec, atLeastOnce()).bindAll(parameters.capture());
+        assertThat(query.getAllValues()).allSatisfy(value -> assertThat(value)
+                .contains("ORDER BY n.`labels.de` ASC, n.id ASC SKIP $skip LIMIT $limit"));
+        assertThat(query.getAllValues().get(1)).contains("n.`labels.de` > $afterKey OR n.id > $afterId");
+        assertThat(parameters.getValue())
+                .containsEntry("afterKey", "Wall")
+                .containsEntry("afterId", "b")
+                .containsEntry("skip", 0L);
+    }
+
+    @Test
+    void sliceCarriesCursorsWithoutCounting() {
+        returnRecords();
+        when(mappingContext.getRequiredMappingFunctionFor(String.class))
+                .thenReturn((typeSystem, record) -> record.get("id").asString());
+        records.addAll(List.of(record("a", "Door"), record("b", "Wall"), record("c", "Window")));
+
+        final Slice<String> slice = executor.findSlice(new TestSpecification("labels.de", 2, null), "XtdObject",
+                String.class);
+
+        assertThat(slice.getContent()).containsExactly("a", "b");
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(PageCursor.decode(((CursorSlice<String>) slice).getEndCursor()))
+                .isEqualTo(PageCursor.ofKeyset("Wall", "b"));
+        verify(neo4jClient).query(query.capture());
+        assertThat(query.getValue()).doesNotContain("count(n)");
+    }
+
+    @Test
+    void fullTextPageQueriesTheIndexOnce() {
+        returnNoRecords();
+        final String fullTextClause = "CALL db.index.fulltext.queryNodes('index', 'wall*') YIELD node, score "
+                + "MATCH (n)-[:NAMES]->()-[:TEXTS]->(node) WITH n, max(score) AS score";
+
+        executor.findPage(new TestSpecification(fullTextClause), "XtdObject", Object.class);
+
+        verify(neo4jClient).query(query.capture());
+        assertThat(query.getValue())
+                .containsOnlyOnce("db.index.fulltext.queryNodes")
+                .contains("WITH collect({n: n, score: score}) AS hits UNWIND hits AS hit")
+                .contains("size(hits) AS total")
+                .contains("ORDER BY score DESC");
+    }
+
+    @Test
+    void keysetCursorIsRejectedWithoutSortOrder() {
+        final String after = PageCursor.ofKeyset("Wall", "id-1").encode();
+
+        assertThatThrownBy(() -> executor.findSlice(new TestSpecification(null, after), "Tag", Object.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not match the order of the query");
+    }
+
+    private void returnNoRecords() {
+        when(neo4jClient.query(anyString())).thenReturn(runnableSpec);
+        when(runnableSpec.bindAll(any()).fetchAs(any()).mappedBy(any()).all()).thenReturn(List.of());
+    }
+
+    /**
+     * Serves the rows in {@link #records} to every query.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void returnRecords() {
+        when(neo4jClient.query(anyString())).thenReturn(runnableSpec);
+        when(runnableSpec.bindAll(any()).fetchAs(any()).mappedBy(any())).thenAnswer(invocation -> {
+            final BiFunction mappingFunction = invocation.getArgument(0);
+            final Neo4jClient.RecordFetchSpec<Object> fetchSpec = mock(Neo4jClient.RecordFetchSpec.class);
+            when(fetchSpec.all()).thenAnswer(all -> records.stream()
+                    .map(record -> mappingFunction.apply(null, record))
+                    .toList());
+            return fetchSpec;
+        });
+    }
+
+    private static Record record(String id, String sortKey) {
+        final Node node = mock(Node.class);
+        when(node.get("id")).thenReturn(Values.value(id));
+        final Value nodeValue = mock(Value.class);
+        when(nodeValue.asNode()).thenReturn(node);
+        final Record record = mock(Record.class);
+        when(record.get("n")).thenReturn(nodeValue);
+        when(record.get("sortKey")).thenReturn(Values.value(sortKey));
+        lenient().when(record.get("total")).thenReturn(Values.value(3L));
+        return record;
+    }
+
+    /**
+     * Pages of records sorted by a single property, unsorted if no direction is given.
+     */
+    private static final class TestSpecification extends QuerySpecification {
+
+        private TestSpecification(Sort.Direction direction, String after) {
+            super(List.of(), Map.of(), null, direction, direction != null ? List.of("name") : null, 0, 10, after);
+        }
+
+        private TestSpecification(String fullTextClause) {
+            super(List.of(), Map.of(), fullTextClause, null, null, 0, 10, null);
+        }
+
+        private TestSpecification(String sortBy, int pageSize, String after) {
+            super(List.of(), Map.of(), null, Sort.Direction.ASC, List.of(sortBy), 0, pageSize, after);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.auth.service.AuditLogService;
+import de.bentrm.datacat.catalog.domain.CatalogRecordType;
+import de.bentrm.datacat.catalog.domain.SimpleRelationType;
+import de.bentrm.datacat.catalog.domain.XtdLanguage;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.catalog.service.HierarchyIndexService;
+import de.bentrm.datacat.catalog.service.ReferenceDataService;
+import de.bentrm.datacat.catalog.service.VerificationReportService;
+import de.bentrm.datacat.graphql.input.CatalogEntryPropertiesInput;
+import de.bentrm.datacat.graphql.input.CreateEntryInput;
+import de.bentrm.datacat.graphql.input.CreateRelationshipInput;
+import de.bentrm.datacat.graphql.input.ImportEntriesInput;
+import de.bentrm.datacat.graphql.input.TranslationInput;
+import de.bentrm.datacat.properties.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CatalogImportServiceImplTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Neo4jClient neo4jClient;
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    @Mock
+    private HierarchyIndexService hierarchyIndexService;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @Mock
+    private VerificationReportService verificationReportService;
+
+    @Mock
+    private CatalogStatisticsService statisticsService;
+
+    private CatalogImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        when(referenceDataService.findLanguageByCode("en")).thenReturn(Optional.of(new XtdLanguage()));
+        service = new CatalogImportServiceImpl(neo4jClient, new AppProperties(), auditorAware,
+                hierarchyIndexService, auditLogService, referenceDataService, verificationReportService,
+                statisticsService);
+    }
+
+    @Test
+    void importEntriesRejectsTextsWithoutValue() {
+        final ImportEntriesInput input = input(entry("a", CatalogRecordType.Subject, translation("en", null)));
+
+        assertThatThrownBy(() -> service.importEntries(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("a: texts require a language and a value.");
+        verify(neo4jClient, never()).query(contains("CREATE"));
+    }
+
+    @Test
+    void importEntriesRejectsMissingTranslations() {
+        final CreateEntryInput entry = entry("a", CatalogRecordType.Subject, translation("en", "Wall"));
+        entry.getProperties().setComments(Arrays.asList((TranslationInput) null));
+
+        assertThatThrownBy(() -> service.importEntries(input(entry)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("a: texts require a language and a value.");
+    }
+
+    @Test
+    void importEntriesRejectsUnknownLanguages() {
+        final ImportEntriesInput input = input(entry("a", CatalogRecordType.Subject, translation("xx", "Wall")));
+
+        assertThatThrownBy(() -> service.importEntries(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No language record with code xx found.");
+    }
+
+    @Test
+    void importEntriesRejectsUnsupportedTypes() {
+        final ImportEntriesInput input = input(entry("a", CatalogRecordType.Unit, translation("en", "Metre")));
+
+        assertThatThrownBy(() -> service.importEntries(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("a: records of type Unit can not be imported.");
+    }
+
+    @Test
+    void importEntriesRejectsDuplicateIds() {
+        final ImportEntriesInput input = input(
+                entry("a", CatalogRecordType.Subject, translation("en", "Wall")),
+                entry("a", CatalogRecordType.Subject, translation("en", "Door")));
+
+        assertThatThrownBy(() -> service.importEntries(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Id a is used by more than one entry.");
+    }
+
+    @Test
+    void importEntriesRejectsIncompleteEntries() {
+        final CreateEntryInput entry = entry("a", CatalogRecordType.Subject, translation("en", "Wall"));
+        entry.setProperties(null);
+
+        assertThatThrownBy(() -> service.importEntries(input(entry)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Entry 1: a type and properties are required.");
+    }
+
+    @Test
+    void importEntriesRejectsRelationshipsBetweenUnsupportedTypes() {
+        final ImportEntriesInput input = input(
+                entry("a", CatalogRecordType.Subject, translation("en", "Wall")),
+                entry("b", CatalogRecordType.Subject, translation("en", "Door")));
+        input.setRelationships(List.of(relationship("a", SimpleRelationType.Properties, "b")));
+
+        assertThatThrownBy(() -> service.importEntries(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("b: relationships of type Properties must end at XtdProperty.");
+        verify(neo4jClient, never()).query(contains("MERGE"));
+    }
+
+    @Test
+    void importEntriesRejectsSecondTargetOfSingleRelationships() {
+        final ImportEntriesInput input = input(
+                entry("a", CatalogRecordType.ValueList, translation("en", "Colours")),
+                entry("b", CatalogRecordType.Subject, translation("en", "Door")));
+        input.setRelationships(List.of(relationship("a", SimpleRelationType.Unit, "b", "b")));
+
+        assertThatThrownBy(() -> service.importEntries(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("a: relationships of type Unit require exactly one target.")
+                .hasMessageContaining("b: relationships of type Unit must end at XtdUnit.");
+    }
+
+    private static CreateRelationshipInput relationship(String fromId, SimpleRelationType type, String... toIds) {
+        final CreateRelationshipInput relationship = new CreateRelationshipInput();
+        relationship.setFromId(fromId);
+        relationship.setRelationshipType(type);
+        relationship.setToIds(List.of(toIds));
+        return relationship;
+    }
+
+    private static ImportEntriesInput input(CreateEntryInput... entries) {
+        final ImportEntriesInput input = new ImportEntriesInput();
+        input.setEntries(List.of(entries));
+        return input;
+    }
+
+    private static CreateEntryInput entry(String id, CatalogRecordType type, TranslationInput name) {
+        final CatalogEntryPropertiesInput properties = new CatalogEntryPropertiesInput();
+        properties.setId(id);
+        properties.setNames(List.of(name));
+        final CreateEntryInput entry = new CreateEntryInput();
+        entry.setCatalogEntryType(type);
+        entry.setProperties(properties);
+        return entry;
+    }
+
+    private static TranslationInput translation(String languageTag, String value) {
+        final TranslationInput translation = new TranslationInput();
+        translation.setLanguageTag(languageTag);
+        translation.setValue(value);
+        return translation;
+    }
+}
@@ -0,0 +1,107 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.auth.service.AuditLogService;
+import de.bentrm.datacat.catalog.service.CatalogCleanupService;
+import de.bentrm.datacat.catalog.service.CatalogStatisticsService;
+import de.bentrm.datacat.catalog.service.ObjectNameCacheService;
+import de.bentrm.datacat.catalog.service.ReferenceDataService;
+import de.bentrm.datacat.catalog.service.value.DeleteResultValue;
+import de.bentrm.datacat.properties.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogServiceImplTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Neo4jClient neo4jClient;
+
+    @Mock
+    private CatalogCleanupService cleanupService;
+
+    @Mock
+    private ObjectNameCacheService objectNameCacheService;
+
+    @Mock
+    private CatalogStatisticsService statisticsService;
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    @Spy
+    private AppProperties properties = new AppProperties();
+
+    @InjectMocks
+    private CatalogServiceImpl service;
+
+    private final List<List<String>> deletedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties.getDeletes().setBatchSize(2);
+    }
+
+    @Test
+    void deleteEntriesDeletesInBatches() {
+        givenExistingRecords("a", "b", "c");
+        when(cleanupService.deleteNodesWithDependents(any())).thenAnswer(invocation -> {
+            final Collection<String> batch = invocation.getArgument(0);
+            deletedBatches.add(List.copyOf(batch));
+            return batch.size() * 3;
+        });
+
+        final DeleteResultValue result = service.deleteEntries(List.of("a", "b", "a", "c"));
+
+        assertThat(deletedBatches).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(result.getRecords()).isEqualTo(3);
+        assertThat(result.getDependents()).isEqualTo(6);
+        verify(objectNameCacheService).evict("a");
+        verify(objectNameCacheService).evict("c");
+        verify(statisticsService).invalidate();
+        verify(referenceDataService).refresh();
+        verify(auditLogService).record(eq("SYSTEM"), eq("BULK_DELETE"), eq("CatalogRecord"), any());
+    }
+
+    @Test
+    void deleteEntriesRejectsUnknownIds() {
+        givenExistingRecords("a");
+
+        assertThatThrownBy(() -> service.deleteEntries(List.of("a", "b")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No record with id b found.");
+        verify(cleanupService, never()).deleteNodesWithDependents(any());
+        verify(auditLogService, never()).record(any(), any(), any(), any());
+    }
+
+    private void givenExistingRecords(String... ids) {
+        when(neo4jClient.query(anyString()).bind(any()).to("ids").fetchAs(String.class).mappedBy(any()).all())
+                .thenReturn(List.of(ids));
+    }
+}
@@ -0,0 +1,120 @@
+package de.bentrm.datacat.catalog.service.impl;
+
+import de.bentrm.datacat.properties.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchyIndexServiceImplTest {
+
+    private static final List<String> OBJECT = List.of("XtdObject", "XtdRoot");
+    private static final List<String> RELATIONSHIP = List.of("XtdObject", "XtdRelationshipToSubject");
+
+    private final Map<String, List<String>> graphNodes = new LinkedHashMap<>();
+    private final Set<List<String>> graphEdges = new LinkedHashSet<>();
+    private final List<Collection<String>> neighbourhoodQueries = new ArrayList<>();
+
+    private InMemoryHierarchyIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        graphNodes.put("a", OBJECT);
+        graphNodes.put("r", RELATIONSHIP);
+        graphNodes.put("b", OBJECT);
+        graphEdges.add(List.of("a", "r"));
+        graphEdges.add(List.of("r", "b"));
+        service = new InMemoryHierarchyIndexService(new AppProperties());
+    }
+
+    @Test
+    void findPathsOmitsHiddenRecords() {
+        assertThat(service.findPaths(List.of("a"))).containsExactlyInAnyOrder(List.of("a"), List.of("a", "b"));
+    }
+
+    @Test
+    void findPathsAppliesPendingUpdatesWithOneQuery() {
+        assertThat(service.findPaths(List.of("a"))).containsExactlyInAnyOrder(List.of("a"), List.of("a", "b"));
+
+        graphNodes.put("c", OBJECT);
+        graphEdges.add(List.of("b", "c"));
+        service.markDirty("b");
+        service.markDirty("c");
+
+        assertThat(service.findPaths(List.of("a")))
+                .containsExactlyInAnyOrder(List.of("a"), List.of("a", "b"), List.of("a", "b", "c"));
+        assertThat(neighbourhoodQueries).containsExactly(List.of("b", "c"));
+    }
+
+    @Test
+    void findPathsDropsDeletedRecords() {
+        assertThat(service.findPaths(List.of("a"))).containsExactlyInAnyOrder(List.of("a"), List.of("a", "b"));
+
+        graphNodes.remove("b");
+        graphEdges.remove(List.of("r", "b"));
+        service.markDirty("b");
+
+        assertThat(service.findPaths(List.of("a"))).containsExactly(List.of("a"));
+    }
+
+    @Test
+    void findPathsIsCorrectWithoutCache() {
+        final AppProperties properties = new AppProperties();
+        properties.getCache().setHierarchyPathsMaximumSize(0);
+        service = new InMemoryHierarchyIndexService(properties);
+
+        assertThat(service.findPaths(List.of("a"))).containsExactlyInAnyOrder(List.of("a"), List.of("a", "b"));
+        graphEdges.add(List.of("a", "b"));
+        service.markDirty("a");
+        assertThat(service.findPaths(List.of("a"))).containsExactlyInAnyOrder(List.of("a"), List.of("a", "b"));
+        graphEdges.remove(List.of("a", "r"));
+        graphEdges.remove(List.of("a", "b"));
+        service.markDirty("a");
+        assertThat(service.findPaths(List.of("a"))).isEmpty();
+    }
+
+    /**
+     * Serves the index from the in-memory graph of the test instead of the database.
+     */
+    private class InMemoryHierarchyIndexService extends HierarchyIndexServiceImpl {
+
+        InMemoryHierarchyIndexService(AppProperties properties) {
+            super(null, properties);
+        }
+
+        @Override
+        List<Neighbour> loadNodes() {
+            return graphNodes.entrySet().stream()
+                    .map(entry -> new Neighbour(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+
+        @Override
+        List<String[]> loadEdges() {
+            return graphEdges.stream()
+                    .map(edge -> new String[]{edge.get(0), edge.get(1)})
+                    .toList();
+        }
+
+        @Override
+        List<Neighbourhood> loadNeighbourhoods(Collection<String> recordIds) {
+            neighbourhoodQueries.add(List.copyOf(recordIds));
+            return recordIds.stream()
+                    .map(id -> new Neighbourhood(id, graphNodes.get(id),
+                            neighbours(id, 0, 1), neighbours(id, 1, 0)))
+                    .toList();
+        }
+
+        private List<Neighbour> neighbours(String id, int from, int to) {
+            if (!graphNodes.containsKey(id)) {
+                return List.of();
+            }
+            return graphEdges.stream()
+                    .filter(edge -> edge.get(from).equals(id))
+                    .map(edge -> new Neighbour(edge.get(to), graphNodes.get(edge.get(to))))
+                    .toList();
+        }
+    }
+}
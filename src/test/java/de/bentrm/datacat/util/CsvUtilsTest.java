@@ -0,0 +1,66 @@
+package de.bentrm.datacat.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvUtilsTest {
+
+    @Test
+    void readMapsValuesToHeader() throws IOException {
+        final List<Map<String, String>> rows = CsvUtils.read(input("id,name\r\n1,Wall\n2,Door\n"));
+
+        assertThat(rows).containsExactly(Map.of("id", "1", "name", "Wall"), Map.of("id", "2", "name", "Door"));
+    }
+
+    @Test
+    void readUnquotesValues() throws IOException {
+        final List<Map<String, String>> rows = CsvUtils.read(input("id,name\n1,\"Wall, \"\"load bearing\"\"\"\n"));
+
+        assertThat(rows).containsExactly(Map.of("id", "1", "name", "Wall, \"load bearing\""));
+    }
+
+    @Test
+    void readKeepsLineBreaksWithinQuotes() throws IOException {
+        final List<Map<String, String>> rows = CsvUtils.read(input("id,name\n1,\"Wall\nDoor\"\n"));
+
+        assertThat(rows).containsExactly(Map.of("id", "1", "name", "Wall\nDoor"));
+    }
+
+    @Test
+    void readReturnsEmptyAndMissingValuesAsNull() throws IOException {
+        final List<Map<String, String>> rows = CsvUtils.read(input("id,name,comment\n1,,\n2\n"));
+
+        final Map<String, String> first = new HashMap<>();
+        first.put("id", "1");
+        first.put("name", null);
+        first.put("comment", null);
+        final Map<String, String> second = new HashMap<>(first);
+        second.put("id", "2");
+        assertThat(rows).containsExactly(first, second);
+    }
+
+    @Test
+    void readSkipsBlankLines() throws IOException {
+        assertThat(CsvUtils.read(input("id\n\n1\n\n"))).containsExactly(Map.of("id", "1"));
+    }
+
+    @Test
+    void readRejectsInputWithoutHeader() {
+        assertThatThrownBy(() -> CsvUtils.read(input("")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
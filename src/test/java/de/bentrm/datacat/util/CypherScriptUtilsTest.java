@@ -0,0 +1,61 @@
+package de.bentrm.datacat.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CypherScriptUtilsTest {
+
+    @Test
+    void splitStatementsKeepsSemicolonsWithinStringLiterals() {
+        final String script = """
+                CREATE (:Tag {name: 'a;b'});
+                CREATE (:Tag {name: "c;d", note: 'it\\'s; here'});
+                MATCH (n:`odd;label`) RETURN n;
+                """;
+
+        assertThat(CypherScriptUtils.splitStatements(script)).containsExactly(
+                "CREATE (:Tag {name: 'a;b'})",
+                "CREATE (:Tag {name: \"c;d\", note: 'it\\'s; here'})",
+                "MATCH (n:`odd;label`) RETURN n");
+    }
+
+    @Test
+    void splitStatementsRemovesComments() {
+        final String script = """
+                // creates the tags; one per line
+                CREATE (:Tag {name: 'a'}); // trailing comment
+                CREATE (:Tag {url: 'http://example.com'}) /* block; comment */ RETURN 1;
+                """;
+
+        assertThat(CypherScriptUtils.splitStatements(script)).containsExactly(
+                "CREATE (:Tag {name: 'a'})",
+                "CREATE (:Tag {url: 'http://example.com'})   RETURN 1");
+    }
+
+    @Test
+    void splitStatementsSkipsBlankStatements() {
+        final String script = "CREATE (:Tag);;\n  ;\n// only a comment\n;MATCH (n) RETURN n;";
+
+        assertThat(CypherScriptUtils.splitStatements(script))
+                .containsExactly("CREATE (:Tag)", "MATCH (n) RETURN n");
+    }
+
+    @Test
+    void splitStatementsKeepsTrailingStatementWithoutSemicolon() {
+        final String script = "CREATE (:Tag {name: 'a'});\nMATCH (n:Tag)\nRETURN n\n";
+
+        assertThat(CypherScriptUtils.splitStatements(script))
+                .containsExactly("CREATE (:Tag {name: 'a'})", "MATCH (n:Tag)\nRETURN n");
+    }
+
+    @Test
+    void isSchemaStatementDetectsIndexesAndConstraints() {
+        assertThat(CypherScriptUtils.isSchemaStatement(
+                "CREATE INDEX tag_name IF NOT EXISTS FOR (t:Tag) ON (t.name)")).isTrue();
+        assertThat(CypherScriptUtils.isSchemaStatement(
+                "  drop constraint entity_id_unique")).isTrue();
+        assertThat(CypherScriptUtils.isSchemaStatement(
+                "CREATE (:Tag {name: 'INDEX'})")).isFalse();
+    }
+}